@@ -0,0 +1,60 @@
+package com.studentregistry.benchmark;
+
+import com.studentregistry.factory.AuthenticationTokenFactory;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// The objects JwtAuthenticationFilter builds for every authenticated request
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class AuthenticationTokenFactoryBenchmark {
+
+    private AuthenticationTokenFactory factory;
+    private UserDetails userDetails;
+    private MockHttpServletRequest request;
+
+    @Setup
+    public void setUp() {
+        factory = new AuthenticationTokenFactory();
+        userDetails = factory.createUserDetails("registrar", factory.createAuthorities("ADMIN"));
+        request = new MockHttpServletRequest("GET", "/api/students");
+        request.setRemoteAddr("10.0.0.15");
+    }
+
+    @Benchmark
+    public List<GrantedAuthority> createAuthorities() {
+        return factory.createAuthorities("admin");
+    }
+
+    @Benchmark
+    public UsernamePasswordAuthenticationToken createAuthenticationToken() {
+        return factory.createAuthenticationToken(userDetails, request);
+    }
+
+    // Authorities, user details and token together, in the filter's order
+    @Benchmark
+    public UsernamePasswordAuthenticationToken authenticateRequest() {
+        List<GrantedAuthority> authorities = factory.createAuthorities("ADMIN");
+        return factory.createAuthenticationToken(factory.createUserDetails("registrar", authorities), request);
+    }
+}
@@ -0,0 +1,61 @@
+package com.studentregistry.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+// Entry point of benchmarks.jar. Takes the usual JMH arguments (a benchmark regex, -f, -wi, ...)
+// and always adds the gc profiler, so every run reports ops/s next to gc.alloc.rate.norm
+// (bytes per operation). Results go to target/jmh/<commit>.json; diff two commits' files, or load
+// them into a JMH results viewer, to see per-request overhead regressions.
+//
+//     java -jar target/benchmarks.jar                 all benchmarks
+//     java -jar target/benchmarks.jar Jwt -f 2        one class, two forks
+//     java -Dcommit=abc1234 -jar target/benchmarks.jar    name the result file explicitly
+public final class BenchmarkRunner {
+
+    private BenchmarkRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Path result = Path.of("target", "jmh", commit() + ".json");
+        Files.createDirectories(result.getParent());
+
+        Options options = new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .addProfiler(GCProfiler.class)
+                .resultFormat(ResultFormatType.JSON)
+                .result(result.toString())
+                .build();
+        new Runner(options).run();
+        System.out.println("Results written to " + result.toAbsolutePath());
+    }
+
+    // -Dcommit, then $GIT_COMMIT (CI), then the working tree's HEAD
+    private static String commit() {
+        String commit = System.getProperty("commit", System.getenv("GIT_COMMIT"));
+        if (commit != null && !commit.isBlank()) {
+            return commit.trim();
+        }
+        try {
+            Process git = new ProcessBuilder("git", "rev-parse", "--short", "HEAD").redirectErrorStream(true).start();
+            String head = new String(git.getInputStream().readAllBytes(), StandardCharsets.UTF_8).trim();
+            if (git.waitFor() == 0 && !head.isEmpty()) {
+                return head;
+            }
+        } catch (IOException e) {
+            // Not a checkout; fall through
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return "local";
+    }
+}
@@ -0,0 +1,98 @@
+package com.studentregistry.benchmark;
+
+import com.studentregistry.dto.CreateCourseDTO;
+import com.studentregistry.dto.CreateEnrollmentDTO;
+import com.studentregistry.dto.CreateStudentDTO;
+import com.studentregistry.dto.DTOMapper;
+import com.studentregistry.entity.Course;
+import com.studentregistry.entity.Enrollment;
+import com.studentregistry.entity.Student;
+import com.studentregistry.repository.CourseRepository;
+import com.studentregistry.repository.RoleRepository;
+import com.studentregistry.repository.StudentRepository;
+import com.studentregistry.repository.TeacherRepository;
+import com.studentregistry.repository.UserRepository;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+// DTOMapper.toEntity with in-memory repositories, so only the mapping itself is measured
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class DTOMapperBenchmark {
+
+    private DTOMapper mapper;
+    private CreateStudentDTO studentDto;
+    private CreateCourseDTO courseDto;
+    private CreateEnrollmentDTO enrollmentDto;
+
+    @Setup
+    public void setUp() {
+        Course course = Fixtures.course();
+        mapper = new DTOMapper(
+                Fixtures.repository(RoleRepository.class, course.getTeacher().getUser().getRole()),
+                Fixtures.repository(StudentRepository.class, Fixtures.student(1)),
+                Fixtures.repository(CourseRepository.class, course),
+                Fixtures.repository(TeacherRepository.class, course.getTeacher()),
+                Fixtures.repository(UserRepository.class, course.getTeacher().getUser()));
+
+        studentDto = new CreateStudentDTO();
+        studentDto.setFirstName("Ada");
+        studentDto.setLastName("Lovelace");
+        studentDto.setDateOfBirth(LocalDate.of(2004, 12, 10));
+        studentDto.setGender("F");
+        studentDto.setPhone("+44 20 7946 0000");
+        studentDto.setEmail("ada.lovelace@example.edu");
+        studentDto.setAddress("12 St James's Square, London");
+        studentDto.setDepartment("Mathematics");
+        studentDto.setProgram("BSc Mathematics");
+        studentDto.setEnrollmentYear(2023);
+        studentDto.setStatus(Student.Status.ACTIVE);
+
+        courseDto = new CreateCourseDTO();
+        courseDto.setCourseCode("MATH201");
+        courseDto.setSection("A");
+        courseDto.setCourseName("Analytical Engines");
+        courseDto.setDescription("Difference and analytical engines");
+        courseDto.setCredit(4);
+        courseDto.setDepartment("Mathematics");
+        courseDto.setSemester("2025-FALL");
+        courseDto.setTeacherId(course.getTeacher().getId());
+        courseDto.setStatus(Course.Status.ACTIVE);
+
+        enrollmentDto = new CreateEnrollmentDTO();
+        enrollmentDto.setStudentId(1L);
+        enrollmentDto.setCourseId(course.getId());
+        enrollmentDto.setFinalGrade("A");
+    }
+
+    @Benchmark
+    public Student studentToEntity() {
+        return mapper.toEntity(studentDto);
+    }
+
+    @Benchmark
+    public Course courseToEntity() {
+        return mapper.toEntity(courseDto);
+    }
+
+    @Benchmark
+    public Enrollment enrollmentToEntity() {
+        return mapper.toEntity(enrollmentDto);
+    }
+}
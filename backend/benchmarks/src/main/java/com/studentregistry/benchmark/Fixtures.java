@@ -0,0 +1,110 @@
+package com.studentregistry.benchmark;
+
+import com.studentregistry.entity.Course;
+import com.studentregistry.entity.Enrollment;
+import com.studentregistry.entity.Role;
+import com.studentregistry.entity.Student;
+import com.studentregistry.entity.Teacher;
+import com.studentregistry.entity.User;
+import com.studentregistry.util.JwtUtil;
+
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Proxy;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+// Application objects built without a Spring context, wired the way the running app wires them
+final class Fixtures {
+
+    static final String JWT_SECRET = "myVerySecretKeyThatIsAtLeast256BitsLongForHS256Algorithm";
+    static final LocalDateTime TIMESTAMP = LocalDateTime.of(2025, 9, 1, 8, 30);
+
+    private Fixtures() {
+    }
+
+    static JwtUtil jwtUtil(int claimsCacheMaxSize) {
+        JwtUtil jwtUtil = new JwtUtil();
+        set(jwtUtil, "secret", JWT_SECRET);
+        set(jwtUtil, "expiration", 86400L);
+        set(jwtUtil, "claimsCacheMaxSize", claimsCacheMaxSize);
+        jwtUtil.init();
+        return jwtUtil;
+    }
+
+    // Spring Data repository stand-in: findById always finds the given entity, everything else fails
+    @SuppressWarnings("unchecked")
+    static <R> R repository(Class<R> type, Object entity) {
+        return (R) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type }, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "findById":
+                    return Optional.of(entity);
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "equals":
+                    return proxy == args[0];
+                case "toString":
+                    return type.getSimpleName() + " stub";
+                default:
+                    throw new UnsupportedOperationException(method.getName());
+            }
+        });
+    }
+
+    static Student student(long id) {
+        Student student = new Student("Ada", "Lovelace " + id, LocalDate.of(2004, 12, 10), "F", "+44 20 7946 0000",
+                "ada.lovelace" + id + "@example.edu", "12 St James's Square, London", "Mathematics",
+                "BSc Mathematics", 2023, Student.Status.ACTIVE);
+        student.setId(id);
+        student.setCreatedAt(TIMESTAMP);
+        student.setUpdatedAt(TIMESTAMP);
+        return student;
+    }
+
+    static Teacher teacher() {
+        Role role = new Role("TEACHER");
+        role.setId(3);
+        User user = new User("cbabbage", "c.babbage@example.edu", "$2a$10$hash", role, User.Status.ACTIVE);
+        user.setId(7);
+        user.setCreatedAt(TIMESTAMP);
+        user.setUpdatedAt(TIMESTAMP);
+
+        Teacher teacher = new Teacher();
+        teacher.setId(11);
+        teacher.setFirstName("Charles");
+        teacher.setLastName("Babbage");
+        teacher.setDepartment("Mathematics");
+        teacher.setEmail("c.babbage@example.edu");
+        teacher.setPhone("+44 20 7946 0001");
+        teacher.setUser(user);
+        teacher.setCreatedAt(TIMESTAMP);
+        teacher.setUpdatedAt(TIMESTAMP);
+        return teacher;
+    }
+
+    static Course course() {
+        Course course = new Course("MATH201", "A", "Analytical Engines", "Difference and analytical engines",
+                4, "Mathematics", "2025-FALL", teacher(), Course.Status.ACTIVE);
+        course.setId(42);
+        course.setCreatedAt(TIMESTAMP);
+        course.setUpdatedAt(TIMESTAMP);
+        return course;
+    }
+
+    static Enrollment enrollment(long id, Student student, Course course) {
+        Enrollment enrollment = new Enrollment(student, course, "A");
+        enrollment.setId(id);
+        enrollment.setEnrolledAt(TIMESTAMP);
+        enrollment.setUpdatedAt(TIMESTAMP);
+        return enrollment;
+    }
+
+    // JwtUtil takes its settings from @Value fields
+    private static void set(Object target, String name, Object value) {
+        Field field = ReflectionUtils.findField(target.getClass(), name);
+        ReflectionUtils.makeAccessible(field);
+        ReflectionUtils.setField(field, target, value);
+    }
+}
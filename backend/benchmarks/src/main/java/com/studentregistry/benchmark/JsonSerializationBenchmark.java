@@ -0,0 +1,81 @@
+package com.studentregistry.benchmark;
+
+import com.studentregistry.dto.PaginatedResponse;
+import com.studentregistry.entity.Course;
+import com.studentregistry.entity.Enrollment;
+import com.studentregistry.entity.Student;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import tools.jackson.databind.json.JsonMapper;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Response bodies as Spring MVC writes them: Boot 4 serialises controller results with Jackson 3.
+// Page sizes are the list endpoints' default limit and a large page.
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class JsonSerializationBenchmark {
+
+    @Param({ "10", "100" })
+    private int pageSize;
+
+    private JsonMapper mapper;
+    private Student student;
+    private Enrollment enrollment;
+    private PaginatedResponse<Student> studentPage;
+    private PaginatedResponse<Enrollment> enrollmentPage;
+
+    @Setup
+    public void setUp() {
+        mapper = JsonMapper.builder().build();
+        Course course = Fixtures.course();
+        student = Fixtures.student(1);
+        enrollment = Fixtures.enrollment(1, student, course);
+
+        List<Student> students = new ArrayList<>(pageSize);
+        List<Enrollment> enrollments = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            Student s = Fixtures.student(i + 1);
+            students.add(s);
+            enrollments.add(Fixtures.enrollment(i + 1, s, course));
+        }
+        studentPage = new PaginatedResponse<>(students, 100000, 1, pageSize);
+        enrollmentPage = new PaginatedResponse<>(enrollments, 2000000, 1, pageSize);
+    }
+
+    @Benchmark
+    public byte[] student() {
+        return mapper.writeValueAsBytes(student);
+    }
+
+    @Benchmark
+    public byte[] enrollment() {
+        return mapper.writeValueAsBytes(enrollment);
+    }
+
+    @Benchmark
+    public byte[] studentPage() {
+        return mapper.writeValueAsBytes(studentPage);
+    }
+
+    @Benchmark
+    public byte[] enrollmentPage() {
+        return mapper.writeValueAsBytes(enrollmentPage);
+    }
+}
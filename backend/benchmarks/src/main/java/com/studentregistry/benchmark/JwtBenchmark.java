@@ -0,0 +1,71 @@
+package com.studentregistry.benchmark;
+
+import com.studentregistry.util.JwtUtil;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.concurrent.TimeUnit;
+
+// JwtUtil as JwtAuthenticationFilter uses it. The "cached" benchmarks are the steady state, a client
+// re-sending its token; "uncached" alternates two tokens through a one-entry claims cache so every
+// call pays the HMAC check and JSON parse.
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class JwtBenchmark {
+
+    private JwtUtil jwtUtil;
+    private JwtUtil uncachedJwtUtil;
+    private UserDetails userDetails;
+    private String token;
+    private String[] uncachedTokens;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = Fixtures.jwtUtil(10000);
+        uncachedJwtUtil = Fixtures.jwtUtil(1);
+        userDetails = User.withUsername("registrar").password("").roles("ADMIN").build();
+        token = jwtUtil.generateToken(userDetails, "ADMIN");
+        // Different subjects, so the two tokens differ even when issued in the same second
+        uncachedTokens = new String[] {
+                jwtUtil.generateToken(userDetails, "ADMIN"),
+                jwtUtil.generateToken(User.withUsername("registrar2").password("").roles("ADMIN").build(), "ADMIN")
+        };
+        jwtUtil.extractUsername(token);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtUtil.generateToken(userDetails, "ADMIN");
+    }
+
+    @Benchmark
+    public String extractUsernameCached() {
+        return jwtUtil.extractUsername(token);
+    }
+
+    @Benchmark
+    public boolean validateTokenCached() {
+        return jwtUtil.validateToken(token, userDetails);
+    }
+
+    @Benchmark
+    public String extractUsernameUncached() {
+        return uncachedJwtUtil.extractUsername(uncachedTokens[next++ & 1]);
+    }
+}
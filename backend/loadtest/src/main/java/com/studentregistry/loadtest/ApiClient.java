@@ -0,0 +1,87 @@
+package com.studentregistry.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.MissingNode;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.Executors;
+
+// The REST API as the frontend calls it. Every call is timed into LatencyStats under its route
+// template (e.g. "GET /api/students/{id}"), so percentiles aggregate across ids.
+final class ApiClient {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    private final String baseUrl;
+    private final LatencyStats stats;
+    private final HttpClient client;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private volatile String token;
+
+    ApiClient(String baseUrl, LatencyStats stats) {
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+        this.stats = stats;
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+    }
+
+    void login(String username, String password) throws IOException, InterruptedException {
+        JsonNode response = post("POST /api/auth/login", "/api/auth/login",
+                Map.of("username", username, "password", password));
+        token = response.path("token").asText(null);
+        if (token == null) {
+            throw new IllegalStateException("Login as " + username + " failed; check --admin-password");
+        }
+    }
+
+    JsonNode get(String endpoint, String path) throws IOException, InterruptedException {
+        return send(endpoint, request(path).GET());
+    }
+
+    JsonNode post(String endpoint, String path, Object body) throws IOException, InterruptedException {
+        return send(endpoint, request(path).header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body))));
+    }
+
+    JsonNode put(String endpoint, String path, Object body) throws IOException, InterruptedException {
+        return send(endpoint, request(path).header("Content-Type", "application/json")
+                .PUT(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body))));
+    }
+
+    private HttpRequest.Builder request(String path) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(TIMEOUT);
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder;
+    }
+
+    // Non-2xx responses and transport failures count as errors; the body is parsed only on success
+    private JsonNode send(String endpoint, HttpRequest.Builder builder) throws IOException, InterruptedException {
+        long started = System.nanoTime();
+        HttpResponse<byte[]> response;
+        try {
+            response = client.send(builder.build(), HttpResponse.BodyHandlers.ofByteArray());
+        } catch (IOException e) {
+            stats.record(endpoint, System.nanoTime() - started, false);
+            throw e;
+        }
+        boolean success = response.statusCode() / 100 == 2;
+        stats.record(endpoint, System.nanoTime() - started, success);
+        if (!success) {
+            throw new IOException(endpoint + " returned " + response.statusCode());
+        }
+        byte[] body = response.body();
+        return body.length == 0 ? MissingNode.getInstance() : objectMapper.readTree(body);
+    }
+}
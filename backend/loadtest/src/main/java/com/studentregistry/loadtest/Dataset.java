@@ -0,0 +1,184 @@
+package com.studentregistry.loadtest;
+
+import java.time.LocalDate;
+import java.util.SplittableRandom;
+
+// The shape of the generated dataset, derived only from the seed and the scale options. The seeder
+// writes exactly these rows and the workloads pick ids and enrolled pairs from the same model,
+// so no workload has to discover the data over HTTP first.
+//
+// Ids are dense and start at 1: students 1..students, courses 1..courses, teachers 1..teachers.
+// users: 1 is the load-test admin, 2..teachers+1 are the teachers' accounts.
+// Course c enrolls a contiguous (wrapping) run of students starting at enrollmentStart[c].
+final class Dataset {
+
+    static final String ADMIN_USERNAME = "loadtest-admin";
+
+    static final String[] SEMESTERS = { "2023-Fall", "2024-Spring", "2024-Fall", "2025-Spring", "2025-Fall" };
+    static final int SECTIONS = 3;
+    // Teaching weeks per semester; absence dates fall inside them
+    static final int TERM_DAYS = 105;
+
+    static final String[] DEPARTMENTS = {
+            "Computer Science", "Mathematics", "Physics", "Chemistry", "Biology",
+            "Engineering", "Business", "Economics", "Psychology", "History",
+            "English", "Philosophy", "Art", "Music", "Education"
+    };
+    static final String[] DEPARTMENT_CODES = {
+            "CS", "MATH", "PHYS", "CHEM", "BIO", "ENGR", "BUS", "ECON", "PSY", "HIST",
+            "ENG", "PHIL", "ART", "MUS", "EDU"
+    };
+    static final String[] PROGRAMS = {
+            "Bachelor of Science", "Bachelor of Arts", "Master of Science",
+            "Master of Arts", "PhD Program", "Associate Degree"
+    };
+    static final String[] COURSE_NAMES = {
+            "Introduction to Programming", "Data Structures", "Algorithms", "Database Systems",
+            "Web Development", "Software Engineering", "Computer Networks", "Operating Systems",
+            "Machine Learning", "Artificial Intelligence", "Calculus I", "Calculus II",
+            "Linear Algebra", "Discrete Mathematics", "Statistics", "Physics I",
+            "Chemistry Fundamentals", "Biology 101", "English Composition", "World History"
+    };
+    static final String[] FIRST_NAMES = {
+            "James", "Mary", "John", "Patricia", "Robert", "Jennifer", "Michael", "Linda",
+            "William", "Elizabeth", "David", "Barbara", "Richard", "Susan", "Joseph", "Jessica",
+            "Thomas", "Sarah", "Charles", "Karen", "Christopher", "Nancy", "Daniel", "Lisa",
+            "Matthew", "Betty", "Anthony", "Margaret", "Mark", "Sandra", "Donald", "Ashley",
+            "Steven", "Kimberly", "Paul", "Emily", "Andrew", "Donna", "Joshua", "Michelle",
+            "José", "Zoë", "Chloé", "Renée", "Søren", "Björn", "Łukasz", "Ana"
+    };
+    static final String[] LAST_NAMES = {
+            "Smith", "Johnson", "Williams", "Brown", "Jones", "Garcia", "Miller", "Davis",
+            "Rodriguez", "Martinez", "Hernandez", "Lopez", "Wilson", "Anderson", "Thomas", "Taylor",
+            "Moore", "Jackson", "Martin", "Lee", "Thompson", "White", "Harris", "Sanchez",
+            "Clark", "Ramirez", "Lewis", "Robinson", "Walker", "Young", "Allen", "King",
+            "Müller", "Nguyen", "Hill", "Flores", "Green", "Adams", "Núñez", "O'Brien"
+    };
+    static final String[] GRADES = { "A", "A-", "B+", "B", "B-", "C+", "C", "C-", "D+", "D", "F" };
+    static final String[] LOG_ACTIONS = {
+            "UPDATE_GRADE", "ROLL_CALL", "ADD_ABSENCE", "CREATE_ENROLLMENT", "UPDATE_STUDENT",
+            "CREATE_STUDENT", "REMOVE_ABSENCE", "UPDATE_COURSE", "REMOVE_ENROLLMENT", "CHANGE_PASSWORD"
+    };
+
+    final long seed;
+    final int students;
+    final int courses;
+    final int teachers;
+    final long enrollments;
+    final long absences;
+    final long logs;
+
+    private final int[] enrollmentStart;
+    private final int[] enrollmentCount;
+    private final long[] firstEnrollmentId;
+
+    Dataset(LoadTestConfig config) {
+        this.seed = config.seed();
+        this.students = config.students();
+        this.courses = config.courses();
+        this.teachers = Math.max(1, courses / 10);
+        this.enrollments = config.enrollments();
+        this.absences = config.absences();
+        this.logs = config.logs();
+
+        // Section sizes vary +-50% around the mean, then the difference is spread so the total is exact
+        SplittableRandom random = random("enrollments", 0);
+        long mean = enrollments / courses;
+        enrollmentStart = new int[courses];
+        enrollmentCount = new int[courses];
+        long total = 0;
+        for (int c = 0; c < courses; c++) {
+            enrollmentStart[c] = random.nextInt(students);
+            long spread = mean / 2;
+            long count = spread > 0 ? mean - spread + random.nextLong(2 * spread + 1) : mean;
+            enrollmentCount[c] = (int) Math.min(count, students);
+            total += enrollmentCount[c];
+        }
+        for (int c = 0; total != enrollments; c = (c + 1) % courses) {
+            if (total < enrollments && enrollmentCount[c] < students) {
+                enrollmentCount[c]++;
+                total++;
+            } else if (total > enrollments && enrollmentCount[c] > 0) {
+                enrollmentCount[c]--;
+                total--;
+            }
+        }
+        firstEnrollmentId = new long[courses];
+        long next = 1;
+        for (int c = 0; c < courses; c++) {
+            firstEnrollmentId[c] = next;
+            next += enrollmentCount[c];
+        }
+    }
+
+    // Independent, reproducible stream per table and chunk, whatever the number of seed threads
+    SplittableRandom random(String stream, long chunk) {
+        return new SplittableRandom(seed * 1_000_003L + stream.hashCode() * 65_537L + chunk);
+    }
+
+    // Course ids are 1-based; c is the 0-based course index
+    long courseId(int c) {
+        return c + 1L;
+    }
+
+    int enrollmentCount(int c) {
+        return enrollmentCount[c];
+    }
+
+    long enrollmentId(int c, int j) {
+        return firstEnrollmentId[c] + j;
+    }
+
+    // j-th enrolled student of course c
+    long enrolledStudent(int c, int j) {
+        return 1L + (enrollmentStart[c] + j) % students;
+    }
+
+    // The offering tuple (code, semester, section) is unique because it is a bijection of c
+    int semesterIndex(int c) {
+        return c % SEMESTERS.length;
+    }
+
+    String semester(int c) {
+        return SEMESTERS[semesterIndex(c)];
+    }
+
+    String section(int c) {
+        return String.valueOf((c / SEMESTERS.length) % SECTIONS + 1);
+    }
+
+    int catalogueNumber(int c) {
+        return c / (SEMESTERS.length * SECTIONS);
+    }
+
+    int department(int c) {
+        return catalogueNumber(c) % DEPARTMENTS.length;
+    }
+
+    String courseCode(int c) {
+        return DEPARTMENT_CODES[department(c)] + (100 + catalogueNumber(c));
+    }
+
+    long teacherId(int c) {
+        return 1L + catalogueNumber(c) % teachers;
+    }
+
+    boolean isCurrentSemester(int c) {
+        return semesterIndex(c) == SEMESTERS.length - 1;
+    }
+
+    static LocalDate semesterStart(int semesterIndex) {
+        String[] parts = SEMESTERS[semesterIndex].split("-");
+        int year = Integer.parseInt(parts[0]);
+        return parts[1].equals("Fall") ? LocalDate.of(year, 9, 1) : LocalDate.of(year, 1, 15);
+    }
+
+    // A random course of the current semester, where grading and roll-call happen
+    int randomCurrentCourse(SplittableRandom random) {
+        int offerings = courses / SEMESTERS.length;
+        if (offerings == 0) {
+            return random.nextInt(courses);
+        }
+        return random.nextInt(offerings) * SEMESTERS.length + SEMESTERS.length - 1;
+    }
+}
@@ -0,0 +1,339 @@
+package com.studentregistry.loadtest;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Writes the Dataset straight into PostgreSQL with COPY, bypassing the API. Each table is split
+// into fixed chunks that load in parallel on their own connections; every chunk draws from its
+// own random stream, so the rows are identical for a given seed whatever --seed-threads is.
+//
+// The dataset's fingerprint is kept in the settings table. A database already holding the same
+// fingerprint is reused as is; any other non-empty database is refused unless --reset is given,
+// which TRUNCATEs every registry table first.
+final class DatasetSeeder {
+
+    static final String FINGERPRINT_KEY = "loadtest.dataset";
+
+    private static final int STUDENT_CHUNK = 50_000;
+    private static final int COURSE_CHUNK = 100;
+    private static final long LOG_CHUNK = 1_000_000;
+
+    private final LoadTestConfig config;
+    private final Dataset dataset;
+    private final String dbUrl;
+    private final String dbUser;
+    private final String dbPassword;
+
+    DatasetSeeder(LoadTestConfig config, Dataset dataset, String dbUrl, String dbUser, String dbPassword) {
+        this.config = config;
+        this.dataset = dataset;
+        this.dbUrl = dbUrl;
+        this.dbUser = dbUser;
+        this.dbPassword = dbPassword;
+    }
+
+    void seed() throws Exception {
+        try (Connection connection = connect()) {
+            String existing = fingerprint(connection);
+            if (config.datasetFingerprint().equals(existing) && !config.reset()) {
+                // --admin-password may differ from the run that seeded it
+                try (PreparedStatement update = connection.prepareStatement(
+                        "UPDATE users SET password_hash = ? WHERE email LIKE '%@loadtest.local'")) {
+                    update.setString(1, new BCryptPasswordEncoder().encode(config.adminPassword()));
+                    update.executeUpdate();
+                }
+                connection.commit();
+                System.err.println("[seed] reusing the dataset already loaded: " + existing);
+                return;
+            }
+            if (!config.reset() && count(connection, "students") + count(connection, "users") > 0) {
+                throw new IllegalStateException("Database is not empty (dataset: " + existing + "). "
+                        + "Pass --reset to TRUNCATE it, or point --db-url at an empty database.");
+            }
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("TRUNCATE course_attendance_stats, absences, enrollments, courses, teachers, students, logs, users, roles CASCADE");
+                statement.execute("DELETE FROM settings WHERE key = '" + FINGERPRINT_KEY + "'");
+            }
+            connection.commit();
+            seedAccounts(connection);
+        }
+
+        parallel("students", chunks(dataset.students, STUDENT_CHUNK), this::seedStudents);
+        parallel("courses", List.of(new long[] { 0, dataset.courses }), this::seedCourses);
+        parallel("enrollments", chunks(dataset.courses, COURSE_CHUNK), this::seedEnrollments);
+        parallel("absences", chunks(dataset.courses, COURSE_CHUNK), this::seedAbsences);
+        parallel("logs", chunks(dataset.logs, LOG_CHUNK), this::seedLogs);
+
+        try (Connection connection = connect(); Statement statement = connection.createStatement()) {
+            // Hibernate's pooled optimizer continues from max(id), as V2 set the sequences up to do
+            for (String[] entry : new String[][] { { "role_seq", "roles" }, { "user_seq", "users" },
+                    { "teacher_seq", "teachers" }, { "student_seq", "students" }, { "course_seq", "courses" },
+                    { "enrollment_seq", "enrollments" }, { "log_seq", "logs" } }) {
+                statement.execute("SELECT setval('" + entry[0] + "', GREATEST((SELECT COALESCE(MAX(id), 0) FROM "
+                        + entry[1] + "), 1))");
+            }
+            try (PreparedStatement insert = connection.prepareStatement(
+                    "INSERT INTO settings (id, key, value) VALUES (nextval('setting_seq'), ?, ?)")) {
+                insert.setString(1, FINGERPRINT_KEY);
+                insert.setString(2, config.datasetFingerprint());
+                insert.executeUpdate();
+            }
+            connection.commit();
+            connection.setAutoCommit(true);
+            long started = System.nanoTime();
+            statement.execute("ANALYZE");
+            System.err.println("[seed] ANALYZE in " + seconds(started));
+        }
+    }
+
+    // roles 1 ADMIN, 2 TEACHER; users 1 = admin, t + 1 = teacher t's account
+    private void seedAccounts(Connection connection) throws SQLException {
+        String hash = new BCryptPasswordEncoder().encode(config.adminPassword());
+        LocalDateTime created = Dataset.semesterStart(0).atStartOfDay().minusMonths(1);
+        try (CopyStream roles = new CopyStream(connection, "roles", "id, name")) {
+            roles.add(1).add("ADMIN").endRow();
+            roles.add(2).add("TEACHER").endRow();
+            roles.finish();
+        }
+        try (CopyStream users = new CopyStream(connection, "users",
+                "id, username, email, password_hash, role_id, status, created_at, updated_at")) {
+            users.add(1).add(Dataset.ADMIN_USERNAME).add(Dataset.ADMIN_USERNAME + "@loadtest.local").add(hash)
+                    .add(1).add("ACTIVE").add(created).add(created).endRow();
+            for (int t = 1; t <= dataset.teachers; t++) {
+                users.add(t + 1).add("teacher" + t).add("teacher" + t + "@loadtest.local").add(hash)
+                        .add(2).add("ACTIVE").add(created).add(created).endRow();
+            }
+            users.finish();
+        }
+        SplittableRandom random = dataset.random("teachers", 0);
+        try (CopyStream teachers = new CopyStream(connection, "teachers",
+                "id, first_name, last_name, department, email, phone, user_id, created_at, updated_at")) {
+            for (int t = 1; t <= dataset.teachers; t++) {
+                teachers.add(t).add(pick(random, Dataset.FIRST_NAMES)).add(pick(random, Dataset.LAST_NAMES))
+                        .add(Dataset.DEPARTMENTS[(t - 1) % Dataset.DEPARTMENTS.length])
+                        .add("teacher" + t + "@loadtest.local").add(phone(random)).add(t + 1)
+                        .add(created).add(created).endRow();
+            }
+            teachers.finish();
+        }
+        connection.commit();
+        System.err.println("[seed] roles, " + (dataset.teachers + 1) + " users, " + dataset.teachers + " teachers");
+    }
+
+    private long seedStudents(Connection connection, long chunk, long from, long to) throws SQLException {
+        SplittableRandom random = dataset.random("students", chunk);
+        LocalDate earliestBirth = LocalDate.of(1990, 1, 1);
+        try (CopyStream rows = new CopyStream(connection, "students", "id, first_name, last_name, date_of_birth, "
+                + "gender, phone, email, address, department, program, enrollment_year, status, created_at, updated_at")) {
+            for (long id = from + 1; id <= to; id++) {
+                int year = 2019 + random.nextInt(7);
+                String status;
+                int roll = random.nextInt(100);
+                if (year <= 2020 && roll < 60) {
+                    status = "GRADUATED";
+                } else {
+                    status = roll < 90 ? "ACTIVE" : roll < 95 ? "INACTIVE" : "DROPPED";
+                }
+                LocalDateTime created = LocalDate.of(year, 8, 15).atStartOfDay().plusMinutes(random.nextInt(20_000));
+                rows.add(id).add(pick(random, Dataset.FIRST_NAMES)).add(pick(random, Dataset.LAST_NAMES))
+                        .add(earliestBirth.plusDays(random.nextInt(4000)))
+                        .add(random.nextBoolean() ? "Female" : "Male")
+                        .add(phone(random))
+                        .add("s" + id + "@students.loadtest.local")
+                        .add((1 + random.nextInt(999)) + " Campus Road")
+                        .add(pick(random, Dataset.DEPARTMENTS))
+                        .add(pick(random, Dataset.PROGRAMS))
+                        .add(year).add(status).add(created).add(created).endRow();
+            }
+            rows.finish();
+            return rows.rows();
+        }
+    }
+
+    private long seedCourses(Connection connection, long chunk, long from, long to) throws SQLException {
+        SplittableRandom random = dataset.random("courses", chunk);
+        try (CopyStream rows = new CopyStream(connection, "courses", "id, course_code, section, course_name, "
+                + "description, credit, department, semester, teacher_id, status, created_at, updated_at")) {
+            for (int c = (int) from; c < to; c++) {
+                int number = dataset.catalogueNumber(c);
+                String name = Dataset.COURSE_NAMES[number % Dataset.COURSE_NAMES.length];
+                if (number >= Dataset.COURSE_NAMES.length) {
+                    name += " " + (number / Dataset.COURSE_NAMES.length + 1);
+                }
+                LocalDateTime created = Dataset.semesterStart(dataset.semesterIndex(c)).atStartOfDay().minusMonths(2);
+                rows.add(dataset.courseId(c)).add(dataset.courseCode(c)).add(dataset.section(c)).add(name)
+                        .add("Generated course " + dataset.courseCode(c))
+                        .add(3 + random.nextInt(2))
+                        .add(Dataset.DEPARTMENTS[dataset.department(c)])
+                        .add(dataset.semester(c)).add(dataset.teacherId(c)).add("ACTIVE")
+                        .add(created).add(created).endRow();
+            }
+            rows.finish();
+            return rows.rows();
+        }
+    }
+
+    // Past semesters are fully graded; the current one is mostly ungraded, which grade entry works on
+    private long seedEnrollments(Connection connection, long chunk, long from, long to) throws SQLException {
+        SplittableRandom random = dataset.random("enrollments", chunk + 1);
+        try (CopyStream rows = new CopyStream(connection, "enrollments",
+                "id, student_id, course_id, final_grade, enrolled_at, updated_at")) {
+            for (int c = (int) from; c < to; c++) {
+                LocalDateTime start = Dataset.semesterStart(dataset.semesterIndex(c)).atTime(9, 0);
+                boolean current = dataset.isCurrentSemester(c);
+                for (int j = 0; j < dataset.enrollmentCount(c); j++) {
+                    String grade = !current || random.nextInt(100) < 20 ? pick(random, Dataset.GRADES) : null;
+                    LocalDateTime enrolled = start.minusMinutes(random.nextInt(30 * 24 * 60));
+                    rows.add(dataset.enrollmentId(c, j)).add(dataset.enrolledStudent(c, j)).add(dataset.courseId(c))
+                            .add(grade).add(enrolled).add(enrolled).endRow();
+                }
+            }
+            rows.finish();
+            return rows.rows();
+        }
+    }
+
+    // Per enrollment, a uniform 0..2x the mean number of distinct teaching days
+    private long seedAbsences(Connection connection, long chunk, long from, long to) throws SQLException {
+        SplittableRandom random = dataset.random("absences", chunk);
+        double mean = dataset.enrollments == 0 ? 0 : (double) dataset.absences / dataset.enrollments;
+        try (CopyStream rows = new CopyStream(connection, "absences", "student_id, course_id, date")) {
+            for (int c = (int) from; c < to; c++) {
+                LocalDate start = Dataset.semesterStart(dataset.semesterIndex(c));
+                for (int j = 0; j < dataset.enrollmentCount(c); j++) {
+                    int days = Math.min(Dataset.TERM_DAYS, (int) (random.nextDouble() * 2 * mean + 0.5));
+                    if (days == 0) {
+                        continue;
+                    }
+                    int step = Math.max(1, Math.min(5, Dataset.TERM_DAYS / days));
+                    int first = random.nextInt(Math.max(1, Dataset.TERM_DAYS - (days - 1) * step));
+                    for (int d = 0; d < days; d++) {
+                        rows.add(dataset.enrolledStudent(c, j)).add(dataset.courseId(c))
+                                .add(start.plusDays(first + (long) d * step)).endRow();
+                    }
+                }
+            }
+            rows.finish();
+            return rows.rows();
+        }
+    }
+
+    // Timestamps rise with the id across the whole dataset period, as the audit writer produces them
+    private long seedLogs(Connection connection, long chunk, long from, long to) throws SQLException {
+        SplittableRandom random = dataset.random("logs", chunk);
+        LocalDateTime first = Dataset.semesterStart(0).atStartOfDay();
+        long spanSeconds = Duration.between(first,
+                Dataset.semesterStart(Dataset.SEMESTERS.length - 1).plusDays(Dataset.TERM_DAYS).atStartOfDay()).toSeconds();
+        try (CopyStream rows = new CopyStream(connection, "logs", "id, user_id, action, details, timestamp")) {
+            for (long id = from + 1; id <= to; id++) {
+                int roll = random.nextInt(100);
+                Long userId = roll < 5 ? null : roll < 25 ? 1L : 2L + random.nextInt(dataset.teachers);
+                String action = pick(random, Dataset.LOG_ACTIONS);
+                long studentId = 1 + random.nextInt(dataset.students);
+                long courseId = 1 + random.nextInt(dataset.courses);
+                String details = action.equals("UPDATE_GRADE")
+                        ? "{\"studentId\":" + studentId + ",\"courseId\":" + courseId + ",\"finalGrade\":\""
+                                + pick(random, Dataset.GRADES) + "\"}"
+                        : "{\"studentId\":" + studentId + ",\"courseId\":" + courseId + "}";
+                LocalDateTime timestamp = first.plusSeconds((id - 1) * spanSeconds / Math.max(1, dataset.logs));
+                rows.add(id).add(userId).add(action).add(details).add(timestamp).endRow();
+            }
+            rows.finish();
+            return rows.rows();
+        }
+    }
+
+    @FunctionalInterface
+    private interface ChunkLoader {
+        long load(Connection connection, long chunk, long from, long to) throws SQLException;
+    }
+
+    private void parallel(String table, List<long[]> chunks, ChunkLoader loader) throws Exception {
+        long started = System.nanoTime();
+        AtomicLong rows = new AtomicLong();
+        ExecutorService pool = Executors.newFixedThreadPool(config.seedThreads());
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < chunks.size(); i++) {
+                long chunk = i;
+                long[] range = chunks.get(i);
+                futures.add(pool.submit(() -> {
+                    try (Connection connection = connect()) {
+                        rows.addAndGet(loader.load(connection, chunk, range[0], range[1]));
+                        connection.commit();
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+        System.err.println("[seed] " + table + ": " + rows.get() + " rows in " + seconds(started));
+    }
+
+    private static List<long[]> chunks(long total, long size) {
+        List<long[]> chunks = new ArrayList<>();
+        for (long from = 0; from < total; from += size) {
+            chunks.add(new long[] { from, Math.min(total, from + size) });
+        }
+        return chunks;
+    }
+
+    private Connection connect() throws SQLException {
+        Connection connection = DriverManager.getConnection(dbUrl, dbUser, dbPassword);
+        connection.setAutoCommit(false);
+        try (Statement statement = connection.createStatement()) {
+            // A crash mid-seed means reseeding anyway, so there is nothing to wait for
+            statement.execute("SET synchronous_commit = off");
+        }
+        return connection;
+    }
+
+    private static String fingerprint(Connection connection) throws SQLException {
+        try (PreparedStatement select = connection.prepareStatement("SELECT value FROM settings WHERE key = ?")) {
+            select.setString(1, FINGERPRINT_KEY);
+            try (ResultSet rs = select.executeQuery()) {
+                return rs.next() ? rs.getString(1) : null;
+            }
+        }
+    }
+
+    private static long count(Connection connection, String table) throws SQLException {
+        try (Statement statement = connection.createStatement();
+                ResultSet rs = statement.executeQuery("SELECT count(*) FROM (SELECT 1 FROM " + table + " LIMIT 1) t")) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+
+    private static String pick(SplittableRandom random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    private static String phone(SplittableRandom random) {
+        return "+1-555-" + (1_000_000 + random.nextInt(9_000_000));
+    }
+
+    private static String seconds(long startedNanos) {
+        return String.format("%.1fs", (System.nanoTime() - startedNanos) / 1e9);
+    }
+}
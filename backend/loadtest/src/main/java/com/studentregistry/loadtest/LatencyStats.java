@@ -0,0 +1,96 @@
+package com.studentregistry.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+// Per-endpoint latency histograms (1 us .. 60 s, 3 significant digits) and error counts.
+// Samples taken before start() belong to the warmup and are dropped.
+final class LatencyStats {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = 60_000_000L;
+
+    record Row(String endpoint, long requests, long errors, double throughput,
+               double p50Millis, double p90Millis, double p99Millis, double maxMillis) {
+    }
+
+    private static final class Endpoint {
+        private final Recorder recorder = new Recorder(HIGHEST_TRACKABLE_MICROS, 3);
+        private final LongAdder errors = new LongAdder();
+    }
+
+    private final Map<String, Endpoint> endpoints = new ConcurrentHashMap<>();
+    private volatile boolean recording;
+    private volatile long startedNanos;
+
+    void start() {
+        for (Endpoint endpoint : endpoints.values()) {
+            endpoint.recorder.reset();
+            endpoint.errors.reset();
+        }
+        startedNanos = System.nanoTime();
+        recording = true;
+    }
+
+    void record(String endpoint, long latencyNanos, boolean success) {
+        Endpoint stats = endpoints.computeIfAbsent(endpoint, key -> new Endpoint());
+        if (!recording) {
+            return;
+        }
+        if (success) {
+            stats.recorder.recordValue(Math.min(HIGHEST_TRACKABLE_MICROS, Math.max(1, latencyNanos / 1000)));
+        } else {
+            stats.errors.increment();
+        }
+    }
+
+    List<Row> stop() {
+        recording = false;
+        double seconds = (System.nanoTime() - startedNanos) / 1e9;
+        List<Row> rows = new ArrayList<>();
+        endpoints.entrySet().stream().sorted(Map.Entry.comparingByKey()).forEach(entry -> {
+            Histogram histogram = entry.getValue().recorder.getIntervalHistogram();
+            long count = histogram.getTotalCount();
+            rows.add(new Row(entry.getKey(), count, entry.getValue().errors.sum(), count / seconds,
+                    millis(histogram, 50), millis(histogram, 90), millis(histogram, 99),
+                    histogram.getMaxValue() / 1000.0));
+        });
+        return rows;
+    }
+
+    static String format(List<Row> rows) {
+        StringBuilder table = new StringBuilder(String.format(Locale.ROOT, "%-52s %9s %7s %9s %9s %9s %9s %9s%n",
+                "endpoint", "requests", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "max ms"));
+        for (Row r : rows) {
+            table.append(String.format(Locale.ROOT, "%-52s %9d %7d %9.1f %9.1f %9.1f %9.1f %9.1f%n", r.endpoint(),
+                    r.requests(), r.errors(), r.throughput(), r.p50Millis(), r.p90Millis(), r.p99Millis(),
+                    r.maxMillis()));
+        }
+        return table.toString();
+    }
+
+    static void writeCsv(List<Row> rows, Path file, String header) throws IOException {
+        StringBuilder csv = new StringBuilder("# ").append(header).append('\n')
+                .append("endpoint,requests,errors,req_per_s,p50_ms,p90_ms,p99_ms,max_ms\n");
+        for (Row r : rows) {
+            csv.append(String.format(Locale.ROOT, "\"%s\",%d,%d,%.2f,%.2f,%.2f,%.2f,%.2f%n", r.endpoint(),
+                    r.requests(), r.errors(), r.throughput(), r.p50Millis(), r.p90Millis(), r.p99Millis(),
+                    r.maxMillis()));
+        }
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, csv);
+    }
+
+    private static double millis(Histogram histogram, double percentile) {
+        return histogram.getTotalCount() == 0 ? Double.NaN : histogram.getValueAtPercentile(percentile) / 1000.0;
+    }
+}
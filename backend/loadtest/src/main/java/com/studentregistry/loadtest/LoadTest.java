@@ -0,0 +1,142 @@
+package com.studentregistry.loadtest;
+
+import com.studentregistry.StudentRegistryApplication;
+
+import org.flywaydb.core.Flyway;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// End-to-end load test: migrate, seed (or reuse) a term-sized dataset, run the scripted workloads
+// against the REST API and report latency percentiles and throughput per endpoint.
+//
+//   java -jar target/loadtest.jar --testcontainers
+//       throwaway PostgreSQL in Docker, application started in this JVM
+//   java -jar target/loadtest.jar --db-url=jdbc:postgresql://db:5432/registry_load --reset --start-app
+//       local instance (--reset TRUNCATEs it), application started in this JVM
+//   java -jar target/loadtest.jar --db-url=... --base-url=http://app:8080
+//       seed through JDBC, load an already running server that uses the same database
+//
+// Scale:    --students=100000 --courses=5000 --enrollments=2000000 --absences=20000000 --logs=50000000
+//           --seed=20250901 --seed-threads=N
+// Load:     --sessions=registrar:40,grades:10,rollcall:10,audit:4 --think-time-ms=200
+//           --warmup-seconds=30 --duration-seconds=300
+// Output:   a table on stdout and --report-dir/loadtest-<time>.csv
+public final class LoadTest {
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.parse(args);
+        Dataset dataset = new Dataset(config);
+
+        PostgreSQLContainer postgres = null;
+        ConfigurableApplicationContext app = null;
+        try {
+            String dbUrl = config.dbUrl();
+            String dbUser = config.dbUser();
+            String dbPassword = config.dbPassword();
+            if (config.testcontainers()) {
+                postgres = new PostgreSQLContainer("postgres:17-alpine")
+                        .withDatabaseName("student_registry")
+                        // Large COPYs checkpoint constantly with the default 1 GB max_wal_size
+                        .withCommand("postgres", "-c", "max_wal_size=8GB", "-c", "shared_buffers=1GB");
+                postgres.start();
+                dbUrl = postgres.getJdbcUrl();
+                dbUser = postgres.getUsername();
+                dbPassword = postgres.getPassword();
+            }
+
+            // The application's own migrations, so the schema is exactly what it validates against
+            Flyway.configure()
+                    .dataSource(dbUrl, dbUser, dbPassword)
+                    .locations("classpath:db/migration")
+                    .baselineOnMigrate(true)
+                    .baselineVersion("1")
+                    .load()
+                    .migrate();
+            new DatasetSeeder(config, dataset, dbUrl, dbUser, dbPassword).seed();
+
+            String baseUrl = config.baseUrl() != null ? config.baseUrl() : "http://localhost:8080";
+            if (config.startApp()) {
+                // Arguments rather than default properties, which application.properties would override
+                app = new SpringApplicationBuilder(StudentRegistryApplication.class).run(
+                        "--server.port=0",
+                        "--spring.datasource.url=" + dbUrl,
+                        "--spring.datasource.username=" + dbUser,
+                        "--spring.datasource.password=" + dbPassword);
+                baseUrl = "http://localhost:" + app.getEnvironment().getProperty("local.server.port");
+            }
+
+            run(config, dataset, baseUrl);
+        } finally {
+            if (app != null) {
+                app.close();
+            }
+            if (postgres != null) {
+                postgres.stop();
+            }
+        }
+    }
+
+    private static void run(LoadTestConfig config, Dataset dataset, String baseUrl) throws Exception {
+        LatencyStats stats = new LatencyStats();
+        ApiClient api = new ApiClient(baseUrl, stats);
+        api.login(Dataset.ADMIN_USERNAME, config.adminPassword());
+
+        long warmupNanos = TimeUnit.SECONDS.toNanos(config.warmupSeconds());
+        long endsAt = System.nanoTime() + warmupNanos + TimeUnit.SECONDS.toNanos(config.durationSeconds());
+        AtomicInteger loggedErrors = new AtomicInteger();
+        List<LatencyStats.Row> rows;
+
+        System.err.println("[load] " + config.sessions() + " against " + baseUrl + ", warmup "
+                + config.warmupSeconds() + "s, measuring " + config.durationSeconds() + "s");
+        try (ExecutorService sessions = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (Map.Entry<Workload, Integer> entry : config.sessions().entrySet()) {
+                Workload workload = entry.getKey();
+                for (int i = 0; i < entry.getValue(); i++) {
+                    Workload.Session session = new Workload.Session(api, dataset,
+                            dataset.random("session-" + workload.option(), i), config.thinkTimeMillis());
+                    sessions.submit(() -> {
+                        while (System.nanoTime() < endsAt) {
+                            try {
+                                workload.iterate(session);
+                            } catch (IOException e) {
+                                // Already counted against its endpoint; show a few so a broken run is obvious
+                                if (loggedErrors.incrementAndGet() <= 10) {
+                                    System.err.println("[load] " + workload.option() + ": " + e.getMessage());
+                                }
+                            }
+                        }
+                        return null;
+                    });
+                }
+            }
+            TimeUnit.NANOSECONDS.sleep(warmupNanos);
+            stats.start();
+            TimeUnit.SECONDS.sleep(config.durationSeconds());
+            rows = stats.stop();
+        }
+
+        String header = config.datasetFingerprint() + " sessions=" + config.sessions() + " think-time-ms="
+                + config.thinkTimeMillis() + " duration-seconds=" + config.durationSeconds();
+        System.out.println(header);
+        System.out.println(LatencyStats.format(rows));
+        Path report = Path.of(config.reportDir(),
+                "loadtest-" + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")) + ".csv");
+        LatencyStats.writeCsv(rows, report, header);
+        System.out.println("Report written to " + report.toAbsolutePath());
+    }
+}
@@ -0,0 +1,97 @@
+package com.studentregistry.loadtest;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// Command-line options, "--name=value"; every option has a term-sized default
+record LoadTestConfig(
+        // Dataset
+        long seed,
+        int students,
+        int courses,
+        long enrollments,
+        long absences,
+        long logs,
+        boolean reset,
+        int seedThreads,
+        // Database: a local instance, or a throwaway container
+        boolean testcontainers,
+        String dbUrl,
+        String dbUser,
+        String dbPassword,
+        // Server under test: an already running one, or the application started in this JVM
+        String baseUrl,
+        boolean startApp,
+        String adminPassword,
+        // Workloads
+        Map<Workload, Integer> sessions,
+        int warmupSeconds,
+        int durationSeconds,
+        int thinkTimeMillis,
+        String reportDir) {
+
+    static LoadTestConfig parse(String[] args) {
+        Map<String, String> options = new LinkedHashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--")) {
+                throw new IllegalArgumentException("Unexpected argument: " + arg);
+            }
+            int eq = arg.indexOf('=');
+            options.put(eq < 0 ? arg.substring(2) : arg.substring(2, eq), eq < 0 ? "true" : arg.substring(eq + 1));
+        }
+
+        boolean testcontainers = bool(options.remove("testcontainers"), false);
+        LoadTestConfig config = new LoadTestConfig(
+                Long.parseLong(options.getOrDefault("seed", "20250901")),
+                Integer.parseInt(options.getOrDefault("students", "100000")),
+                Integer.parseInt(options.getOrDefault("courses", "5000")),
+                Long.parseLong(options.getOrDefault("enrollments", "2000000")),
+                Long.parseLong(options.getOrDefault("absences", "20000000")),
+                Long.parseLong(options.getOrDefault("logs", "50000000")),
+                bool(options.get("reset"), false),
+                Integer.parseInt(options.getOrDefault("seed-threads",
+                        String.valueOf(Math.max(2, Runtime.getRuntime().availableProcessors() / 2)))),
+                testcontainers,
+                options.getOrDefault("db-url", "jdbc:postgresql://localhost:5432/student_registry"),
+                options.getOrDefault("db-user", "postgres"),
+                options.getOrDefault("db-password", "postgres"),
+                options.get("base-url"),
+                // A container's address is only known here, so the server has to run in-process
+                testcontainers || bool(options.get("start-app"), false),
+                options.getOrDefault("admin-password", "loadtest"),
+                Workload.parseSessions(options.getOrDefault("sessions", "registrar:40,grades:10,rollcall:10,audit:4")),
+                Integer.parseInt(options.getOrDefault("warmup-seconds", "30")),
+                Integer.parseInt(options.getOrDefault("duration-seconds", "300")),
+                Integer.parseInt(options.getOrDefault("think-time-ms", "200")),
+                options.getOrDefault("report-dir", "target/loadtest"));
+
+        for (String known : new String[] { "seed", "students", "courses", "enrollments", "absences", "logs",
+                "reset", "seed-threads", "db-url", "db-user", "db-password", "base-url", "start-app",
+                "admin-password", "sessions", "warmup-seconds", "duration-seconds", "think-time-ms", "report-dir" }) {
+            options.remove(known);
+        }
+        if (!options.isEmpty()) {
+            throw new IllegalArgumentException("Unknown option(s): " + options.keySet());
+        }
+        if (config.startApp() && config.baseUrl() != null) {
+            throw new IllegalArgumentException("--base-url and --start-app/--testcontainers are mutually exclusive");
+        }
+        if (config.students() < 1 || config.courses() < 1) {
+            throw new IllegalArgumentException("--students and --courses must be positive");
+        }
+        if (config.enrollments() > (long) config.students() * config.courses()) {
+            throw new IllegalArgumentException("--enrollments cannot exceed students x courses");
+        }
+        return config;
+    }
+
+    // Everything that determines the generated rows; stored with the data so a rerun can reuse it
+    String datasetFingerprint() {
+        return "seed=" + seed + ",students=" + students + ",courses=" + courses + ",enrollments=" + enrollments
+                + ",absences=" + absences + ",logs=" + logs;
+    }
+
+    private static boolean bool(String value, boolean defaultValue) {
+        return value == null ? defaultValue : Boolean.parseBoolean(value);
+    }
+}
@@ -0,0 +1,181 @@
+package com.studentregistry.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.io.IOException;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+// Scripted user journeys. Each session repeats its workload's iteration until the run ends,
+// pausing for the think time after every request (a closed model: N sessions ~ N people).
+enum Workload {
+
+    // Browsing the student list and drilling into a student and a course
+    REGISTRAR("registrar") {
+        @Override
+        void iterate(Session s) throws IOException, InterruptedException {
+            s.get("GET /api/students", "/api/students?page=" + (1 + s.random.nextInt(50)) + "&limit=20");
+            s.get("GET /api/students?department", "/api/students?department="
+                    + encode(pick(s.random, Dataset.DEPARTMENTS)) + "&limit=20");
+            long studentId = 1 + s.random.nextInt(s.dataset.students);
+            s.get("GET /api/students/{id}", "/api/students/" + studentId);
+            s.get("GET /api/students/{id}/enrollments", "/api/students/" + studentId + "/enrollments?limit=20");
+
+            int c = s.random.nextInt(s.dataset.courses);
+            s.get("GET /api/courses?semester", "/api/courses?semester=" + encode(s.dataset.semester(c)) + "&limit=20");
+            s.get("GET /api/courses/{id}", "/api/courses/" + s.dataset.courseId(c));
+            s.get("GET /api/courses/{id}/enrollments", "/api/courses/" + s.dataset.courseId(c) + "/enrollments?limit=20");
+        }
+    },
+
+    // A teacher opening a current-semester class list and grading a few students
+    GRADE_ENTRY("grades") {
+        @Override
+        void iterate(Session s) throws IOException, InterruptedException {
+            int c = s.dataset.randomCurrentCourse(s.random);
+            long courseId = s.dataset.courseId(c);
+            s.get("GET /api/courses/{id}/enrollments", "/api/courses/" + courseId + "/enrollments?limit=50");
+            int enrolled = s.dataset.enrollmentCount(c);
+            for (int i = 0; i < Math.min(5, enrolled); i++) {
+                long studentId = s.dataset.enrolledStudent(c, s.random.nextInt(enrolled));
+                s.put("PUT /api/courses/{id}/students/{id}/grade",
+                        "/api/courses/" + courseId + "/students/" + studentId + "/grade",
+                        Map.of("finalGrade", pick(s.random, Dataset.GRADES)));
+            }
+        }
+    },
+
+    // A teacher taking attendance: class list, then one roll-call with ~5% of the class absent
+    ROLL_CALL("rollcall") {
+        @Override
+        void iterate(Session s) throws IOException, InterruptedException {
+            int c = s.dataset.randomCurrentCourse(s.random);
+            long courseId = s.dataset.courseId(c);
+            s.get("GET /api/courses/{id}/enrollments", "/api/courses/" + courseId + "/enrollments?limit=100");
+            List<Long> absent = new ArrayList<>();
+            for (int j = 0; j < s.dataset.enrollmentCount(c); j++) {
+                if (s.random.nextInt(100) < 5) {
+                    absent.add(s.dataset.enrolledStudent(c, j));
+                }
+            }
+            LocalDate date = Dataset.semesterStart(s.dataset.semesterIndex(c)).plusDays(s.random.nextInt(Dataset.TERM_DAYS));
+            s.post("POST /api/courses/{id}/absences/roll-call", "/api/courses/" + courseId + "/absences/roll-call",
+                    Map.of("date", date.toString(), "studentIds", absent));
+        }
+    },
+
+    // An administrator paging through one action's history, then one user's activity for a week
+    LOG_AUDIT("audit") {
+        @Override
+        void iterate(Session s) throws IOException, InterruptedException {
+            String action = encode(pick(s.random, Dataset.LOG_ACTIONS));
+            // An empty after starts the keyset path; without it the slice path answers, which has no nextCursor
+            JsonNode page = s.get("GET /api/logs?action&after=", "/api/logs?action=" + action + "&limit=50&after=");
+            for (int i = 0; i < 3; i++) {
+                String cursor = page.path("nextCursor").asText(null);
+                if (cursor == null) {
+                    break;
+                }
+                page = s.get("GET /api/logs?action&after", "/api/logs?action=" + action + "&limit=50&after=" + encode(cursor));
+            }
+
+            long userId = 2 + s.random.nextInt(s.dataset.teachers);
+            LocalDateTime from = Dataset.semesterStart(s.random.nextInt(Dataset.SEMESTERS.length)).atStartOfDay()
+                    .plusDays(s.random.nextInt(Dataset.TERM_DAYS - 7));
+            s.get("GET /api/logs?userId&dateFrom&dateTo", "/api/logs?userId=" + userId + "&dateFrom=" + from
+                    + "&dateTo=" + from.plusDays(7) + "&limit=50");
+        }
+    };
+
+    private final String option;
+
+    Workload(String option) {
+        this.option = option;
+    }
+
+    abstract void iterate(Session s) throws IOException, InterruptedException;
+
+    String option() {
+        return option;
+    }
+
+    // "registrar:40,grades:10" -> sessions per workload
+    static Map<Workload, Integer> parseSessions(String spec) {
+        Map<Workload, Integer> sessions = new EnumMap<>(Workload.class);
+        for (String part : spec.split(",")) {
+            String[] pair = part.trim().split(":");
+            Workload workload = null;
+            for (Workload w : values()) {
+                if (w.option.equals(pair[0])) {
+                    workload = w;
+                }
+            }
+            if (workload == null || pair.length != 2) {
+                throw new IllegalArgumentException("Bad --sessions entry '" + part + "'; expected <workload>:<count> "
+                        + "with workload one of registrar, grades, rollcall, audit");
+            }
+            sessions.put(workload, Integer.parseInt(pair[1]));
+        }
+        return sessions;
+    }
+
+    static final class Session {
+        private final ApiClient api;
+        private final Dataset dataset;
+        private final SplittableRandom random;
+        private final int thinkTimeMillis;
+
+        Session(ApiClient api, Dataset dataset, SplittableRandom random, int thinkTimeMillis) {
+            this.api = api;
+            this.dataset = dataset;
+            this.random = random;
+            this.thinkTimeMillis = thinkTimeMillis;
+        }
+
+        JsonNode get(String endpoint, String path) throws IOException, InterruptedException {
+            try {
+                return api.get(endpoint, path);
+            } finally {
+                think();
+            }
+        }
+
+        void put(String endpoint, String path, Object body) throws IOException, InterruptedException {
+            try {
+                api.put(endpoint, path, body);
+            } finally {
+                think();
+            }
+        }
+
+        void post(String endpoint, String path, Object body) throws IOException, InterruptedException {
+            try {
+                api.post(endpoint, path, body);
+            } finally {
+                think();
+            }
+        }
+
+        // Uniform 0.5x..1.5x, so sessions do not march in lockstep
+        private void think() throws InterruptedException {
+            if (thinkTimeMillis > 0) {
+                Thread.sleep(thinkTimeMillis / 2 + random.nextInt(thinkTimeMillis + 1));
+            }
+        }
+    }
+
+    private static String pick(SplittableRandom random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,237 @@
+package com.studentregistry.cache;
+
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+// Keeps in-process caches coherent across replicas without a separate broker. Writers publish
+// an InvalidationEvent through PostgreSQL NOTIFY; every node holds one LISTEN connection and
+// hands events from other nodes to the InvalidationListener beans. The writing node has already
+// updated its own caches, so it ignores its own events.
+//
+// pg_notify runs on the caller's connection: inside a transaction PostgreSQL only delivers it
+// once that transaction commits (and drops it on rollback); outside one it goes out immediately.
+//
+// Waiting for notifications sends nothing, so a half-open connection (NAT or firewall dropped the
+// flow, server host gone) would look like a quiet channel forever. The listener runs SELECT 1 every
+// heartbeat interval with a socket timeout; a failure reconnects and resyncs like any disconnect.
+@Component
+public class CacheInvalidationBus {
+
+    private static final Pattern CHANNEL_NAME = Pattern.compile("[a-z_][a-z0-9_]*");
+    private static final long MAX_RECONNECT_DELAY_MS = 30_000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final List<InvalidationListener> listeners;
+    private final boolean enabled;
+    private final String channel;
+    private final String url;
+    private final String username;
+    private final String password;
+    private final long pollIntervalMs;
+    private final long heartbeatIntervalMs;
+    private final int heartbeatTimeoutSeconds;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final AtomicLong published = new AtomicLong();
+    private final AtomicLong publishFailures = new AtomicLong();
+    private final AtomicLong received = new AtomicLong();
+    private final AtomicLong resyncs = new AtomicLong();
+
+    private volatile boolean running;
+    private volatile boolean connected;
+    private Thread worker;
+
+    public CacheInvalidationBus(JdbcTemplate jdbcTemplate, List<InvalidationListener> listeners,
+            @Value("${cache.invalidation.enabled:true}") boolean enabled,
+            @Value("${cache.invalidation.channel:cache_invalidation}") String channel,
+            @Value("${cache.invalidation.poll-interval-ms:500}") long pollIntervalMs,
+            @Value("${cache.invalidation.heartbeat-interval-ms:15000}") long heartbeatIntervalMs,
+            @Value("${cache.invalidation.heartbeat-timeout-seconds:10}") int heartbeatTimeoutSeconds,
+            @Value("${spring.datasource.url}") String url,
+            @Value("${spring.datasource.username}") String username,
+            @Value("${spring.datasource.password}") String password) {
+        if (!CHANNEL_NAME.matcher(channel).matches()) {
+            // LISTEN takes an identifier, not a bind parameter
+            throw new IllegalArgumentException("Invalid cache.invalidation.channel: " + channel);
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.listeners = listeners;
+        this.enabled = enabled;
+        this.channel = channel;
+        this.pollIntervalMs = pollIntervalMs;
+        this.heartbeatIntervalMs = heartbeatIntervalMs;
+        this.heartbeatTimeoutSeconds = heartbeatTimeoutSeconds;
+        this.url = url;
+        this.username = username;
+        this.password = password;
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        running = true;
+        worker = new Thread(this::run, "cache-invalidation-listener");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        if (worker != null) {
+            worker.interrupt();
+            try {
+                worker.join(pollIntervalMs * 2);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    public void publish(InvalidationEvent event) {
+        if (!enabled) {
+            return;
+        }
+        try {
+            jdbcTemplate.queryForList("SELECT pg_notify(?, ?)", channel, nodeId + "|" + event.encode());
+            published.incrementAndGet();
+        } catch (Exception e) {
+            // The write itself succeeded; other nodes catch up on TTL expiry or their next resync
+            publishFailures.incrementAndGet();
+            System.err.println("Cache invalidation publish failed for " + event.encode() + " - " + e.getMessage());
+        }
+    }
+
+    public void publish(InvalidationEvent.EntityType type, Object key) {
+        publish(InvalidationEvent.of(type, key));
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("enabled", enabled);
+        stats.put("connected", connected);
+        stats.put("nodeId", nodeId);
+        stats.put("published", published.get());
+        stats.put("publishFailures", publishFailures.get());
+        stats.put("received", received.get());
+        stats.put("resyncs", resyncs.get());
+        return stats;
+    }
+
+    private void run() {
+        boolean listenedBefore = false;
+        long reconnectDelayMs = 1000;
+        while (running) {
+            try (Connection connection = DriverManager.getConnection(url, listenerProperties())) {
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + channel);
+                }
+                connected = true;
+                reconnectDelayMs = 1000;
+                if (listenedBefore) {
+                    resync();
+                }
+                listenedBefore = true;
+
+                long nextHeartbeat = System.nanoTime() + heartbeatIntervalMs * 1_000_000;
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications((int) pollIntervalMs);
+                    if (notifications != null) {
+                        for (PGNotification notification : notifications) {
+                            dispatch(notification.getParameter());
+                        }
+                    }
+                    if (System.nanoTime() - nextHeartbeat >= 0) {
+                        heartbeat(connection);
+                        nextHeartbeat = System.nanoTime() + heartbeatIntervalMs * 1_000_000;
+                    }
+                }
+            } catch (SQLException e) {
+                if (!running) {
+                    break;
+                }
+                System.err.println("Cache invalidation listener disconnected - " + e.getMessage());
+            } finally {
+                connected = false;
+            }
+            try {
+                Thread.sleep(reconnectDelayMs);
+            } catch (InterruptedException e) {
+                break;
+            }
+            reconnectDelayMs = Math.min(reconnectDelayMs * 2, MAX_RECONNECT_DELAY_MS);
+        }
+    }
+
+    // tcpKeepAlive lets the OS notice a dead peer eventually; socketTimeout bounds the heartbeat
+    // (getNotifications sets its own timeout for each wait and restores this one afterwards)
+    private Properties listenerProperties() {
+        Properties properties = new Properties();
+        properties.setProperty("user", username);
+        properties.setProperty("password", password);
+        properties.setProperty("tcpKeepAlive", "true");
+        properties.setProperty("socketTimeout", String.valueOf(heartbeatTimeoutSeconds));
+        return properties;
+    }
+
+    // Throws SQLException when the server does not answer, which reconnects and resyncs
+    private void heartbeat(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.setQueryTimeout(heartbeatTimeoutSeconds);
+            statement.execute("SELECT 1");
+        }
+    }
+
+    private void dispatch(String payload) {
+        int separator = payload.indexOf('|');
+        if (separator < 0 || payload.substring(0, separator).equals(nodeId)) {
+            return;
+        }
+        received.incrementAndGet();
+        InvalidationEvent event;
+        try {
+            event = InvalidationEvent.decode(payload.substring(separator + 1));
+        } catch (IllegalArgumentException e) {
+            System.err.println("Ignoring cache invalidation event - " + e.getMessage());
+            return;
+        }
+        for (InvalidationListener listener : listeners) {
+            try {
+                listener.onInvalidation(event);
+            } catch (Exception e) {
+                System.err.println("Cache invalidation failed for " + event.encode() + " - " + e.getMessage());
+            }
+        }
+    }
+
+    private void resync() {
+        resyncs.incrementAndGet();
+        for (InvalidationListener listener : listeners) {
+            try {
+                listener.onResync();
+            } catch (Exception e) {
+                System.err.println("Cache resync failed - " + e.getMessage());
+            }
+        }
+    }
+}
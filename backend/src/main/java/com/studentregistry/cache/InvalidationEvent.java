@@ -0,0 +1,50 @@
+package com.studentregistry.cache;
+
+// A change to one row (or, with a null key, any number of rows) of a cached entity type,
+// carried between nodes by CacheInvalidationBus. The key is whatever the caches look the
+// entity up by: username for users, setting key for settings, id for everything else.
+public record InvalidationEvent(EntityType type, String key) {
+
+    private static final String ALL = "*";
+
+    public enum EntityType {
+        USER,
+        ROLE,
+        SETTING,
+        COURSE,
+        TEACHER,
+        STUDENT
+    }
+
+    public static InvalidationEvent of(EntityType type, Object key) {
+        return new InvalidationEvent(type, key != null ? key.toString() : null);
+    }
+
+    // Bulk writes (e.g. CSV imports) send one event instead of one per row
+    public static InvalidationEvent all(EntityType type) {
+        return new InvalidationEvent(type, null);
+    }
+
+    public boolean isAll() {
+        return key == null;
+    }
+
+    public Long keyAsId() {
+        return isAll() ? null : Long.valueOf(key);
+    }
+
+    // "<TYPE>:<key>"; the key is last so it may itself contain ':'
+    public String encode() {
+        return type.name() + ":" + (isAll() ? ALL : key);
+    }
+
+    public static InvalidationEvent decode(String value) {
+        int colon = value.indexOf(':');
+        if (colon < 0) {
+            throw new IllegalArgumentException("Malformed invalidation event: " + value);
+        }
+        EntityType type = EntityType.valueOf(value.substring(0, colon));
+        String key = value.substring(colon + 1);
+        return new InvalidationEvent(type, ALL.equals(key) ? null : key);
+    }
+}
@@ -0,0 +1,12 @@
+package com.studentregistry.cache;
+
+// Implemented by in-process caches that must follow writes made on other nodes.
+// Both callbacks run on the bus listener thread, so they should be quick and thread-safe.
+public interface InvalidationListener {
+
+    void onInvalidation(InvalidationEvent event);
+
+    // Called after the bus reconnects: notifications sent while it was down are lost,
+    // so everything this cache holds has to be treated as stale
+    void onResync();
+}
@@ -0,0 +1,67 @@
+package com.studentregistry.cache;
+
+import com.studentregistry.entity.CacheRegions;
+import com.studentregistry.entity.Course;
+import com.studentregistry.entity.Role;
+import com.studentregistry.entity.Setting;
+import com.studentregistry.entity.Teacher;
+
+import org.hibernate.SessionFactory;
+import org.springframework.stereotype.Component;
+
+import jakarta.persistence.EntityManagerFactory;
+
+// Hibernate keeps the second-level cache (see CacheRegions) coherent for writes made through
+// this node's EntityManager only. This evicts the affected entries when another node writes,
+// or when the database changes a cached row behind Hibernate's back (ON DELETE SET NULL).
+@Component
+public class SecondLevelCacheEvictor implements InvalidationListener {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    public SecondLevelCacheEvictor(EntityManagerFactory entityManagerFactory) {
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    @Override
+    public void onInvalidation(InvalidationEvent event) {
+        evict(event);
+    }
+
+    @Override
+    public void onResync() {
+        entityManagerFactory.getCache().evictAll();
+        SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        sessionFactory.getCache().evictQueryRegions();
+    }
+
+    public void evict(InvalidationEvent event) {
+        switch (event.type()) {
+            case ROLE -> {
+                evict(Role.class, event);
+                evictQueryRegion(CacheRegions.ROLE_BY_NAME);
+            }
+            case COURSE -> {
+                evict(Course.class, event);
+                evictQueryRegion(CacheRegions.COURSES_BY_SEMESTER);
+            }
+            case TEACHER -> evict(Teacher.class, event);
+            // Setting events carry the key, not the id
+            case SETTING -> entityManagerFactory.getCache().evict(Setting.class);
+            default -> {
+            }
+        }
+    }
+
+    private void evict(Class<?> entityClass, InvalidationEvent event) {
+        if (event.isAll()) {
+            entityManagerFactory.getCache().evict(entityClass);
+        } else {
+            entityManagerFactory.getCache().evict(entityClass, event.keyAsId());
+        }
+    }
+
+    private void evictQueryRegion(String region) {
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictQueryRegion(region);
+    }
+}
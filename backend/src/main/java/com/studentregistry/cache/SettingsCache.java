@@ -0,0 +1,137 @@
+package com.studentregistry.cache;
+
+import com.studentregistry.entity.Setting;
+import com.studentregistry.repository.SettingRepository;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Fully materialised, copy-on-write view of the settings table. Readers get a consistent
+// immutable snapshot without locking or a database round trip; every reload builds a new
+// snapshot and swaps it in with one volatile write. SettingServiceImpl reloads after each
+// write on this node; CacheInvalidationBus triggers a reload when another node writes, and the
+// periodic refresh is the fallback if a notification is lost.
+@Component
+public class SettingsCache implements InvalidationListener {
+
+    private record Entry(long id, String key, String value) {
+
+        Setting toSetting() {
+            // Fresh detached copy per call so callers can't mutate the shared snapshot
+            Setting setting = new Setting(key, value);
+            setting.setId(id);
+            return setting;
+        }
+    }
+
+    private record Snapshot(Map<String, Entry> byKey, Map<Long, Entry> byId, List<Entry> ordered) {
+    }
+
+    private final SettingRepository settingRepository;
+    private final Object reloadLock = new Object();
+    private volatile Snapshot snapshot;
+
+    private final AtomicLong reloads = new AtomicLong();
+    private final AtomicLong failedReloads = new AtomicLong();
+
+    public SettingsCache(SettingRepository settingRepository) {
+        this.settingRepository = settingRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        reload();
+    }
+
+    @Scheduled(fixedDelayString = "${settings.cache.refresh-interval-ms:30000}",
+            initialDelayString = "${settings.cache.refresh-interval-ms:30000}")
+    public void refresh() {
+        try {
+            reload();
+        } catch (Exception e) {
+            // Keep serving the last good snapshot; the next tick retries
+            failedReloads.incrementAndGet();
+            System.err.println("Settings cache refresh failed - " + e.getMessage());
+        }
+    }
+
+    // Serialised so a slow reload can't overwrite the result of a newer one
+    public void reload() {
+        synchronized (reloadLock) {
+            List<Setting> settings = settingRepository.findAll();
+            Map<String, Entry> byKey = new HashMap<>();
+            Map<Long, Entry> byId = new HashMap<>();
+            List<Entry> ordered = new ArrayList<>();
+            for (Setting setting : settings) {
+                Entry entry = new Entry(setting.getId(), setting.getKey(), setting.getValue());
+                byKey.put(entry.key(), entry);
+                byId.put(entry.id(), entry);
+                ordered.add(entry);
+            }
+            ordered.sort(Comparator.comparingLong(Entry::id));
+            snapshot = new Snapshot(Map.copyOf(byKey), Map.copyOf(byId), List.copyOf(ordered));
+            reloads.incrementAndGet();
+        }
+    }
+
+    @Override
+    public void onInvalidation(InvalidationEvent event) {
+        if (event.type() == InvalidationEvent.EntityType.SETTING) {
+            reload();
+        }
+    }
+
+    @Override
+    public void onResync() {
+        reload();
+    }
+
+    public List<Setting> getAll() {
+        return current().ordered().stream().map(Entry::toSetting).toList();
+    }
+
+    public Optional<Setting> getByKey(String key) {
+        return Optional.ofNullable(current().byKey().get(key)).map(Entry::toSetting);
+    }
+
+    public Optional<Setting> getById(long id) {
+        return Optional.ofNullable(current().byId().get(id)).map(Entry::toSetting);
+    }
+
+    public Optional<String> getValue(String key) {
+        Entry entry = current().byKey().get(key);
+        return entry != null ? Optional.ofNullable(entry.value()) : Optional.empty();
+    }
+
+    public boolean containsKey(String key) {
+        return current().byKey().containsKey(key);
+    }
+
+    public Map<String, Object> getStats() {
+        Snapshot current = snapshot;
+        return Map.of(
+                "size", current != null ? current.byKey().size() : 0,
+                "reloads", reloads.get(),
+                "failedReloads", failedReloads.get());
+    }
+
+    // Read-through until the first load has happened (e.g. a request racing startup)
+    private Snapshot current() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            reload();
+            current = snapshot;
+        }
+        return current;
+    }
+}
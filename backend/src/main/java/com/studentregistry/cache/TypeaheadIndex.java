@@ -0,0 +1,345 @@
+package com.studentregistry.cache;
+
+import com.studentregistry.dto.Suggestion;
+import com.studentregistry.entity.Course;
+import com.studentregistry.entity.Student;
+import com.studentregistry.repository.CourseRepository;
+import com.studentregistry.repository.StudentRepository;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+// In-process prefix index behind the student and course pickers. Each entity contributes a few
+// normalised keys (first name, last name, full name, email / course code, course name) to a
+// sorted map per type, so a top-k prefix query is one range scan and never touches PostgreSQL.
+// Loaded at startup; StudentServiceImpl, CourseServiceImpl and ImportServiceImpl keep it current,
+// and CacheInvalidationBus replays their writes from other nodes.
+@Component
+public class TypeaheadIndex implements InvalidationListener {
+
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+
+    private record EntityKey(Suggestion.Type type, long id) {
+    }
+
+    // suggestion == null is a tombstone: the entity was deleted while a snapshot load was running
+    private record Entry(Suggestion suggestion, Set<String> keys, long version) {
+    }
+
+    private record Indexed(Suggestion suggestion, Set<String> keys) {
+    }
+
+    private record Hit(String key, Suggestion suggestion) {
+    }
+
+    private final StudentRepository studentRepository;
+    private final CourseRepository courseRepository;
+
+    // "<normalised key>\0<id>" -> id. The suffix keeps keys unique per entity while equal
+    // prefixes still sort together, shortest (closest) match first.
+    private final Map<Suggestion.Type, ConcurrentSkipListMap<String, Long>> keysByType =
+            new EnumMap<>(Suggestion.Type.class);
+    private final ConcurrentHashMap<EntityKey, Entry> entries = new ConcurrentHashMap<>();
+    private volatile boolean loaded;
+
+    // Service writes and removals take the next version. A snapshot load remembers the version it
+    // started at and never overwrites, resurrects or drops an entry written after that.
+    private final AtomicLong versions = new AtomicLong();
+    private final Object loadLock = new Object();
+    private int loadsInProgress;
+
+    public TypeaheadIndex(StudentRepository studentRepository, CourseRepository courseRepository) {
+        this.studentRepository = studentRepository;
+        this.courseRepository = courseRepository;
+        for (Suggestion.Type type : Suggestion.Type.values()) {
+            keysByType.put(type, new ConcurrentSkipListMap<>());
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        long start = beginLoad();
+        try {
+            for (Object[] row : studentRepository.findTypeaheadRows()) {
+                putFromSnapshot(studentRow(row), start);
+            }
+            for (Object[] row : courseRepository.findTypeaheadRows()) {
+                putFromSnapshot(courseRow(row), start);
+            }
+        } finally {
+            endLoad();
+        }
+        loaded = true;
+    }
+
+    @Override
+    public void onInvalidation(InvalidationEvent event) {
+        switch (event.type()) {
+            case STUDENT -> {
+                if (event.isAll()) {
+                    reloadStudents();
+                } else {
+                    refreshStudent(event.keyAsId());
+                }
+            }
+            case COURSE -> {
+                if (event.isAll()) {
+                    reloadCourses();
+                } else {
+                    refreshCourse(event.keyAsId());
+                }
+            }
+            default -> {
+            }
+        }
+    }
+
+    @Override
+    public void onResync() {
+        reloadStudents();
+        reloadCourses();
+    }
+
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    public void putStudent(Student student) {
+        putStudent(student.getId(), student.getFirstName(), student.getLastName(), student.getEmail());
+    }
+
+    public void putStudent(long id, String firstName, String lastName, String email) {
+        put(student(id, firstName, lastName, email));
+    }
+
+    public void putCourse(Course course) {
+        putCourse(course.getId(), course.getCourseCode(), course.getSection(), course.getCourseName(),
+                course.getSemester());
+    }
+
+    public void putCourse(long id, String courseCode, String section, String courseName, String semester) {
+        put(course(id, courseCode, section, courseName, semester));
+    }
+
+    // While a load is running the removal leaves a tombstone, so the load's older snapshot
+    // cannot bring the entity back
+    public void remove(Suggestion.Type type, long id) {
+        long version;
+        boolean tombstone;
+        synchronized (loadLock) {
+            version = versions.incrementAndGet();
+            tombstone = loadsInProgress > 0;
+        }
+        entries.compute(new EntityKey(type, id), (key, old) -> {
+            if (old != null) {
+                unlink(type, id, old.keys());
+            }
+            return tombstone ? new Entry(null, Set.of(), version) : null;
+        });
+    }
+
+    // Top-k entities having any key that starts with the normalised prefix
+    public List<Suggestion> suggest(String prefix, Set<Suggestion.Type> types, int limit) {
+        String p = normalize(prefix);
+        if (p.isEmpty() || limit < 1) {
+            return List.of();
+        }
+        List<Hit> hits = new ArrayList<>();
+        for (Suggestion.Type type : types) {
+            Set<Long> seen = new HashSet<>();
+            for (Map.Entry<String, Long> match : keysByType.get(type)
+                    .subMap(p, true, p + Character.MAX_VALUE, false).entrySet()) {
+                if (!seen.add(match.getValue())) {
+                    continue;
+                }
+                Entry entry = entries.get(new EntityKey(type, match.getValue()));
+                if (entry != null && entry.suggestion() != null) {
+                    hits.add(new Hit(match.getKey(), entry.suggestion()));
+                }
+                if (seen.size() >= limit) {
+                    break;
+                }
+            }
+        }
+        hits.sort(Comparator.comparing(Hit::key));
+        return hits.stream().limit(limit).map(Hit::suggestion).toList();
+    }
+
+    public int size() {
+        return (int) entries.values().stream().filter(entry -> entry.suggestion() != null).count();
+    }
+
+    public static String normalize(String value) {
+        if (value == null) {
+            return "";
+        }
+        String decomposed = Normalizer.normalize(value.trim(), Normalizer.Form.NFD);
+        return DIACRITICS.matcher(decomposed).replaceAll("").toLowerCase(Locale.ROOT).replaceAll("\\s+", " ");
+    }
+
+    private void put(Indexed item) {
+        write(item, versions.incrementAndGet(), Long.MAX_VALUE);
+    }
+
+    // Skips the row if a service write or removal newer than the snapshot got there first
+    private void putFromSnapshot(Indexed item, long snapshotVersion) {
+        write(item, snapshotVersion, snapshotVersion);
+    }
+
+    private void write(Indexed item, long version, long overwriteUpTo) {
+        Suggestion suggestion = item.suggestion();
+        entries.compute(new EntityKey(suggestion.type(), suggestion.id()), (key, old) -> {
+            if (old != null) {
+                if (old.version() > overwriteUpTo) {
+                    return old;
+                }
+                unlink(suggestion.type(), suggestion.id(), old.keys());
+            }
+            ConcurrentSkipListMap<String, Long> index = keysByType.get(suggestion.type());
+            for (String k : item.keys()) {
+                index.put(k + '\0' + suggestion.id(), suggestion.id());
+            }
+            return new Entry(suggestion, item.keys(), version);
+        });
+    }
+
+    private long beginLoad() {
+        synchronized (loadLock) {
+            loadsInProgress++;
+            return versions.get();
+        }
+    }
+
+    // Tombstones are only needed while some load might still see the deleted row
+    private void endLoad() {
+        synchronized (loadLock) {
+            if (--loadsInProgress == 0) {
+                entries.values().removeIf(entry -> entry.suggestion() == null);
+            }
+        }
+    }
+
+    private static Indexed student(long id, String firstName, String lastName, String email) {
+        String name = join(" ", firstName, lastName);
+        return new Indexed(new Suggestion(Suggestion.Type.STUDENT, id, name, email),
+                keys(firstName, lastName, name, email));
+    }
+
+    private static Indexed course(long id, String courseCode, String section, String courseName, String semester) {
+        String label = join(" - ", courseCode, courseName);
+        String detail = join(", ", semester, section != null ? "section " + section : null);
+        return new Indexed(new Suggestion(Suggestion.Type.COURSE, id, label, detail),
+                keys(courseCode, courseName, join(" ", courseCode, section)));
+    }
+
+    // findTypeaheadRows: id, first name, last name, email
+    private static Indexed studentRow(Object[] row) {
+        return student(((Number) row[0]).longValue(), (String) row[1], (String) row[2], (String) row[3]);
+    }
+
+    // findTypeaheadRows: id, course code, section, course name, semester
+    private static Indexed courseRow(Object[] row) {
+        return course(((Number) row[0]).longValue(), (String) row[1], (String) row[2], (String) row[3],
+                (String) row[4]);
+    }
+
+    private void refreshStudent(long id) {
+        studentRepository.findById(id).ifPresentOrElse(this::putStudent,
+                () -> remove(Suggestion.Type.STUDENT, id));
+    }
+
+    private void refreshCourse(long id) {
+        courseRepository.findById(id).ifPresentOrElse(this::putCourse,
+                () -> remove(Suggestion.Type.COURSE, id));
+    }
+
+    // Unlike load(), also drops the entries whose row is gone
+    private void reloadStudents() {
+        long start = beginLoad();
+        try {
+            Set<Long> seen = new HashSet<>();
+            for (Object[] row : studentRepository.findTypeaheadRows()) {
+                Indexed item = studentRow(row);
+                seen.add(item.suggestion().id());
+                putFromSnapshot(item, start);
+            }
+            removeMissing(Suggestion.Type.STUDENT, seen, start);
+        } finally {
+            endLoad();
+        }
+    }
+
+    private void reloadCourses() {
+        long start = beginLoad();
+        try {
+            Set<Long> seen = new HashSet<>();
+            for (Object[] row : courseRepository.findTypeaheadRows()) {
+                Indexed item = courseRow(row);
+                seen.add(item.suggestion().id());
+                putFromSnapshot(item, start);
+            }
+            removeMissing(Suggestion.Type.COURSE, seen, start);
+        } finally {
+            endLoad();
+        }
+    }
+
+    // Entities created after the snapshot was taken are not in it, but are not gone either
+    private void removeMissing(Suggestion.Type type, Set<Long> seen, long snapshotVersion) {
+        for (EntityKey key : entries.keySet()) {
+            if (key.type() == type && !seen.contains(key.id())) {
+                entries.computeIfPresent(key, (k, old) -> {
+                    if (old.version() > snapshotVersion) {
+                        return old;
+                    }
+                    unlink(type, key.id(), old.keys());
+                    return null;
+                });
+            }
+        }
+    }
+
+    private void unlink(Suggestion.Type type, long id, Set<String> keys) {
+        ConcurrentSkipListMap<String, Long> index = keysByType.get(type);
+        for (String k : keys) {
+            index.remove(k + '\0' + id);
+        }
+    }
+
+    private static Set<String> keys(String... values) {
+        Set<String> keys = new LinkedHashSet<>();
+        for (String value : values) {
+            String normalized = normalize(value);
+            if (!normalized.isEmpty()) {
+                keys.add(normalized);
+            }
+        }
+        return keys;
+    }
+
+    private static String join(String separator, String... parts) {
+        List<String> present = new ArrayList<>();
+        for (String part : parts) {
+            if (part != null && !part.isBlank()) {
+                present.add(part);
+            }
+        }
+        return String.join(separator, present);
+    }
+}
@@ -0,0 +1,234 @@
+package com.studentregistry.cache;
+
+import com.studentregistry.dto.UserResponseDTO;
+import com.studentregistry.entity.User;
+import com.studentregistry.repository.UserRepository;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Bounded, TTL-evicting cache of users keyed by username. Holds an immutable snapshot
+// rather than the entity so cached values can be shared safely between threads.
+// Writers (UserServiceImpl, TeacherServiceImpl, AuthServiceImpl) invalidate explicitly; writes on
+// other nodes arrive through CacheInvalidationBus.
+@Component
+public class UserLookupCache implements InvalidationListener {
+
+    private final UserRepository userRepository;
+    private final int maxSize;
+    private final long ttlMillis;
+
+    // Access-ordered so the least recently used entry is evicted first
+    private final LinkedHashMap<String, Entry> entries;
+
+    // Bumped on every invalidation so a load that raced with a write is not cached
+    private final AtomicLong generation = new AtomicLong();
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    public UserLookupCache(UserRepository userRepository,
+            @Value("${user.cache.max-size:10000}") int maxSize,
+            @Value("${user.cache.ttl-seconds:300}") long ttlSeconds) {
+        this.userRepository = userRepository;
+        this.maxSize = maxSize;
+        this.ttlMillis = ttlSeconds * 1000;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                if (size() > UserLookupCache.this.maxSize) {
+                    evictions.incrementAndGet();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    // Returns the user for this username, loading it from the database on a miss
+    public Optional<CachedUser> get(String username) {
+        if (username == null || username.isEmpty()) {
+            return Optional.empty();
+        }
+        CachedUser cached = getIfPresent(username);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        long loadGeneration = generation.get();
+        Optional<User> user = userRepository.findByUsername(username);
+        user.ifPresent(u -> put(u, loadGeneration));
+        return user.map(CachedUser::new);
+    }
+
+    public Optional<Long> getUserId(String username) {
+        return get(username).map(CachedUser::getId);
+    }
+
+    // Returns the cached user without touching the database, or null
+    public CachedUser getIfPresent(String username) {
+        synchronized (entries) {
+            Entry entry = entries.get(username);
+            if (entry == null) {
+                misses.incrementAndGet();
+                return null;
+            }
+            if (entry.expiresAt < System.currentTimeMillis()) {
+                entries.remove(username);
+                evictions.incrementAndGet();
+                misses.incrementAndGet();
+                return null;
+            }
+            hits.incrementAndGet();
+            return entry.user;
+        }
+    }
+
+    // Read before querying the database and pass to put(), so a write that lands between the
+    // query and the put discards the loaded user instead of caching it for the full TTL
+    public long currentGeneration() {
+        return generation.get();
+    }
+
+    public void invalidate(String username) {
+        if (username == null) {
+            return;
+        }
+        generation.incrementAndGet();
+        synchronized (entries) {
+            entries.remove(username);
+        }
+    }
+
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    @Override
+    public void onInvalidation(InvalidationEvent event) {
+        switch (event.type()) {
+            case USER -> {
+                if (event.isAll()) {
+                    invalidateAll();
+                } else {
+                    invalidate(event.key());
+                }
+            }
+            // Cached users carry their role name
+            case ROLE -> invalidateAll();
+            default -> {
+            }
+        }
+    }
+
+    @Override
+    public void onResync() {
+        invalidateAll();
+    }
+
+    public Map<String, Object> getStats() {
+        long hitCount = hits.get();
+        long missCount = misses.get();
+        long lookups = hitCount + missCount;
+        Map<String, Object> stats = new LinkedHashMap<>();
+        synchronized (entries) {
+            stats.put("size", entries.size());
+        }
+        stats.put("maxSize", maxSize);
+        stats.put("ttlSeconds", ttlMillis / 1000);
+        stats.put("hits", hitCount);
+        stats.put("misses", missCount);
+        stats.put("evictions", evictions.get());
+        stats.put("hitRate", lookups > 0 ? (double) hitCount / lookups : 0.0);
+        return stats;
+    }
+
+    public void put(User user, long loadGeneration) {
+        if (user.getUsername() == null) {
+            return;
+        }
+        synchronized (entries) {
+            if (generation.get() != loadGeneration) {
+                return;
+            }
+            entries.put(user.getUsername(), new Entry(new CachedUser(user), System.currentTimeMillis() + ttlMillis));
+        }
+    }
+
+    private static final class Entry {
+        private final CachedUser user;
+        private final long expiresAt;
+
+        private Entry(CachedUser user, long expiresAt) {
+            this.user = user;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    public static final class CachedUser {
+        private final long id;
+        private final String username;
+        private final String email;
+        private final String passwordHash;
+        private final String roleName;
+        private final User.Status status;
+        private final LocalDateTime createdAt;
+        private final LocalDateTime updatedAt;
+
+        private CachedUser(User user) {
+            this.id = user.getId();
+            this.username = user.getUsername();
+            this.email = user.getEmail();
+            this.passwordHash = user.getPasswordHash();
+            this.roleName = user.getRole() != null ? user.getRole().getName() : null;
+            this.status = user.getStatus();
+            this.createdAt = user.getCreatedAt();
+            this.updatedAt = user.getUpdatedAt();
+        }
+
+        public long getId() {
+            return id;
+        }
+
+        public String getUsername() {
+            return username;
+        }
+
+        public String getEmail() {
+            return email;
+        }
+
+        public String getPasswordHash() {
+            return passwordHash;
+        }
+
+        public String getRoleName() {
+            return roleName;
+        }
+
+        public User.Status getStatus() {
+            return status;
+        }
+
+        public UserResponseDTO toResponseDTO() {
+            UserResponseDTO dto = new UserResponseDTO();
+            dto.setId(id);
+            dto.setUsername(username);
+            dto.setEmail(email);
+            dto.setRoleName(roleName);
+            dto.setStatus(status);
+            dto.setCreatedAt(createdAt);
+            dto.setUpdatedAt(updatedAt);
+            return dto;
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.studentregistry.config;
+
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+// Fails startup when an index the repository queries rely on is missing or invalid (e.g. a
+// half-built CREATE INDEX CONCURRENTLY), instead of silently degrading to sequential scans.
+// Keep in sync with db/migration.
+// Runs while the context is being built: Boot initializes JdbcTemplate after Flyway, and the web
+// server only starts accepting connections once every bean is ready, so a failure here means the
+// node never takes traffic.
+@Component
+public class SchemaIndexVerifier implements InitializingBean {
+
+    static final List<String> EXPECTED_INDEXES = List.of(
+            "idx_enrollments_course_student",
+            "idx_absences_course_date",
+            "idx_absences_date",
+            "idx_logs_timestamp",
+            "idx_logs_user_timestamp",
+            "idx_logs_action_id",
+            "idx_students_department_year",
+            "idx_students_enrollment_year",
+            "idx_courses_semester_department",
+            "idx_courses_department",
+            "idx_courses_teacher",
+            "idx_teachers_email",
+            "idx_teachers_department",
+            "idx_users_role",
+            "idx_students_name_trgm",
+            "idx_teachers_name_trgm",
+            "idx_courses_code_name_trgm");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+
+    public SchemaIndexVerifier(JdbcTemplate jdbcTemplate,
+            @Value("${schema.index-check.enabled:true}") boolean enabled) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = enabled;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        if (!enabled) {
+            return;
+        }
+        Set<String> present = new HashSet<>(jdbcTemplate.queryForList(
+                "SELECT c.relname FROM pg_index i " +
+                "JOIN pg_class c ON c.oid = i.indexrelid " +
+                "JOIN pg_namespace n ON n.oid = c.relnamespace " +
+                "WHERE n.nspname = current_schema() AND i.indisvalid",
+                String.class));
+        List<String> missing = EXPECTED_INDEXES.stream().filter(name -> !present.contains(name)).toList();
+        if (!missing.isEmpty()) {
+            throw new IllegalStateException("Missing or invalid database indexes: " + String.join(", ", missing)
+                    + ". Run the Flyway migrations or set schema.index-check.enabled=false.");
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.studentregistry.config;
 
 import com.studentregistry.filter.JwtAuthenticationFilter;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -30,9 +31,11 @@ public class SecurityConfig {
         this.jwtAuthenticationFilter = jwtAuthenticationFilter;
     }
 
+    // 0 = one hash per available core
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${auth.password-hash.max-concurrent:0}") int maxConcurrent) {
+        int permits = maxConcurrent > 0 ? maxConcurrent : Runtime.getRuntime().availableProcessors();
+        return new BoundedPasswordEncoder(new BCryptPasswordEncoder(), permits);
     }
 
     @Bean
@@ -50,6 +53,8 @@ public class SecurityConfig {
                 // Public endpoints
                 .requestMatchers("/api/auth/**").permitAll()
                 .requestMatchers("/swagger-ui/**", "/v3/api-docs/**", "/docs/**", "/swagger-ui.html").permitAll()
+                // Served on management.server.port only, which is not exposed with the API
+                .requestMatchers("/actuator/health/**", "/actuator/prometheus").permitAll()
                 
                 // Admin only endpoints
                 .requestMatchers("/api/users/**").hasRole("ADMIN")
@@ -59,6 +64,7 @@ public class SecurityConfig {
                 .requestMatchers(HttpMethod.DELETE, "/api/settings/**").hasRole("ADMIN")
                 .requestMatchers(HttpMethod.GET, "/api/settings/**").hasAnyRole("ADMIN", "TEACHER")
                 .requestMatchers("/api/logs/**").hasRole("ADMIN")
+                .requestMatchers("/api/cache/**").hasRole("ADMIN")
                 
                 // Admin and Teacher endpoints
                 .requestMatchers(HttpMethod.POST, "/api/courses/**").hasAnyRole("ADMIN", "TEACHER")
@@ -66,6 +72,8 @@ public class SecurityConfig {
                 .requestMatchers(HttpMethod.DELETE, "/api/courses/**").hasAnyRole("ADMIN", "TEACHER")
                 .requestMatchers("/api/students/**").hasAnyRole("ADMIN", "TEACHER")
                 .requestMatchers("/api/teachers/**").hasAnyRole("ADMIN", "TEACHER")
+                .requestMatchers("/api/search/**").hasAnyRole("ADMIN", "TEACHER")
+                .requestMatchers("/api/suggest/**").hasAnyRole("ADMIN", "TEACHER")
                 .requestMatchers(HttpMethod.POST, "/api/enrollments").hasRole("ADMIN")
                 .requestMatchers(HttpMethod.DELETE, "/api/enrollments").hasRole("ADMIN")
                 .requestMatchers(HttpMethod.GET, "/api/enrollments/**").hasAnyRole("ADMIN", "TEACHER")
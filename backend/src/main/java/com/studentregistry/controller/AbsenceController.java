@@ -1,48 +1,103 @@
 package com.studentregistry.controller;
 
+import com.studentregistry.dto.AbsenceRow;
+import com.studentregistry.dto.ExportFormat;
+import com.studentregistry.dto.IncludeTotal;
+import com.studentregistry.dto.ListView;
 import com.studentregistry.dto.PaginatedResponse;
 import com.studentregistry.entity.Absence;
 import com.studentregistry.service.AbsenceService;
+import com.studentregistry.service.ExportService;
+import com.studentregistry.util.CursorCodec;
+import com.studentregistry.util.StreamingExport;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
 
 @RestController
 @RequestMapping("/api/absences")
 public class AbsenceController {
 
     private final AbsenceService absenceService;
+    private final ExportService exportService;
 
-    public AbsenceController(AbsenceService absenceService) {
+    public AbsenceController(AbsenceService absenceService, ExportService exportService) {
         this.absenceService = absenceService;
+        this.exportService = exportService;
     }
 
     @GetMapping
     @Operation(summary = "Get all absences with pagination")
-    public PaginatedResponse<Absence> getAllAbsences(
+    public PaginatedResponse<?> getAllAbsences(
             @Parameter(description = "Filter by student ID") @RequestParam(required = false) Long studentId,
             @Parameter(description = "Filter by course ID") @RequestParam(required = false) Long courseId,
             @Parameter(description = "Filter from date") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dateFrom,
             @Parameter(description = "Filter to date") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dateTo,
             @Parameter(description = "Page number (1-based)") @RequestParam(defaultValue = "1") int page,
+            @Parameter(description = "Keyset cursor from a previous nextCursor; pass empty to start. Skips the total count") @RequestParam(required = false) String after,
+            @Parameter(description = "How to compute total: exact (default), estimate (planner statistics) or none") @RequestParam(defaultValue = "exact") String includeTotal,
+            @Parameter(description = "Row shape: full entities (default) or summary rows") @RequestParam(defaultValue = "full") String view,
             @Parameter(description = "Number of items per page") @RequestParam(defaultValue = "10") int limit) {
         
+        boolean summary = ListView.fromString(view) == ListView.SUMMARY;
+
+        if (after != null) {
+            // Cursor is the (studentId, courseId, date) primary key of the last absence returned
+            String[] key = CursorCodec.decode(after, 3);
+            Long afterStudentId = key != null ? CursorCodec.parseLong(key[0]) : null;
+            Long afterCourseId = key != null ? CursorCodec.parseLong(key[1]) : null;
+            LocalDate afterDate = key != null ? CursorCodec.parseDate(key[2]) : null;
+            if (summary) {
+                List<AbsenceRow> rows = absenceService.getFilteredAbsenceRowsAfter(studentId, courseId, dateFrom, dateTo,
+                        afterStudentId, afterCourseId, afterDate, limit);
+                return PaginatedResponse.fromKeyset(rows, limit,
+                        a -> CursorCodec.encode(a.studentId(), a.courseId(), a.date()));
+            }
+            List<Absence> rows = absenceService.getFilteredAbsencesAfter(studentId, courseId, dateFrom, dateTo,
+                    afterStudentId, afterCourseId, afterDate, limit);
+            return PaginatedResponse.fromKeyset(rows, limit,
+                    a -> CursorCodec.encode(a.getStudent().getId(), a.getCourse().getId(), a.getDate()));
+        }
+
         Pageable pageable = PageRequest.of(page - 1, limit, Sort.by("student.id", "course.id", "date"));
-        Page<Absence> absences = absenceService.getFilteredAbsences(studentId, courseId, dateFrom, dateTo, pageable);
+        IncludeTotal totalMode = IncludeTotal.fromString(includeTotal);
+        Optional<Long> estimate = totalMode == IncludeTotal.ESTIMATE
+                ? absenceService.estimateFilteredAbsences(studentId, courseId, dateFrom, dateTo) : Optional.empty();
+        if (totalMode == IncludeTotal.NONE || estimate.isPresent()) {
+            Slice<?> absences = summary
+                    ? absenceService.getFilteredAbsenceRowsSlice(studentId, courseId, dateFrom, dateTo, pageable)
+                    : absenceService.getFilteredAbsencesSlice(studentId, courseId, dateFrom, dateTo, pageable);
+            return PaginatedResponse.fromSlice(absences, estimate.orElse(null));
+        }
+
+        Page<?> absences = summary
+                ? absenceService.getFilteredAbsenceRows(studentId, courseId, dateFrom, dateTo, pageable)
+                : absenceService.getFilteredAbsences(studentId, courseId, dateFrom, dateTo, pageable);
         return PaginatedResponse.fromPage(absences);
     }
 
+    @GetMapping("/export")
+    @Operation(summary = "Stream all absences as CSV or NDJSON")
+    public ResponseEntity<StreamingResponseBody> exportAbsences(
+            @Parameter(description = "Output format: csv (default) or ndjson") @RequestParam(defaultValue = "csv") String format) {
+        ExportFormat exportFormat = ExportFormat.fromString(format);
+        return StreamingExport.response(exportFormat, "absences", out -> exportService.exportAbsences(exportFormat, out));
+    }
+
     @PostMapping
     @PreAuthorize("hasRole('ADMIN') or hasRole('TEACHER')")
     public Absence createAbsence(@RequestBody Absence absence) {
@@ -102,9 +157,13 @@ public class AbsenceController {
     }
 
     @GetMapping("/date-range")
-    public List<Absence> getAbsencesByDateRange(
+    public List<?> getAbsencesByDateRange(
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
-            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @Parameter(description = "Row shape: full entities (default) or summary rows") @RequestParam(defaultValue = "full") String view) {
+        if (ListView.fromString(view) == ListView.SUMMARY) {
+            return absenceService.getAbsenceRowsByDateRange(startDate, endDate);
+        }
         return absenceService.getAbsencesByDateRange(startDate, endDate);
     }
 
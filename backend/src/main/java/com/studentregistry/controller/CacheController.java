@@ -0,0 +1,29 @@
+package com.studentregistry.controller;
+
+import com.studentregistry.service.CacheService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/cache")
+@PreAuthorize("hasRole('ADMIN')")
+public class CacheController {
+
+    private final CacheService cacheService;
+
+    public CacheController(CacheService cacheService) {
+        this.cacheService = cacheService;
+    }
+
+    @GetMapping("/stats")
+    @Operation(summary = "Get second-level, query cache, settings cache and invalidation bus statistics")
+    public Map<String, Object> getStats() {
+        return cacheService.getStats();
+    }
+}
@@ -1,14 +1,23 @@
 package com.studentregistry.controller;
 
+import com.studentregistry.dto.AttendanceRow;
+import com.studentregistry.dto.CourseRow;
 import com.studentregistry.dto.CreateCourseDTO;
 import com.studentregistry.dto.DTOMapper;
+import com.studentregistry.dto.IncludeTotal;
+import com.studentregistry.dto.ListView;
 import com.studentregistry.dto.PaginatedResponse;
+import com.studentregistry.dto.ResourceVersion;
+import com.studentregistry.dto.RollCallResult;
 import com.studentregistry.entity.Course;
 import com.studentregistry.entity.Enrollment;
 import com.studentregistry.entity.Absence;
 import com.studentregistry.service.CourseService;
 import com.studentregistry.service.EnrollmentService;
 import com.studentregistry.service.AbsenceService;
+import com.studentregistry.service.ResourceVersionService;
+import com.studentregistry.util.CursorCodec;
+import com.studentregistry.util.ConditionalGet;
 
 import jakarta.validation.Valid;
 
@@ -17,13 +26,17 @@ import io.swagger.v3.oas.annotations.Parameter;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 @RestController
 @RequestMapping("/api/courses")
@@ -33,32 +46,75 @@ public class CourseController {
     private final DTOMapper dtoMapper;
     private final EnrollmentService enrollmentService;
     private final AbsenceService absenceService;
+    private final ResourceVersionService resourceVersionService;
 
     public CourseController(CourseService courseService, DTOMapper dtoMapper,
-                          EnrollmentService enrollmentService, AbsenceService absenceService) {
+                          EnrollmentService enrollmentService, AbsenceService absenceService,
+                          ResourceVersionService resourceVersionService) {
         this.courseService = courseService;
         this.dtoMapper = dtoMapper;
         this.enrollmentService = enrollmentService;
         this.absenceService = absenceService;
+        this.resourceVersionService = resourceVersionService;
     }
 
     @GetMapping
     @Operation(summary = "Get all courses with filtering and pagination")
-    public PaginatedResponse<Course> getAllCourses(
+    public PaginatedResponse<?> getAllCourses(
             @Parameter(description = "Filter by course name (partial match)") @RequestParam(required = false) String name,
             @Parameter(description = "Filter by department") @RequestParam(required = false) String department,
             @Parameter(description = "Filter by semester") @RequestParam(required = false) String semester,
             @Parameter(description = "Filter by teacher ID") @RequestParam(required = false) Long teacherId,
             @Parameter(description = "Page number (1-based)") @RequestParam(defaultValue = "1") int page,
-            @Parameter(description = "Number of items per page") @RequestParam(defaultValue = "10") int limit) {
+            @Parameter(description = "Keyset cursor from a previous nextCursor; pass empty to start. Skips the total count") @RequestParam(required = false) String after,
+            @Parameter(description = "How to compute total: exact (default), estimate (planner statistics) or none") @RequestParam(defaultValue = "exact") String includeTotal,
+            @Parameter(description = "Row shape: full entities (default) or summary rows") @RequestParam(defaultValue = "full") String view,
+            @Parameter(description = "Number of items per page") @RequestParam(defaultValue = "10") int limit,
+            ServletWebRequest request) {
+        if (ConditionalGet.notModified(request, resourceVersionService.forTables(ResourceVersionService.COURSES,
+                ResourceVersionService.TEACHERS, ResourceVersionService.USERS, ResourceVersionService.ROLES))) {
+            return null;
+        }
         
+        boolean summary = ListView.fromString(view) == ListView.SUMMARY;
+
+        if (after != null) {
+            Long afterId = CursorCodec.decodeId(after);
+            if (summary) {
+                List<CourseRow> rows = courseService.getFilteredCourseRowsAfter(name, department, semester, teacherId,
+                        afterId, limit);
+                return PaginatedResponse.fromKeyset(rows, limit, c -> CursorCodec.encode(c.id()));
+            }
+            List<Course> rows = courseService.getFilteredCoursesAfter(name, department, semester, teacherId,
+                    afterId, limit);
+            return PaginatedResponse.fromKeyset(rows, limit, c -> CursorCodec.encode(c.getId()));
+        }
+
         Pageable pageable = PageRequest.of(page - 1, limit, Sort.by("id")); // Convert to 0-based, sorted by ID
-        Page<Course> courses = courseService.getFilteredCourses(name, department, semester, teacherId, pageable);
+        IncludeTotal totalMode = IncludeTotal.fromString(includeTotal);
+        Optional<Long> estimate = totalMode == IncludeTotal.ESTIMATE
+                ? courseService.estimateFilteredCourses(name, department, semester, teacherId) : Optional.empty();
+        if (totalMode == IncludeTotal.NONE || estimate.isPresent()) {
+            Slice<?> courses = summary
+                    ? courseService.getFilteredCourseRowsSlice(name, department, semester, teacherId, pageable)
+                    : courseService.getFilteredCoursesSlice(name, department, semester, teacherId, pageable);
+            return PaginatedResponse.fromSlice(courses, estimate.orElse(null));
+        }
+
+        Page<?> courses = summary
+                ? courseService.getFilteredCourseRows(name, department, semester, teacherId, pageable)
+                : courseService.getFilteredCourses(name, department, semester, teacherId, pageable);
         return PaginatedResponse.fromPage(courses);
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<Course> getCourseById(@PathVariable Long id) {
+    public ResponseEntity<Course> getCourseById(@PathVariable Long id, ServletWebRequest request) {
+        // The body embeds the teacher, its user and the user's role
+        Optional<ResourceVersion> version = resourceVersionService.forRow(ResourceVersionService.COURSES, id,
+                ResourceVersionService.TEACHERS, ResourceVersionService.USERS, ResourceVersionService.ROLES);
+        if (version.isPresent() && ConditionalGet.notModified(request, version.get())) {
+            return null;
+        }
         return courseService.getCourseById(id)
                 .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
@@ -162,6 +218,22 @@ public class CourseController {
         return ResponseEntity.ok(PaginatedResponse.fromPage(absences));
     }
 
+    @GetMapping("/{id}/attendance")
+    @Operation(summary = "Get absence counts for every enrolled student of a course")
+    public ResponseEntity<List<AttendanceRow>> getCourseAttendance(@PathVariable Long id) {
+        if (courseService.getCourseById(id).isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(absenceService.getCourseAttendance(id));
+    }
+
+    @PostMapping("/attendance/rebuild")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Recompute the attendance statistics from the absence records")
+    public ResponseEntity<Map<String, Integer>> rebuildAttendanceStats() {
+        return ResponseEntity.ok(Map.of("corrected", absenceService.rebuildAttendanceStats()));
+    }
+
     @PutMapping("/{courseId}/students/{studentId}/grade")
     @PreAuthorize("hasRole('ADMIN') or hasRole('TEACHER')")
     public ResponseEntity<?> updateStudentGrade(
@@ -193,6 +265,23 @@ public class CourseController {
         }
     }
 
+    @PostMapping("/{courseId}/absences/roll-call")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('TEACHER')")
+    @Operation(summary = "Record absences for a list of students on one date in a single transaction")
+    public ResponseEntity<?> recordRollCall(
+            @PathVariable Long courseId,
+            @RequestBody RollCallRequest request,
+            Authentication authentication) {
+        try {
+            String username = authentication != null ? authentication.getName() : null;
+            RollCallResult result = absenceService.recordRollCall(courseId, request.getDate(),
+                    request.getStudentIds() != null ? request.getStudentIds() : List.of(), username);
+            return ResponseEntity.ok(result);
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
     @DeleteMapping("/{courseId}/absences")
     @PreAuthorize("hasRole('ADMIN') or hasRole('TEACHER')")
     public ResponseEntity<?> removeAbsenceRecord(
@@ -221,6 +310,28 @@ public class CourseController {
         }
     }
 
+    // Inner class for roll-call request
+    public static class RollCallRequest {
+        private String date; // ISO date string
+        private List<Long> studentIds; // students absent on that date
+        
+        public String getDate() {
+            return date;
+        }
+        
+        public void setDate(String date) {
+            this.date = date;
+        }
+        
+        public List<Long> getStudentIds() {
+            return studentIds;
+        }
+        
+        public void setStudentIds(List<Long> studentIds) {
+            this.studentIds = studentIds;
+        }
+    }
+
     // Inner class for absence request
     public static class AbsenceRequest {
         private Long studentId;
@@ -1,18 +1,35 @@
 package com.studentregistry.controller;
 
+import com.studentregistry.dto.BulkEnrollmentRequest;
+import com.studentregistry.dto.BulkEnrollmentResult;
 import com.studentregistry.dto.CreateEnrollmentDTO;
 import com.studentregistry.dto.DTOMapper;
+import com.studentregistry.dto.ExportFormat;
+import com.studentregistry.dto.ListView;
+import com.studentregistry.dto.ResourceVersion;
 import com.studentregistry.entity.Enrollment;
 import com.studentregistry.service.EnrollmentService;
+import com.studentregistry.service.ExportService;
+import com.studentregistry.service.ResourceVersionService;
+import com.studentregistry.util.ConditionalGet;
+import com.studentregistry.util.StreamingExport;
 
 import jakarta.validation.Valid;
 
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
+import java.util.Optional;
 
 @RestController
 @RequestMapping("/api/enrollments")
@@ -20,19 +37,48 @@ public class EnrollmentController {
 
     private final EnrollmentService enrollmentService;
     private final DTOMapper dtoMapper;
+    private final ExportService exportService;
+    private final ResourceVersionService resourceVersionService;
 
-    public EnrollmentController(EnrollmentService enrollmentService, DTOMapper dtoMapper) {
+    public EnrollmentController(EnrollmentService enrollmentService, DTOMapper dtoMapper, ExportService exportService,
+            ResourceVersionService resourceVersionService) {
         this.enrollmentService = enrollmentService;
         this.dtoMapper = dtoMapper;
+        this.exportService = exportService;
+        this.resourceVersionService = resourceVersionService;
     }
 
     @GetMapping
-    public List<Enrollment> getAllEnrollments() {
+    public List<?> getAllEnrollments(
+            @Parameter(description = "Row shape: full entities (default) or summary rows") @RequestParam(defaultValue = "full") String view,
+            ServletWebRequest request) {
+        if (ConditionalGet.notModified(request, resourceVersionService.forTables(ResourceVersionService.ENROLLMENTS,
+                ResourceVersionService.STUDENTS, ResourceVersionService.COURSES,
+                ResourceVersionService.TEACHERS, ResourceVersionService.USERS, ResourceVersionService.ROLES))) {
+            return null;
+        }
+        if (ListView.fromString(view) == ListView.SUMMARY) {
+            return enrollmentService.getAllEnrollmentRows();
+        }
         return enrollmentService.getAllEnrollments();
     }
 
+    @GetMapping("/export")
+    @Operation(summary = "Stream all enrollments as CSV or NDJSON")
+    public ResponseEntity<StreamingResponseBody> exportEnrollments(
+            @Parameter(description = "Output format: csv (default) or ndjson") @RequestParam(defaultValue = "csv") String format) {
+        ExportFormat exportFormat = ExportFormat.fromString(format);
+        return StreamingExport.response(exportFormat, "enrollments", out -> exportService.exportEnrollments(exportFormat, out));
+    }
+
     @GetMapping("/{id}")
-    public ResponseEntity<Enrollment> getEnrollmentById(@PathVariable Long id) {
+    public ResponseEntity<Enrollment> getEnrollmentById(@PathVariable Long id, ServletWebRequest request) {
+        Optional<ResourceVersion> version = resourceVersionService.forRow(ResourceVersionService.ENROLLMENTS, id,
+                ResourceVersionService.STUDENTS, ResourceVersionService.COURSES,
+                ResourceVersionService.TEACHERS, ResourceVersionService.USERS, ResourceVersionService.ROLES);
+        if (version.isPresent() && ConditionalGet.notModified(request, version.get())) {
+            return null;
+        }
         return enrollmentService.getEnrollmentById(id)
                 .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
@@ -51,6 +97,22 @@ public class EnrollmentController {
         }
     }
 
+    @PostMapping("/bulk")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Enroll many (studentId, courseId) pairs in one request; invalid rows are reported, not inserted")
+    public ResponseEntity<?> bulkEnroll(@Valid @RequestBody BulkEnrollmentRequest request, Authentication authentication) {
+        try {
+            String username = authentication != null ? authentication.getName() : null;
+            BulkEnrollmentResult result = enrollmentService.bulkEnroll(request.getEnrollments(), username);
+            return ResponseEntity.ok(result);
+        } catch (DataIntegrityViolationException e) {
+            // A concurrent request enrolled one of the pairs after validation; nothing was inserted
+            return ResponseEntity.status(HttpStatus.CONFLICT).body("Enrollments changed concurrently, please retry");
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<Enrollment> updateEnrollment(@PathVariable Long id,
             @RequestBody Enrollment enrollmentDetails) {
@@ -73,12 +135,20 @@ public class EnrollmentController {
     }
 
     @GetMapping("/student/{studentId}")
-    public List<Enrollment> getEnrollmentsByStudent(@PathVariable Long studentId) {
+    public List<?> getEnrollmentsByStudent(@PathVariable Long studentId,
+            @Parameter(description = "Row shape: full entities (default) or summary rows") @RequestParam(defaultValue = "full") String view) {
+        if (ListView.fromString(view) == ListView.SUMMARY) {
+            return enrollmentService.getEnrollmentRowsByStudent(studentId);
+        }
         return enrollmentService.getEnrollmentsByStudent(studentId);
     }
 
     @GetMapping("/course/{courseId}")
-    public List<Enrollment> getEnrollmentsByCourse(@PathVariable Long courseId) {
+    public List<?> getEnrollmentsByCourse(@PathVariable Long courseId,
+            @Parameter(description = "Row shape: full entities (default) or summary rows") @RequestParam(defaultValue = "full") String view) {
+        if (ListView.fromString(view) == ListView.SUMMARY) {
+            return enrollmentService.getEnrollmentRowsByCourse(courseId);
+        }
         return enrollmentService.getEnrollmentsByCourse(courseId);
     }
 
@@ -92,14 +162,22 @@ public class EnrollmentController {
     }
 
     @GetMapping("/semester/{semester}")
-    public List<Enrollment> getEnrollmentsBySemester(@PathVariable String semester) {
+    public List<?> getEnrollmentsBySemester(@PathVariable String semester,
+            @Parameter(description = "Row shape: full entities (default) or summary rows") @RequestParam(defaultValue = "full") String view) {
+        if (ListView.fromString(view) == ListView.SUMMARY) {
+            return enrollmentService.getEnrollmentRowsBySemester(semester);
+        }
         return enrollmentService.getEnrollmentsBySemester(semester);
     }
 
     @GetMapping("/student/{studentId}/semester/{semester}")
-    public List<Enrollment> getEnrollmentsByStudentAndSemester(
+    public List<?> getEnrollmentsByStudentAndSemester(
             @PathVariable Long studentId,
-            @PathVariable String semester) {
+            @PathVariable String semester,
+            @Parameter(description = "Row shape: full entities (default) or summary rows") @RequestParam(defaultValue = "full") String view) {
+        if (ListView.fromString(view) == ListView.SUMMARY) {
+            return enrollmentService.getEnrollmentRowsByStudentAndSemester(studentId, semester);
+        }
         return enrollmentService.getEnrollmentsByStudentAndSemester(studentId, semester);
     }
 
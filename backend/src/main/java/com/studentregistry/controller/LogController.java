@@ -1,21 +1,30 @@
 package com.studentregistry.controller;
 
+import com.studentregistry.dto.ExportFormat;
 import com.studentregistry.entity.Log;
+import com.studentregistry.service.ExportService;
 import com.studentregistry.service.LogService;
+import com.studentregistry.util.CursorCodec;
+import com.studentregistry.util.StreamingExport;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import com.studentregistry.dto.IncludeTotal;
 import com.studentregistry.dto.PaginatedResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 @RestController
 @RequestMapping("/api/logs")
@@ -23,9 +32,11 @@ import java.util.List;
 public class LogController {
 
     private final LogService logService;
+    private final ExportService exportService;
 
-    public LogController(LogService logService) {
+    public LogController(LogService logService, ExportService exportService) {
         this.logService = logService;
+        this.exportService = exportService;
     }
 
     @GetMapping
@@ -38,13 +49,44 @@ public class LogController {
             @Parameter(description = "Filter from date (ISO format: 2025-01-01T00:00:00)") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime dateFrom,
             @Parameter(description = "Filter to date (ISO format: 2025-01-01T23:59:59)") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime dateTo,
             @Parameter(description = "Page number (1-based)") @RequestParam(defaultValue = "1") int page,
+            @Parameter(description = "Keyset cursor from a previous nextCursor; pass empty to start. Skips the total count") @RequestParam(required = false) String after,
+            @Parameter(description = "How to compute total: exact (default), estimate (planner statistics) or none") @RequestParam(defaultValue = "exact") String includeTotal,
             @Parameter(description = "Number of items per page") @RequestParam(defaultValue = "10") int limit) {
         
+        if (after != null) {
+            // Newest first, so the cursor is the smallest id returned so far
+            List<Log> rows = logService.getFilteredLogsBefore(action, userId, dateFrom, dateTo,
+                    CursorCodec.decodeId(after), limit);
+            return PaginatedResponse.fromKeyset(rows, limit, l -> CursorCodec.encode(l.getId()));
+        }
+
         Pageable pageable = PageRequest.of(page - 1, limit, Sort.by(Sort.Direction.DESC, "id"));
+        IncludeTotal totalMode = IncludeTotal.fromString(includeTotal);
+        Optional<Long> estimate = totalMode == IncludeTotal.ESTIMATE
+                ? logService.estimateFilteredLogs(action, userId, dateFrom, dateTo) : Optional.empty();
+        if (totalMode == IncludeTotal.NONE || estimate.isPresent()) {
+            Slice<Log> logs = logService.getFilteredLogsSlice(action, userId, dateFrom, dateTo, pageable);
+            return PaginatedResponse.fromSlice(logs, estimate.orElse(null));
+        }
+
         Page<Log> logs = logService.getFilteredLogs(action, userId, courseId, studentId, dateFrom, dateTo, pageable);
         return PaginatedResponse.fromPage(logs);
     }
 
+    @GetMapping("/writer-stats")
+    @Operation(summary = "Get audit log writer queue depth and counters")
+    public Map<String, Object> getWriterStats() {
+        return logService.getWriterStats();
+    }
+
+    @GetMapping("/export")
+    @Operation(summary = "Stream all logs as CSV or NDJSON")
+    public ResponseEntity<StreamingResponseBody> exportLogs(
+            @Parameter(description = "Output format: csv (default) or ndjson") @RequestParam(defaultValue = "csv") String format) {
+        ExportFormat exportFormat = ExportFormat.fromString(format);
+        return StreamingExport.response(exportFormat, "logs", out -> exportService.exportLogs(exportFormat, out));
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<Log> getLogById(@PathVariable Long id) {
         return logService.getLogById(id)
@@ -0,0 +1,30 @@
+package com.studentregistry.controller;
+
+import com.studentregistry.dto.SearchResult;
+import com.studentregistry.service.SearchService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/search")
+public class SearchController {
+
+    private final SearchService searchService;
+
+    public SearchController(SearchService searchService) {
+        this.searchService = searchService;
+    }
+
+    @GetMapping
+    @Operation(summary = "Ranked, case- and accent-insensitive search over student, teacher and course names")
+    public List<SearchResult> search(
+            @Parameter(description = "Search text (at least 2 characters); typos and partial words are tolerated") @RequestParam String q,
+            @Parameter(description = "Comma-separated types to search: student, teacher, course (default all)") @RequestParam(required = false) String types,
+            @Parameter(description = "Maximum number of results (capped at search.max-limit)") @RequestParam(defaultValue = "20") int limit) {
+        return searchService.search(q, SearchResult.Type.parseList(types), limit);
+    }
+}
@@ -2,27 +2,45 @@ package com.studentregistry.controller;
 
 import com.studentregistry.dto.CreateStudentDTO;
 import com.studentregistry.dto.DTOMapper;
+import com.studentregistry.dto.ExportFormat;
+import com.studentregistry.dto.ImportJob;
+import com.studentregistry.dto.ResourceVersion;
 import com.studentregistry.entity.Student;
 import com.studentregistry.entity.Enrollment;
 import com.studentregistry.entity.Absence;
 import com.studentregistry.service.StudentService;
 import com.studentregistry.service.EnrollmentService;
 import com.studentregistry.service.AbsenceService;
+import com.studentregistry.service.ExportService;
+import com.studentregistry.service.ImportService;
+import com.studentregistry.service.ResourceVersionService;
+import com.studentregistry.util.CursorCodec;
+import com.studentregistry.util.ConditionalGet;
+import com.studentregistry.util.StreamingExport;
 
 import jakarta.validation.Valid;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import com.studentregistry.dto.IncludeTotal;
 import com.studentregistry.dto.PaginatedResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
+import java.util.Optional;
 
 @RestController
 @RequestMapping("/api/students")
@@ -32,13 +50,21 @@ public class StudentController {
     private final DTOMapper dtoMapper;
     private final EnrollmentService enrollmentService;
     private final AbsenceService absenceService;
+    private final ExportService exportService;
+    private final ImportService importService;
+    private final ResourceVersionService resourceVersionService;
 
     public StudentController(StudentService studentService, DTOMapper dtoMapper, 
-                           EnrollmentService enrollmentService, AbsenceService absenceService) {
+                           EnrollmentService enrollmentService, AbsenceService absenceService,
+                           ExportService exportService, ImportService importService,
+                           ResourceVersionService resourceVersionService) {
         this.studentService = studentService;
         this.dtoMapper = dtoMapper;
         this.enrollmentService = enrollmentService;
         this.absenceService = absenceService;
+        this.exportService = exportService;
+        this.importService = importService;
+        this.resourceVersionService = resourceVersionService;
     }
 
     @GetMapping
@@ -49,8 +75,14 @@ public class StudentController {
             @Parameter(description = "Filter by enrollment year") @RequestParam(required = false) Integer enrollmentYear,
             @Parameter(description = "Filter by student status (active, graduated, suspended)") @RequestParam(required = false) String status,
             @Parameter(description = "Page number (1-based)") @RequestParam(defaultValue = "1") int page,
-            @Parameter(description = "Number of items per page") @RequestParam(defaultValue = "10") int limit) {
-        
+            @Parameter(description = "Keyset cursor from a previous nextCursor; pass empty to start. Skips the total count") @RequestParam(required = false) String after,
+            @Parameter(description = "How to compute total: exact (default), estimate (planner statistics) or none") @RequestParam(defaultValue = "exact") String includeTotal,
+            @Parameter(description = "Number of items per page") @RequestParam(defaultValue = "10") int limit,
+            ServletWebRequest request) {
+        if (ConditionalGet.notModified(request, resourceVersionService.forTables(ResourceVersionService.STUDENTS))) {
+            return null;
+        }
+
         // Convert string status to enum, handling null and invalid values
         // The enum values are: ACTIVE, GRADUATED, INACTIVE, DROPPED
         // But they map to lowercase strings: "active", "graduated", "inactive", "dropped"
@@ -71,13 +103,63 @@ public class StudentController {
             }
         }
         
+        if (after != null) {
+            List<Student> rows = studentService.getFilteredStudentsAfter(name, department, enrollmentYear, statusEnum,
+                    CursorCodec.decodeId(after), limit);
+            return PaginatedResponse.fromKeyset(rows, limit, s -> CursorCodec.encode(s.getId()));
+        }
+
         Pageable pageable = PageRequest.of(page - 1, limit, Sort.by("id")); // Convert to 0-based, sorted by ID
+        IncludeTotal totalMode = IncludeTotal.fromString(includeTotal);
+        Optional<Long> estimate = totalMode == IncludeTotal.ESTIMATE
+                ? studentService.estimateFilteredStudents(name, department, enrollmentYear, statusEnum) : Optional.empty();
+        if (totalMode == IncludeTotal.NONE || estimate.isPresent()) {
+            Slice<Student> students = studentService.getFilteredStudentsSlice(name, department, enrollmentYear, statusEnum, pageable);
+            return PaginatedResponse.fromSlice(students, estimate.orElse(null));
+        }
+
         Page<Student> students = studentService.getFilteredStudents(name, department, enrollmentYear, statusEnum, pageable);
         return PaginatedResponse.fromPage(students);
     }
 
+    @GetMapping("/export")
+    @Operation(summary = "Stream all students as CSV or NDJSON")
+    public ResponseEntity<StreamingResponseBody> exportStudents(
+            @Parameter(description = "Output format: csv (default) or ndjson") @RequestParam(defaultValue = "csv") String format) {
+        ExportFormat exportFormat = ExportFormat.fromString(format);
+        return StreamingExport.response(exportFormat, "students", out -> exportService.exportStudents(exportFormat, out));
+    }
+
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Import students from CSV, upserting on email; returns a job to poll for progress")
+    public ResponseEntity<?> importStudents(
+            @Parameter(description = "CSV with a header row: firstName, lastName, email, enrollmentYear, status (required); dateOfBirth, gender, phone, address, department, program") @RequestParam("file") MultipartFile file,
+            Authentication authentication) {
+        try {
+            String username = authentication != null ? authentication.getName() : null;
+            ImportJob job = importService.startStudentImport(file, username);
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(job);
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    @GetMapping("/import/{jobId}")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Get progress and row errors of a student import")
+    public ResponseEntity<ImportJob> getStudentImport(@PathVariable String jobId) {
+        return importService.getJob(jobId, ImportService.STUDENTS)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
     @GetMapping("/{id}")
-    public ResponseEntity<Student> getStudentById(@PathVariable Long id) {
+    public ResponseEntity<Student> getStudentById(@PathVariable Long id, ServletWebRequest request) {
+        Optional<ResourceVersion> version = resourceVersionService.forRow(ResourceVersionService.STUDENTS, id);
+        if (version.isPresent() && ConditionalGet.notModified(request, version.get())) {
+            return null;
+        }
         return studentService.getStudentById(id)
                 .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
@@ -0,0 +1,34 @@
+package com.studentregistry.controller;
+
+import com.studentregistry.cache.TypeaheadIndex;
+import com.studentregistry.dto.Suggestion;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/suggest")
+public class SuggestController {
+
+    private final TypeaheadIndex typeaheadIndex;
+    private final int maxLimit;
+
+    public SuggestController(TypeaheadIndex typeaheadIndex,
+            @Value("${suggest.max-limit:50}") int maxLimit) {
+        this.typeaheadIndex = typeaheadIndex;
+        this.maxLimit = maxLimit;
+    }
+
+    @GetMapping
+    @Operation(summary = "Top-k prefix suggestions for student and course pickers, served from memory")
+    public List<Suggestion> suggest(
+            @Parameter(description = "Prefix of a first/last/full name or email, or a course code/name (case- and accent-insensitive)") @RequestParam String q,
+            @Parameter(description = "Comma-separated types: student, course (default both)") @RequestParam(required = false) String types,
+            @Parameter(description = "Maximum number of suggestions") @RequestParam(defaultValue = "10") int limit) {
+        return typeaheadIndex.suggest(q, Suggestion.Type.parseList(types), Math.min(limit, maxLimit));
+    }
+}
@@ -2,10 +2,17 @@ package com.studentregistry.controller;
 
 import com.studentregistry.dto.CreateTeacherDTO;
 import com.studentregistry.dto.DTOMapper;
+import com.studentregistry.dto.ImportJob;
+import com.studentregistry.dto.IncludeTotal;
 import com.studentregistry.dto.PaginatedResponse;
+import com.studentregistry.dto.ResourceVersion;
 import com.studentregistry.dto.TeacherResponseDTO;
 import com.studentregistry.entity.Teacher;
+import com.studentregistry.service.ImportService;
+import com.studentregistry.service.ResourceVersionService;
 import com.studentregistry.service.TeacherService;
+import com.studentregistry.util.CursorCodec;
+import com.studentregistry.util.ConditionalGet;
 
 import jakarta.validation.Valid;
 
@@ -14,12 +21,19 @@ import io.swagger.v3.oas.annotations.Parameter;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.multipart.MultipartFile;
 
 import java.util.List;
+import java.util.Optional;
 
 @RestController
 @RequestMapping("/api/teachers")
@@ -27,10 +41,15 @@ public class TeacherController {
 
     private final TeacherService teacherService;
     private final DTOMapper dtoMapper;
+    private final ImportService importService;
+    private final ResourceVersionService resourceVersionService;
 
-    public TeacherController(TeacherService teacherService, DTOMapper dtoMapper) {
+    public TeacherController(TeacherService teacherService, DTOMapper dtoMapper, ImportService importService,
+            ResourceVersionService resourceVersionService) {
         this.teacherService = teacherService;
         this.dtoMapper = dtoMapper;
+        this.importService = importService;
+        this.resourceVersionService = resourceVersionService;
     }
 
     @GetMapping
@@ -39,16 +58,67 @@ public class TeacherController {
             @Parameter(description = "Filter by teacher name (partial match)") @RequestParam(required = false) String name,
             @Parameter(description = "Filter by department") @RequestParam(required = false) String department,
             @Parameter(description = "Page number (1-based)") @RequestParam(defaultValue = "1") int page,
-            @Parameter(description = "Number of items per page") @RequestParam(defaultValue = "10") int limit) {
+            @Parameter(description = "Keyset cursor from a previous nextCursor; pass empty to start. Skips the total count") @RequestParam(required = false) String after,
+            @Parameter(description = "How to compute total: exact (default), estimate (planner statistics) or none") @RequestParam(defaultValue = "exact") String includeTotal,
+            @Parameter(description = "Number of items per page") @RequestParam(defaultValue = "10") int limit,
+            ServletWebRequest request) {
+        if (ConditionalGet.notModified(request, resourceVersionService.forTables(ResourceVersionService.TEACHERS))) {
+            return null;
+        }
         
+        if (after != null) {
+            List<TeacherResponseDTO> rows = teacherService.getFilteredTeachersAfter(name, department,
+                    CursorCodec.decodeId(after), limit).stream().map(TeacherResponseDTO::new).toList();
+            return PaginatedResponse.fromKeyset(rows, limit, t -> CursorCodec.encode(t.getId()));
+        }
+
         Pageable pageable = PageRequest.of(page - 1, limit, Sort.by("id")); // Convert to 0-based, sorted by ID
+        IncludeTotal totalMode = IncludeTotal.fromString(includeTotal);
+        Optional<Long> estimate = totalMode == IncludeTotal.ESTIMATE
+                ? teacherService.estimateFilteredTeachers(name, department) : Optional.empty();
+        if (totalMode == IncludeTotal.NONE || estimate.isPresent()) {
+            Slice<TeacherResponseDTO> teacherDtos = teacherService.getFilteredTeachersSlice(name, department, pageable)
+                    .map(TeacherResponseDTO::new);
+            return PaginatedResponse.fromSlice(teacherDtos, estimate.orElse(null));
+        }
+
         Page<Teacher> teachers = teacherService.getFilteredTeachers(name, department, pageable);
         Page<TeacherResponseDTO> teacherDtos = teachers.map(TeacherResponseDTO::new);
         return PaginatedResponse.fromPage(teacherDtos);
     }
 
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Import teachers from CSV, upserting on email; returns a job to poll for progress")
+    public ResponseEntity<?> importTeachers(
+            @Parameter(description = "CSV with a header row: firstName, lastName, email (required); department, phone") @RequestParam("file") MultipartFile file,
+            Authentication authentication) {
+        try {
+            String username = authentication != null ? authentication.getName() : null;
+            ImportJob job = importService.startTeacherImport(file, username);
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(job);
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    @GetMapping("/import/{jobId}")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Get progress and row errors of a teacher import")
+    public ResponseEntity<ImportJob> getTeacherImport(@PathVariable String jobId) {
+        return importService.getJob(jobId, ImportService.TEACHERS)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
     @GetMapping("/{id}")
-    public ResponseEntity<TeacherResponseDTO> getTeacherById(@PathVariable Long id) {
+    public ResponseEntity<TeacherResponseDTO> getTeacherById(@PathVariable Long id, ServletWebRequest request) {
+        // users is a dependency because deleting a user clears userId without touching updated_at
+        Optional<ResourceVersion> version = resourceVersionService.forRow(ResourceVersionService.TEACHERS, id,
+                ResourceVersionService.USERS);
+        if (version.isPresent() && ConditionalGet.notModified(request, version.get())) {
+            return null;
+        }
         return teacherService.getTeacherById(id)
                 .map(teacher -> ResponseEntity.ok(new TeacherResponseDTO(teacher)))
                 .orElse(ResponseEntity.notFound().build());
@@ -2,9 +2,12 @@ package com.studentregistry.controller;
 
 import com.studentregistry.dto.CreateUserDTO;
 import com.studentregistry.dto.DTOMapper;
+import com.studentregistry.dto.ResourceVersion;
 import com.studentregistry.dto.UserResponseDTO;
 import com.studentregistry.entity.User;
 import com.studentregistry.service.UserService;
+import com.studentregistry.service.ResourceVersionService;
+import com.studentregistry.util.ConditionalGet;
 
 import jakarta.validation.Valid;
 
@@ -19,8 +22,11 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 @RestController
@@ -30,10 +36,13 @@ public class UserController {
 
     private final UserService userService;
     private final DTOMapper dtoMapper;
+    private final ResourceVersionService resourceVersionService;
 
-    public UserController(UserService userService, DTOMapper dtoMapper) {
+    public UserController(UserService userService, DTOMapper dtoMapper,
+            ResourceVersionService resourceVersionService) {
         this.userService = userService;
         this.dtoMapper = dtoMapper;
+        this.resourceVersionService = resourceVersionService;
     }
 
     @GetMapping
@@ -42,7 +51,12 @@ public class UserController {
             @Parameter(description = "Filter by email (partial match)") @RequestParam(required = false) String email,
             @Parameter(description = "Filter by role name") @RequestParam(required = false) String role,
             @Parameter(description = "Page number (1-based)") @RequestParam(defaultValue = "1") int page,
-            @Parameter(description = "Number of items per page") @RequestParam(defaultValue = "10") int limit) {
+            @Parameter(description = "Number of items per page") @RequestParam(defaultValue = "10") int limit,
+            ServletWebRequest request) {
+        if (ConditionalGet.notModified(request, resourceVersionService.forTables(ResourceVersionService.USERS,
+                ResourceVersionService.ROLES))) {
+            return null;
+        }
         
         Pageable pageable = PageRequest.of(page - 1, limit, Sort.by("id"));
         Page<User> users = userService.getFilteredUsers(email, role, pageable);
@@ -50,8 +64,20 @@ public class UserController {
         return PaginatedResponse.fromPage(userDtos);
     }
 
+    @GetMapping("/cache-stats")
+    @Operation(summary = "Get username lookup cache hit/miss statistics")
+    public Map<String, Object> getLookupCacheStats() {
+        return userService.getLookupCacheStats();
+    }
+
     @GetMapping("/{id}")
-    public ResponseEntity<UserResponseDTO> getUserById(@PathVariable Long id) {
+    public ResponseEntity<UserResponseDTO> getUserById(@PathVariable Long id, ServletWebRequest request) {
+        // roleName comes from the roles table
+        Optional<ResourceVersion> version = resourceVersionService.forRow(ResourceVersionService.USERS, id,
+                ResourceVersionService.ROLES);
+        if (version.isPresent() && ConditionalGet.notModified(request, version.get())) {
+            return null;
+        }
         return userService.getUserById(id)
                 .map(user -> ResponseEntity.ok(new UserResponseDTO(user)))
                 .orElse(ResponseEntity.notFound().build());
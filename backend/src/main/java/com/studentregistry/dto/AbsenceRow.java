@@ -0,0 +1,14 @@
+package com.studentregistry.dto;
+
+import java.time.LocalDate;
+
+// Flat read model for absence lists (view=summary)
+public record AbsenceRow(
+        long studentId,
+        String studentFirstName,
+        String studentLastName,
+        long courseId,
+        String courseCode,
+        String courseName,
+        LocalDate date) {
+}
@@ -0,0 +1,12 @@
+package com.studentregistry.dto;
+
+import java.time.LocalDate;
+
+// One enrolled student on a course's attendance sheet; lastAbsenceDate is null with no absences
+public record AttendanceRow(
+        long studentId,
+        String studentFirstName,
+        String studentLastName,
+        int absenceCount,
+        LocalDate lastAbsenceDate) {
+}
@@ -0,0 +1,50 @@
+package com.studentregistry.dto;
+
+import java.time.LocalDateTime;
+
+// Immutable audit entry handed to a LogSink. Either userId or username may be set;
+// the sink resolves the user when the row is written.
+public class AuditEvent {
+
+    private final Long userId;
+    private final String username;
+    private final String action;
+    private final String details;
+    private final LocalDateTime timestamp;
+
+    public AuditEvent(Long userId, String username, String action, String details, LocalDateTime timestamp) {
+        this.userId = userId;
+        this.username = username;
+        this.action = action;
+        this.details = details;
+        this.timestamp = timestamp;
+    }
+
+    public static AuditEvent forUserId(Long userId, String action, String details) {
+        return new AuditEvent(userId, null, action, details, LocalDateTime.now());
+    }
+
+    public static AuditEvent forUsername(String username, String action, String details) {
+        return new AuditEvent(null, username, action, details, LocalDateTime.now());
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public String getAction() {
+        return action;
+    }
+
+    public String getDetails() {
+        return details;
+    }
+
+    public LocalDateTime getTimestamp() {
+        return timestamp;
+    }
+}
@@ -0,0 +1,22 @@
+package com.studentregistry.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+
+import java.util.List;
+
+public class BulkEnrollmentRequest {
+
+    @NotEmpty(message = "At least one enrollment is required")
+    private List<@Valid CreateEnrollmentDTO> enrollments;
+
+    public BulkEnrollmentRequest() {}
+
+    public List<CreateEnrollmentDTO> getEnrollments() {
+        return enrollments;
+    }
+
+    public void setEnrollments(List<CreateEnrollmentDTO> enrollments) {
+        this.enrollments = enrollments;
+    }
+}
@@ -0,0 +1,86 @@
+package com.studentregistry.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Outcome of POST /api/enrollments/bulk: valid rows are inserted, the rest are reported
+// back by their index in the request so the client can fix and resubmit just those
+public class BulkEnrollmentResult {
+
+    public enum Reason {
+        STUDENT_NOT_FOUND,
+        COURSE_NOT_FOUND,
+        ALREADY_ENROLLED, // would violate uq_enrollment
+        DUPLICATE_IN_REQUEST
+    }
+
+    private int requested;
+    private int created;
+    private List<Conflict> conflicts = new ArrayList<>();
+
+    public BulkEnrollmentResult() {}
+
+    public BulkEnrollmentResult(int requested) {
+        this.requested = requested;
+    }
+
+    public void addConflict(int index, Long studentId, Long courseId, Reason reason) {
+        conflicts.add(new Conflict(index, studentId, courseId, reason));
+    }
+
+    public int getRequested() {
+        return requested;
+    }
+
+    public void setRequested(int requested) {
+        this.requested = requested;
+    }
+
+    public int getCreated() {
+        return created;
+    }
+
+    public void setCreated(int created) {
+        this.created = created;
+    }
+
+    public List<Conflict> getConflicts() {
+        return conflicts;
+    }
+
+    public void setConflicts(List<Conflict> conflicts) {
+        this.conflicts = conflicts;
+    }
+
+    public static class Conflict {
+        private int index;
+        private Long studentId;
+        private Long courseId;
+        private Reason reason;
+
+        public Conflict() {}
+
+        public Conflict(int index, Long studentId, Long courseId, Reason reason) {
+            this.index = index;
+            this.studentId = studentId;
+            this.courseId = courseId;
+            this.reason = reason;
+        }
+
+        public int getIndex() {
+            return index;
+        }
+
+        public Long getStudentId() {
+            return studentId;
+        }
+
+        public Long getCourseId() {
+            return courseId;
+        }
+
+        public Reason getReason() {
+            return reason;
+        }
+    }
+}
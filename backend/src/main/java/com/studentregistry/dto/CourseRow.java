@@ -0,0 +1,18 @@
+package com.studentregistry.dto;
+
+import com.studentregistry.entity.Course;
+
+// Flat read model for course lists (view=summary); teacher fields are null for unassigned courses
+public record CourseRow(
+        long id,
+        String courseCode,
+        String section,
+        String courseName,
+        Integer credit,
+        String department,
+        String semester,
+        Course.Status status,
+        Long teacherId,
+        String teacherFirstName,
+        String teacherLastName) {
+}
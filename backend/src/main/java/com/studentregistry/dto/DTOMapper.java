@@ -26,6 +26,12 @@ public class DTOMapper {
     // Student mappings
     public Student toEntity(CreateStudentDTO dto) {
         Student student = new Student();
+        copyInto(dto, student);
+        return student;
+    }
+
+    // Overwrites every DTO-backed field; used by toEntity and by CSV import upserts
+    public void copyInto(CreateStudentDTO dto, Student student) {
         student.setFirstName(dto.getFirstName());
         student.setLastName(dto.getLastName());
         student.setDateOfBirth(dto.getDateOfBirth());
@@ -37,7 +43,6 @@ public class DTOMapper {
         student.setProgram(dto.getProgram());
         student.setEnrollmentYear(dto.getEnrollmentYear());
         student.setStatus(dto.getStatus());
-        return student;
     }
 
     // User mappings
@@ -81,11 +86,7 @@ public class DTOMapper {
     // Teacher mappings
     public Teacher toEntity(CreateTeacherDTO dto) {
         Teacher teacher = new Teacher();
-        teacher.setFirstName(dto.getFirstName());
-        teacher.setLastName(dto.getLastName());
-        teacher.setDepartment(dto.getDepartment());
-        teacher.setEmail(dto.getEmail());
-        teacher.setPhone(dto.getPhone());
+        copyInto(dto, teacher);
         
         // Set user if provided
         if (dto.getUserId() != null) {
@@ -97,6 +98,15 @@ public class DTOMapper {
         return teacher;
     }
 
+    // Profile fields only; the linked user account is managed through assign/revoke
+    public void copyInto(CreateTeacherDTO dto, Teacher teacher) {
+        teacher.setFirstName(dto.getFirstName());
+        teacher.setLastName(dto.getLastName());
+        teacher.setDepartment(dto.getDepartment());
+        teacher.setEmail(dto.getEmail());
+        teacher.setPhone(dto.getPhone());
+    }
+
     // Enrollment mappings
     public Enrollment toEntity(CreateEnrollmentDTO dto) {
         Enrollment enrollment = new Enrollment();
@@ -0,0 +1,19 @@
+package com.studentregistry.dto;
+
+import java.time.LocalDateTime;
+
+// Flat read model for enrollment lists (view=summary), selected directly in JPQL so no
+// Student/Course/Teacher/User entities are loaded or serialized
+public record EnrollmentRow(
+        long id,
+        long studentId,
+        String studentFirstName,
+        String studentLastName,
+        long courseId,
+        String courseCode,
+        String section,
+        String courseName,
+        String semester,
+        String finalGrade,
+        LocalDateTime enrolledAt) {
+}
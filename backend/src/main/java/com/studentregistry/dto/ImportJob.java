@@ -0,0 +1,160 @@
+package com.studentregistry.dto;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+// Progress and per-row error report of a CSV import. Written by the import worker and read
+// by GET .../import/{jobId}, so counters are volatile and the error list is guarded.
+public class ImportJob {
+
+    public enum Status {
+        QUEUED, RUNNING, COMPLETED, FAILED
+    }
+
+    public static class RowError {
+        private final int line;
+        private final String email;
+        private final String message;
+
+        public RowError(int line, String email, String message) {
+            this.line = line;
+            this.email = email;
+            this.message = message;
+        }
+
+        public int getLine() {
+            return line;
+        }
+
+        public String getEmail() {
+            return email;
+        }
+
+        public String getMessage() {
+            return message;
+        }
+    }
+
+    private final String id;
+    private final String type;
+    private final String fileName;
+    private final int maxErrors;
+    private final LocalDateTime submittedAt;
+    private final List<RowError> errors = new ArrayList<>();
+    private volatile Status status = Status.QUEUED;
+    private volatile int rowsRead;
+    private volatile int created;
+    private volatile int updated;
+    private volatile int failed;
+    private volatile boolean errorsTruncated;
+    private volatile String message;
+    private volatile LocalDateTime startedAt;
+    private volatile LocalDateTime finishedAt;
+
+    public ImportJob(String type, String fileName, int maxErrors) {
+        this.id = UUID.randomUUID().toString();
+        this.type = type;
+        this.fileName = fileName;
+        this.maxErrors = maxErrors;
+        this.submittedAt = LocalDateTime.now();
+    }
+
+    public void start() {
+        status = Status.RUNNING;
+        startedAt = LocalDateTime.now();
+    }
+
+    public void finish(Status status, String message) {
+        this.message = message;
+        this.finishedAt = LocalDateTime.now();
+        this.status = status;
+    }
+
+    // Only the worker thread mutates counters, so plain increments on volatiles are safe
+    public void rowRead() {
+        rowsRead++;
+    }
+
+    public void addCreated(int count) {
+        created += count;
+    }
+
+    public void addUpdated(int count) {
+        updated += count;
+    }
+
+    public void addError(int line, String email, String message) {
+        failed++;
+        synchronized (errors) {
+            if (errors.size() < maxErrors) {
+                errors.add(new RowError(line, email, message));
+            } else {
+                errorsTruncated = true;
+            }
+        }
+    }
+
+    public boolean isFinished() {
+        return status == Status.COMPLETED || status == Status.FAILED;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public String getFileName() {
+        return fileName;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public int getRowsRead() {
+        return rowsRead;
+    }
+
+    public int getCreated() {
+        return created;
+    }
+
+    public int getUpdated() {
+        return updated;
+    }
+
+    public int getFailed() {
+        return failed;
+    }
+
+    public List<RowError> getErrors() {
+        synchronized (errors) {
+            return new ArrayList<>(errors);
+        }
+    }
+
+    public boolean isErrorsTruncated() {
+        return errorsTruncated;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public LocalDateTime getSubmittedAt() {
+        return submittedAt;
+    }
+
+    public LocalDateTime getStartedAt() {
+        return startedAt;
+    }
+
+    public LocalDateTime getFinishedAt() {
+        return finishedAt;
+    }
+}
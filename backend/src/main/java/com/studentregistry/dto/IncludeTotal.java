@@ -0,0 +1,23 @@
+package com.studentregistry.dto;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+// How a paginated list endpoint should compute `total`
+public enum IncludeTotal {
+    EXACT, // run the filtered COUNT(*) (default, matches the old behaviour)
+    ESTIMATE, // use PostgreSQL planner statistics, falling back to EXACT when unavailable
+    NONE; // skip the count entirely, clients rely on hasNext
+
+    public static IncludeTotal fromString(String value) {
+        if (value == null || value.isBlank()) {
+            return EXACT;
+        }
+        try {
+            return IncludeTotal.valueOf(value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "includeTotal must be one of: none, exact, estimate");
+        }
+    }
+}
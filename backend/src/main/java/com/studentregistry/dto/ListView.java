@@ -0,0 +1,21 @@
+package com.studentregistry.dto;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+// Shape of list endpoint rows: full entities, or flat *Row projections
+public enum ListView {
+    FULL,
+    SUMMARY;
+
+    public static ListView fromString(String value) {
+        if (value == null || value.isBlank()) {
+            return FULL;
+        }
+        try {
+            return ListView.valueOf(value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "view must be one of: summary, full");
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.studentregistry.dto;
+
+import java.time.LocalDateTime;
+
+// Flat read model for log exports; avoids loading the eager Log -> User -> Role chain per row
+public record LogRow(
+        long id,
+        LocalDateTime timestamp,
+        Long userId,
+        String username,
+        String action,
+        String details) {
+}
@@ -1,25 +1,33 @@
 package com.studentregistry.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 import java.util.List;
+import java.util.function.Function;
 
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class PaginatedResponse<T> {
-    
+
     private List<T> data;
-    private long total;
-    private int totalPages;
-    private int currentPage;
+    private Long total;
+    private Integer totalPages;
+    private Integer currentPage;
     private int limit;
-    
+    private String nextCursor;
+    private boolean hasNext;
+    private Boolean totalEstimated;
+
     public PaginatedResponse() {}
-    
+
     public PaginatedResponse(List<T> data, long total, int currentPage, int limit) {
         this.data = data;
         this.total = total;
         this.currentPage = currentPage;
         this.limit = limit;
         this.totalPages = (int) Math.ceil((double) total / limit);
+        this.hasNext = currentPage < this.totalPages;
     }
-    
+
     // Static factory method to create from Spring's Page
     public static <T> PaginatedResponse<T> fromPage(org.springframework.data.domain.Page<T> page) {
         return new PaginatedResponse<>(
@@ -29,44 +37,98 @@ public class PaginatedResponse<T> {
             page.getSize()
         );
     }
-    
+
+    // includeTotal=none|estimate: the Slice was fetched without a COUNT query. An estimate,
+    // when given, is clamped to what the slice proves (on the last page the total is exact).
+    public static <T> PaginatedResponse<T> fromSlice(org.springframework.data.domain.Slice<T> slice, Long estimatedTotal) {
+        PaginatedResponse<T> response = new PaginatedResponse<>();
+        response.data = slice.getContent();
+        response.currentPage = slice.getNumber() + 1;
+        response.limit = slice.getSize();
+        response.hasNext = slice.hasNext();
+        if (estimatedTotal != null) {
+            long seen = (long) slice.getNumber() * slice.getSize() + slice.getNumberOfElements();
+            response.total = slice.hasNext() ? Math.max(estimatedTotal, seen + 1) : seen;
+            response.totalPages = (int) Math.ceil((double) response.total / response.limit);
+            response.totalEstimated = slice.hasNext();
+        }
+        return response;
+    }
+
+    // Keyset (cursor) mode: rows were fetched with limit + 1 so the extra row tells us
+    // whether there is a next page. No total is computed.
+    public static <T> PaginatedResponse<T> fromKeyset(List<T> rows, int limit, Function<T, String> cursorOf) {
+        boolean more = rows.size() > limit;
+        List<T> data = more ? rows.subList(0, limit) : rows;
+        PaginatedResponse<T> response = new PaginatedResponse<>();
+        response.data = data;
+        response.limit = limit;
+        response.nextCursor = more ? cursorOf.apply(data.get(data.size() - 1)) : null;
+        response.hasNext = more;
+        return response;
+    }
+
     public List<T> getData() {
         return data;
     }
-    
+
     public void setData(List<T> data) {
         this.data = data;
     }
-    
-    public long getTotal() {
+
+    public Long getTotal() {
         return total;
     }
-    
-    public void setTotal(long total) {
+
+    public void setTotal(Long total) {
         this.total = total;
     }
-    
-    public int getTotalPages() {
+
+    public Integer getTotalPages() {
         return totalPages;
     }
-    
-    public void setTotalPages(int totalPages) {
+
+    public void setTotalPages(Integer totalPages) {
         this.totalPages = totalPages;
     }
-    
-    public int getCurrentPage() {
+
+    public Integer getCurrentPage() {
         return currentPage;
     }
-    
-    public void setCurrentPage(int currentPage) {
+
+    public void setCurrentPage(Integer currentPage) {
         this.currentPage = currentPage;
     }
-    
+
     public int getLimit() {
         return limit;
     }
-    
+
     public void setLimit(int limit) {
         this.limit = limit;
     }
-}
\ No newline at end of file
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+
+    public boolean isHasNext() {
+        return hasNext;
+    }
+
+    public void setHasNext(boolean hasNext) {
+        this.hasNext = hasNext;
+    }
+
+    public Boolean getTotalEstimated() {
+        return totalEstimated;
+    }
+
+    public void setTotalEstimated(Boolean totalEstimated) {
+        this.totalEstimated = totalEstimated;
+    }
+}
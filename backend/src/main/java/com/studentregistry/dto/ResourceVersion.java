@@ -0,0 +1,7 @@
+package com.studentregistry.dto;
+
+import java.time.Instant;
+
+// HTTP validators for a response: an opaque strong ETag and the Last-Modified time
+public record ResourceVersion(String etag, Instant lastModified) {
+}
@@ -0,0 +1,51 @@
+package com.studentregistry.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+// Outcome of POST /api/courses/{courseId}/absences/roll-call
+public class RollCallResult {
+
+    private Long courseId;
+    private LocalDate date;
+    private int requested;
+    private int recorded;
+    private int alreadyRecorded;
+    private List<Long> notEnrolled;
+
+    public RollCallResult() {}
+
+    public RollCallResult(Long courseId, LocalDate date, int requested, int recorded, int alreadyRecorded,
+            List<Long> notEnrolled) {
+        this.courseId = courseId;
+        this.date = date;
+        this.requested = requested;
+        this.recorded = recorded;
+        this.alreadyRecorded = alreadyRecorded;
+        this.notEnrolled = notEnrolled;
+    }
+
+    public Long getCourseId() {
+        return courseId;
+    }
+
+    public LocalDate getDate() {
+        return date;
+    }
+
+    public int getRequested() {
+        return requested;
+    }
+
+    public int getRecorded() {
+        return recorded;
+    }
+
+    public int getAlreadyRecorded() {
+        return alreadyRecorded;
+    }
+
+    public List<Long> getNotEnrolled() {
+        return notEnrolled;
+    }
+}
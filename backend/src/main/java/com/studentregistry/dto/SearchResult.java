@@ -0,0 +1,24 @@
+package com.studentregistry.dto;
+
+import com.studentregistry.util.TypeLists;
+
+import java.util.Set;
+
+// One ranked hit of GET /api/search. score is the pg_trgm word similarity between the query and
+// the normalised name (0..1), plus 1 when the name starts with the query, so prefixes rank first.
+public record SearchResult(
+        Type type,
+        long id,
+        String label,
+        String detail,
+        double score) {
+
+    public enum Type {
+        STUDENT, TEACHER, COURSE;
+
+        // Comma-separated, case-insensitive; null or blank means every type
+        public static Set<Type> parseList(String value) {
+            return TypeLists.parseTypeList(value, Type.class);
+        }
+    }
+}
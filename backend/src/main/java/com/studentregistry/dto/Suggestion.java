@@ -0,0 +1,22 @@
+package com.studentregistry.dto;
+
+import com.studentregistry.util.TypeLists;
+
+import java.util.Set;
+
+// One typeahead hit of GET /api/suggest
+public record Suggestion(
+        Type type,
+        long id,
+        String label,
+        String detail) {
+
+    public enum Type {
+        STUDENT, COURSE;
+
+        // Comma-separated, case-insensitive; null or blank means every type
+        public static Set<Type> parseList(String value) {
+            return TypeLists.parseTypeList(value, Type.class);
+        }
+    }
+}
@@ -6,6 +6,9 @@ import jakarta.persistence.Id;
 import jakarta.persistence.IdClass;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
+import jakarta.persistence.NamedSubgraph;
 import jakarta.persistence.Table;
 import java.io.Serializable;
 import java.time.LocalDate;
@@ -30,6 +33,17 @@ import java.util.Objects;
 //         ON DELETE RESTRICT
 // );
 
+// Same fetch plan as Enrollment.details, used by the AbsenceRepository list methods
+@NamedEntityGraph(name = "Absence.details",
+        attributeNodes = {
+                @NamedAttributeNode("student"),
+                @NamedAttributeNode(value = "course", subgraph = "course")
+        },
+        subgraphs = {
+                @NamedSubgraph(name = "course", attributeNodes = @NamedAttributeNode(value = "teacher", subgraph = "teacher")),
+                @NamedSubgraph(name = "teacher", attributeNodes = @NamedAttributeNode(value = "user", subgraph = "user")),
+                @NamedSubgraph(name = "user", attributeNodes = @NamedAttributeNode("role"))
+        })
 @Entity
 @Table(name = "absences")
 @IdClass(Absence.AbsenceId.class)
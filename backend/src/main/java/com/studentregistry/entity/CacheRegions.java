@@ -0,0 +1,18 @@
+package com.studentregistry.entity;
+
+// Hibernate second-level cache regions. Each name must have a matching <cache alias> in
+// ehcache.xml, which holds its size bound and expiry; startup fails on a missing one.
+public final class CacheRegions {
+
+    public static final String ROLES = "roles";
+    public static final String COURSES = "courses";
+    public static final String TEACHERS = "teachers";
+    public static final String SETTINGS = "settings";
+
+    // Query cache regions hold result ids only; the rows come from the entity regions above
+    public static final String COURSES_BY_SEMESTER = "query.courses-by-semester";
+    public static final String ROLE_BY_NAME = "query.role-by-name";
+
+    private CacheRegions() {
+    }
+}
@@ -7,6 +7,10 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
+import jakarta.persistence.NamedSubgraph;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import jakarta.persistence.UniqueConstraint;
 import java.time.LocalDateTime;
@@ -35,6 +39,18 @@ import org.hibernate.annotations.UpdateTimestamp;
 //         ON DELETE RESTRICT
 // );
 
+// Loads the whole eager chain (student, course -> teacher -> user -> role) in one select
+// instead of one select per distinct association. Used by the EnrollmentRepository list methods.
+@NamedEntityGraph(name = "Enrollment.details",
+        attributeNodes = {
+                @NamedAttributeNode("student"),
+                @NamedAttributeNode(value = "course", subgraph = "course")
+        },
+        subgraphs = {
+                @NamedSubgraph(name = "course", attributeNodes = @NamedAttributeNode(value = "teacher", subgraph = "teacher")),
+                @NamedSubgraph(name = "teacher", attributeNodes = @NamedAttributeNode(value = "user", subgraph = "user")),
+                @NamedSubgraph(name = "user", attributeNodes = @NamedAttributeNode("role"))
+        })
 @Entity
 @Table(name = "enrollments", uniqueConstraints = {
         @UniqueConstraint(name = "uq_enrollment", columnNames = { "student_id", "course_id" })
@@ -42,7 +58,8 @@ import org.hibernate.annotations.UpdateTimestamp;
 public class Enrollment {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "enrollment_seq")
+    @SequenceGenerator(name = "enrollment_seq", sequenceName = "enrollment_seq", allocationSize = IdAllocation.SIZE)
     @Column(nullable = false)
     private long id;
 
@@ -0,0 +1,11 @@
+package com.studentregistry.entity;
+
+// Ids reserved per nextval() by Hibernate's pooled optimizer, shared by every entity sequence.
+// Must equal INCREMENT BY of the *_seq sequences (see db/migration); change both together.
+public final class IdAllocation {
+
+    public static final int SIZE = 50;
+
+    private IdAllocation() {
+    }
+}
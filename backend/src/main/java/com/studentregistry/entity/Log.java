@@ -7,9 +7,10 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import java.time.LocalDateTime;
-import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.type.SqlTypes;
 
@@ -31,7 +32,8 @@ import org.hibernate.type.SqlTypes;
 public class Log {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "log_seq")
+    @SequenceGenerator(name = "log_seq", sequenceName = "log_seq", allocationSize = IdAllocation.SIZE)
     @Column(nullable = false)
     private long id;
 
@@ -46,7 +48,7 @@ public class Log {
     @Column(name = "details", columnDefinition = "jsonb")
     private String details;
 
-    @CreationTimestamp
+    // Set by the caller when the event happened; the async writer may insert it later
     @Column(name = "timestamp", nullable = false)
     private LocalDateTime timestamp;
 
@@ -59,6 +61,13 @@ public class Log {
         this.details = details;
     }
 
+    @PrePersist
+    void onCreate() {
+        if (timestamp == null) {
+            timestamp = LocalDateTime.now();
+        }
+    }
+
     public long getId() {
         return id;
     }
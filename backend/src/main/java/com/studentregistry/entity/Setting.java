@@ -1,11 +1,15 @@
 package com.studentregistry.entity;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 // CREATE TABLE settings (
 //     id SERIAL PRIMARY KEY,
@@ -14,11 +18,14 @@ import jakarta.persistence.Table;
 // );
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.SETTINGS)
 @Table(name = "settings")
 public class Setting {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "setting_seq")
+    @SequenceGenerator(name = "setting_seq", sequenceName = "setting_seq", allocationSize = IdAllocation.SIZE)
     @Column(nullable = false)
     private long id;
 
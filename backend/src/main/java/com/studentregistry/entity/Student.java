@@ -39,7 +39,7 @@ public class Student {
 
     @Id
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "student_seq")
-    @SequenceGenerator(name = "student_seq", sequenceName = "student_seq", allocationSize = 1)
+    @SequenceGenerator(name = "student_seq", sequenceName = "student_seq", allocationSize = IdAllocation.SIZE)
     @Column(nullable = false)
     long id;
 
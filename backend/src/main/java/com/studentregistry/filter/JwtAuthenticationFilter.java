@@ -2,6 +2,8 @@ package com.studentregistry.filter;
 
 import com.studentregistry.factory.AuthenticationTokenFactory;
 import com.studentregistry.util.JwtUtil;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -21,16 +23,23 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
     private final AuthenticationTokenFactory tokenFactory;
+    private final MeterRegistry meterRegistry;
 
-    public JwtAuthenticationFilter(JwtUtil jwtUtil, AuthenticationTokenFactory tokenFactory) {
+    public JwtAuthenticationFilter(JwtUtil jwtUtil, AuthenticationTokenFactory tokenFactory,
+                                   MeterRegistry meterRegistry) {
         this.jwtUtil = jwtUtil;
         this.tokenFactory = tokenFactory;
+        this.meterRegistry = meterRegistry;
     }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
 
+        // Times token parsing and validation only, not the rest of the chain
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "anonymous";
+
         final String requestTokenHeader = request.getHeader("Authorization");
         
         logger.debug("Processing request: " + request.getRequestURI() + ", Authorization header present: " + (requestTokenHeader != null));
@@ -46,8 +55,10 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                 logger.debug("Extracted username from token: " + username);
             } catch (Exception e) {
                 logger.error("Unable to get JWT Token for request: " + request.getRequestURI(), e);
+                outcome = "rejected";
             }
         } else if (requestTokenHeader != null) {
+            outcome = "rejected";
             logger.warn("Authorization header present but doesn't start with 'Bearer ' for request: " + request.getRequestURI());
         }
 
@@ -59,6 +70,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                 // Validate role is not null
                 if (role == null || role.isEmpty()) {
                     logger.warn("JWT token does not contain a role for user: " + username);
+                    stopTimer(sample, "rejected");
                     filterChain.doFilter(request, response);
                     return;
                 }
@@ -71,19 +83,31 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                 if (jwtUtil.validateToken(jwtToken, userDetails)) {
                     UsernamePasswordAuthenticationToken authToken = tokenFactory.createAuthenticationToken(userDetails, request);
                     SecurityContextHolder.getContext().setAuthentication(authToken);
+                    outcome = "authenticated";
                     logger.info("Successfully authenticated user: " + username + " with role: " + role + " and authorities: " + authorities);
                 } else {
                     logger.warn("JWT token validation failed for user: " + username);
+                    outcome = "rejected";
                 }
             } catch (Exception e) {
                 logger.error("Error processing JWT token for user: " + username + " for request: " + request.getRequestURI(), e);
+                outcome = "rejected";
                 // Continue filter chain - let Spring Security handle unauthorized access
             }
         } else if (username == null) {
             logger.debug("No username extracted from token for request: " + request.getRequestURI());
         } else {
             logger.debug("Authentication already exists for request: " + request.getRequestURI());
+            outcome = "authenticated";
         }
+        stopTimer(sample, outcome);
         filterChain.doFilter(request, response);
     }
-}
\ No newline at end of file
+
+    private void stopTimer(Timer.Sample sample, String outcome) {
+        sample.stop(Timer.builder("security.jwt.filter")
+                .description("Time spent parsing and validating the bearer token")
+                .tag("outcome", outcome)
+                .register(meterRegistry));
+    }
+}
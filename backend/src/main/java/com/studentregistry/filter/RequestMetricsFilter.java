@@ -0,0 +1,76 @@
+package com.studentregistry.filter;
+
+import com.studentregistry.metrics.RequestQueryStats;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+// Per-request database work, tagged like http.server.requests (method, uri template):
+//   db.request.statements    statements and batches executed
+//   db.request.jdbc          time spent executing them
+//   db.request.entity.loads  entity instances materialised
+// An endpoint whose statement count grows with its page size is doing N+1.
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class RequestMetricsFilter extends OncePerRequestFilter {
+
+    private static final double[] COUNT_BUCKETS = { 1, 2, 3, 5, 10, 20, 50, 100, 200, 500 };
+
+    private final MeterRegistry meterRegistry;
+
+    public RequestMetricsFilter(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        RequestQueryStats stats = RequestQueryStats.begin();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            RequestQueryStats.end();
+            record(request, stats);
+        }
+    }
+
+    private void record(HttpServletRequest request, RequestQueryStats stats) {
+        String uri = RequestQueryStats.uriTemplate(request);
+        String method = request.getMethod();
+
+        DistributionSummary.builder("db.request.statements")
+                .description("JDBC statements and batches executed per HTTP request")
+                .baseUnit("statements")
+                .tags("method", method, "uri", uri)
+                .serviceLevelObjectives(COUNT_BUCKETS)
+                .register(meterRegistry)
+                .record(stats.getStatements());
+        DistributionSummary.builder("db.request.entity.loads")
+                .description("Hibernate entity instances loaded per HTTP request")
+                .baseUnit("entities")
+                .tags("method", method, "uri", uri)
+                .serviceLevelObjectives(COUNT_BUCKETS)
+                .register(meterRegistry)
+                .record(stats.getEntityLoads());
+        Timer.builder("db.request.jdbc")
+                .description("Time spent executing JDBC statements per HTTP request")
+                .tags("method", method, "uri", uri)
+                .publishPercentileHistogram()
+                .maximumExpectedValue(Duration.ofSeconds(10))
+                .register(meterRegistry)
+                .record(stats.getJdbcNanos(), TimeUnit.NANOSECONDS);
+    }
+}
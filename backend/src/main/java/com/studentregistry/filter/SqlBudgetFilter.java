@@ -0,0 +1,113 @@
+package com.studentregistry.filter;
+
+import com.studentregistry.metrics.RequestQueryStats;
+import com.studentregistry.metrics.SqlBudget;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+
+// Checks each request's SQL against SqlBudget once it completes. Every request over budget is
+// counted in db.request.budget.exceeded; a sample of them (all of them in header mode) is logged with
+// the statement shapes that repeated, which is where the N+1 comes from. Runs just inside
+// RequestMetricsFilter, which owns the RequestQueryStats.
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 2)
+public class SqlBudgetFilter extends OncePerRequestFilter {
+
+    public static final String STATEMENTS_HEADER = "X-SQL-Statements";
+    public static final String JDBC_TIME_HEADER = "X-SQL-Time-Ms";
+    public static final String EXCEEDED_HEADER = "X-SQL-Budget-Exceeded";
+
+    private static final int MAX_LOGGED_SHAPES = 5;
+    private static final int MAX_SHAPE_LENGTH = 300;
+
+    private final SqlBudget sqlBudget;
+    private final MeterRegistry meterRegistry;
+
+    public SqlBudgetFilter(SqlBudget sqlBudget, MeterRegistry meterRegistry) {
+        this.sqlBudget = sqlBudget;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        RequestQueryStats stats = RequestQueryStats.current();
+        if (sqlBudget.getMode() == SqlBudget.Mode.OFF || stats == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        stats.trackShapes();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            check(request, response, stats);
+        }
+    }
+
+    // Responses with a JSON body already got these from SqlBudgetHeaderAdvice; this covers the rest
+    // (empty bodies, errors) when they are not committed yet
+    private static void addHeaders(HttpServletResponse response, SqlBudget.Verdict verdict) {
+        if (response.isCommitted()) {
+            return;
+        }
+        response.setHeader(STATEMENTS_HEADER, Integer.toString(verdict.statements()));
+        response.setHeader(JDBC_TIME_HEADER, Long.toString(verdict.jdbcMillis()));
+        if (verdict.exceeded()) {
+            response.setHeader(EXCEEDED_HEADER, verdict.reasons());
+        }
+    }
+
+    private void check(HttpServletRequest request, HttpServletResponse response, RequestQueryStats stats) {
+        String method = request.getMethod();
+        String uri = RequestQueryStats.uriTemplate(request);
+        SqlBudget.Verdict verdict = sqlBudget.evaluate(method, uri, stats);
+
+        if (sqlBudget.getMode() == SqlBudget.Mode.HEADER) {
+            addHeaders(response, verdict);
+        }
+        if (!verdict.exceeded()) {
+            return;
+        }
+
+        Counter.builder("db.request.budget.exceeded")
+                .description("Requests that went over their SQL budget")
+                .tags("method", method, "uri", uri, "reason", verdict.reasons())
+                .register(meterRegistry)
+                .increment();
+
+        if (sqlBudget.getMode() == SqlBudget.Mode.HEADER
+                || ThreadLocalRandom.current().nextDouble() < sqlBudget.getLogSampleRate()) {
+            System.err.println(describe(method, uri, verdict, stats));
+        }
+    }
+
+    private static String describe(String method, String uri, SqlBudget.Verdict verdict, RequestQueryStats stats) {
+        StringBuilder message = new StringBuilder()
+                .append("SQL budget exceeded (").append(verdict.reasons()).append("): ")
+                .append(method).append(' ').append(uri).append(" - ")
+                .append(verdict.statements()).append(" statements (limit ").append(verdict.statementLimit()).append("), ")
+                .append(verdict.jdbcMillis()).append(" ms JDBC (limit ").append(verdict.jdbcLimitMillis()).append("), ")
+                .append(stats.getEntityLoads()).append(" entities loaded");
+        verdict.repeated().stream().limit(MAX_LOGGED_SHAPES).forEach(repeated -> {
+            String shape = repeated.shape();
+            if (shape.length() > MAX_SHAPE_LENGTH) {
+                shape = shape.substring(0, MAX_SHAPE_LENGTH) + "...";
+            }
+            message.append(System.lineSeparator()).append("  ").append(repeated.count()).append("x ").append(shape);
+        });
+        return message.toString();
+    }
+}
@@ -0,0 +1,58 @@
+package com.studentregistry.metrics;
+
+import com.studentregistry.service.LogSink;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+// Publishes the audit sink's counters (the same numbers as GET /api/logs/writer-stats).
+// Only the keys the active sink reports are bound: the sync sink has no queue.
+@Component
+public class AuditLogMetrics implements MeterBinder {
+
+    private static final List<String> EVENT_RESULTS = List.of("submitted", "written", "dropped", "spilled", "failed");
+
+    private final LogSink logSink;
+
+    public AuditLogMetrics(LogSink logSink) {
+        this.logSink = logSink;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Map<String, Object> stats = logSink.getStats();
+        String mode = String.valueOf(stats.get("mode"));
+
+        if (stats.containsKey("queueDepth")) {
+            Gauge.builder("audit.log.queue.depth", this, m -> m.stat("queueDepth"))
+                    .description("Audit events waiting for the background writer")
+                    .tag("mode", mode)
+                    .register(registry);
+        }
+        if (stats.containsKey("queueCapacity")) {
+            Gauge.builder("audit.log.queue.capacity", this, m -> m.stat("queueCapacity"))
+                    .description("Capacity of the audit event queue")
+                    .tag("mode", mode)
+                    .register(registry);
+        }
+        for (String result : EVENT_RESULTS) {
+            if (stats.containsKey(result)) {
+                FunctionCounter.builder("audit.log.events", this, m -> m.stat(result))
+                        .description("Audit events by what happened to them")
+                        .tags("mode", mode, "result", result)
+                        .register(registry);
+            }
+        }
+    }
+
+    private double stat(String key) {
+        Object value = logSink.getStats().get(key);
+        return value instanceof Number number ? number.doubleValue() : Double.NaN;
+    }
+}
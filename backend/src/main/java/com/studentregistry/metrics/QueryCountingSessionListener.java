@@ -0,0 +1,37 @@
+package com.studentregistry.metrics;
+
+import org.hibernate.SessionEventListener;
+
+// Hibernate creates one per session (hibernate.session.events.auto). Counts every statement and
+// batch the session executes, and the time spent in execute, against the current request.
+public class QueryCountingSessionListener implements SessionEventListener {
+
+    private long executeStarted;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        executeStarted = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        record();
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        executeStarted = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        record();
+    }
+
+    private void record() {
+        RequestQueryStats stats = RequestQueryStats.current();
+        if (stats != null) {
+            stats.statementExecuted(System.nanoTime() - executeStarted);
+        }
+    }
+}
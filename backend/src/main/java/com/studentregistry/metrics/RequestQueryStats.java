@@ -0,0 +1,84 @@
+package com.studentregistry.metrics;
+
+import org.springframework.web.servlet.HandlerMapping;
+
+import jakarta.servlet.http.HttpServletRequest;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+// JDBC work done on behalf of the current request. RequestMetricsFilter opens one per request on
+// the request thread; the Hibernate listeners add to it from every session the request uses
+// (open-in-view is off, so one request can span several). Work on other threads - the MVC async
+// executor streaming exports, CSV import workers, the audit writer - has no stats and is not counted.
+public final class RequestQueryStats {
+
+    private static final ThreadLocal<RequestQueryStats> CURRENT = new ThreadLocal<>();
+
+    private int statements;
+    private long jdbcNanos;
+    private int entityLoads;
+    // normalized SQL -> times prepared; only filled once SqlBudgetFilter turns it on
+    private Map<String, Integer> shapes;
+
+    public static RequestQueryStats begin() {
+        RequestQueryStats stats = new RequestQueryStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    // null outside a request
+    public static RequestQueryStats current() {
+        return CURRENT.get();
+    }
+
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    // The matched route ("/api/courses/{id}/enrollments") that metrics and budgets are keyed by,
+    // or UNKNOWN before handler mapping and for requests no handler matched
+    public static String uriTemplate(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : "UNKNOWN";
+    }
+
+    public void trackShapes() {
+        if (shapes == null) {
+            shapes = new HashMap<>();
+        }
+    }
+
+    boolean isTrackingShapes() {
+        return shapes != null;
+    }
+
+    void statementExecuted(long nanos) {
+        statements++;
+        jdbcNanos += nanos;
+    }
+
+    void statementPrepared(String shape) {
+        shapes.merge(shape, 1, Integer::sum);
+    }
+
+    void entityLoaded() {
+        entityLoads++;
+    }
+
+    public int getStatements() {
+        return statements;
+    }
+
+    public long getJdbcNanos() {
+        return jdbcNanos;
+    }
+
+    public int getEntityLoads() {
+        return entityLoads;
+    }
+
+    public Map<String, Integer> getShapes() {
+        return shapes != null ? Collections.unmodifiableMap(shapes) : Map.of();
+    }
+}
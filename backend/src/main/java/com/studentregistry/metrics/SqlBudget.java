@@ -0,0 +1,124 @@
+package com.studentregistry.metrics;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Per-request SQL limits checked by SqlBudgetFilter. Every endpoint gets the default statement and
+// JDBC-time budget; sql.budget.overrides tightens or loosens it per route, keyed by HTTP method and
+// URI template ("GET /api/enrollments=20,GET /api/courses/{id}/enrollments=10").
+@Component
+public class SqlBudget {
+
+    public enum Mode {
+        OFF, // no shape tracking, no checks
+        LOG, // log a sample of the requests over budget
+        HEADER; // also add X-SQL-* headers to every response (dev only: exposes query counts)
+
+        public static Mode fromString(String value) {
+            return Mode.valueOf(value.trim().toUpperCase());
+        }
+    }
+
+    // A shape repeated at least repeatThreshold times in one request
+    public record RepeatedShape(String shape, int count) {
+    }
+
+    public record Verdict(int statements, int statementLimit, long jdbcMillis, long jdbcLimitMillis,
+                          List<RepeatedShape> repeated) {
+
+        public boolean overStatements() {
+            return statements > statementLimit;
+        }
+
+        public boolean overTime() {
+            return jdbcMillis > jdbcLimitMillis;
+        }
+
+        public boolean exceeded() {
+            return overStatements() || overTime() || !repeated.isEmpty();
+        }
+
+        // "statements,jdbc-time,n+1", or "" when within budget
+        public String reasons() {
+            List<String> reasons = new ArrayList<>(3);
+            if (overStatements()) {
+                reasons.add("statements");
+            }
+            if (overTime()) {
+                reasons.add("jdbc-time");
+            }
+            if (!repeated.isEmpty()) {
+                reasons.add("n+1");
+            }
+            return String.join(",", reasons);
+        }
+    }
+
+    private final Mode mode;
+    private final int maxStatements;
+    private final long maxJdbcMillis;
+    private final int repeatThreshold;
+    private final double logSampleRate;
+    private final Map<String, Integer> statementOverrides;
+
+    public SqlBudget(@Value("${sql.inspector.mode:log}") String mode,
+                     @Value("${sql.budget.max-statements:50}") int maxStatements,
+                     @Value("${sql.budget.max-jdbc-ms:500}") long maxJdbcMillis,
+                     @Value("${sql.budget.repeat-threshold:5}") int repeatThreshold,
+                     @Value("${sql.inspector.log-sample-rate:0.1}") double logSampleRate,
+                     @Value("${sql.budget.overrides:}") String overrides) {
+        this.mode = Mode.fromString(mode);
+        this.maxStatements = maxStatements;
+        this.maxJdbcMillis = maxJdbcMillis;
+        this.repeatThreshold = Math.max(2, repeatThreshold);
+        this.logSampleRate = Math.clamp(logSampleRate, 0.0, 1.0);
+        this.statementOverrides = parseOverrides(overrides);
+    }
+
+    public Mode getMode() {
+        return mode;
+    }
+
+    public double getLogSampleRate() {
+        return logSampleRate;
+    }
+
+    public Verdict evaluate(String method, String uri, RequestQueryStats stats) {
+        int limit = statementOverrides.getOrDefault(method + " " + uri, maxStatements);
+        List<RepeatedShape> repeated = new ArrayList<>();
+        for (Map.Entry<String, Integer> shape : stats.getShapes().entrySet()) {
+            if (shape.getValue() >= repeatThreshold) {
+                repeated.add(new RepeatedShape(shape.getKey(), shape.getValue()));
+            }
+        }
+        repeated.sort((a, b) -> Integer.compare(b.count(), a.count()));
+        return new Verdict(stats.getStatements(), limit, stats.getJdbcNanos() / 1_000_000,
+                maxJdbcMillis, repeated);
+    }
+
+    private static Map<String, Integer> parseOverrides(String value) {
+        Map<String, Integer> overrides = new HashMap<>();
+        if (value == null || value.isBlank()) {
+            return overrides;
+        }
+        for (String entry : value.split(",")) {
+            int eq = entry.lastIndexOf('=');
+            if (eq <= 0) {
+                throw new IllegalArgumentException("Invalid sql.budget.overrides entry: " + entry.trim());
+            }
+            String route = entry.substring(0, eq).trim().replaceAll("\\s+", " ");
+            int space = route.indexOf(' ');
+            if (space <= 0) {
+                throw new IllegalArgumentException("sql.budget.overrides entry needs 'METHOD /path': " + entry.trim());
+            }
+            route = route.substring(0, space).toUpperCase() + route.substring(space);
+            overrides.put(route, Integer.parseInt(entry.substring(eq + 1).trim()));
+        }
+        return overrides;
+    }
+}
@@ -0,0 +1,50 @@
+package com.studentregistry.metrics;
+
+import com.studentregistry.filter.SqlBudgetFilter;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+// In header mode, sets X-SQL-* just before the JSON body is written: by the time SqlBudgetFilter
+// sees the request again the response is usually committed and headers can no longer be added.
+// Serialization runs no SQL (open-in-view is off), so the counts are final here.
+@ControllerAdvice
+public class SqlBudgetHeaderAdvice implements ResponseBodyAdvice<Object> {
+
+    private final SqlBudget sqlBudget;
+
+    public SqlBudgetHeaderAdvice(SqlBudget sqlBudget) {
+        this.sqlBudget = sqlBudget;
+    }
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return sqlBudget.getMode() == SqlBudget.Mode.HEADER;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        RequestQueryStats stats = RequestQueryStats.current();
+        if (stats != null && request instanceof ServletServerHttpRequest servletRequest) {
+            HttpServletRequest httpRequest = servletRequest.getServletRequest();
+            SqlBudget.Verdict verdict = sqlBudget.evaluate(httpRequest.getMethod(),
+                    RequestQueryStats.uriTemplate(httpRequest), stats);
+            // ServerHttpResponse buffers headers until the body is written
+            response.getHeaders().set(SqlBudgetFilter.STATEMENTS_HEADER, Integer.toString(verdict.statements()));
+            response.getHeaders().set(SqlBudgetFilter.JDBC_TIME_HEADER, Long.toString(verdict.jdbcMillis()));
+            if (verdict.exceeded()) {
+                response.getHeaders().set(SqlBudgetFilter.EXCEEDED_HEADER, verdict.reasons());
+            }
+        }
+        return body;
+    }
+}
@@ -0,0 +1,33 @@
+package com.studentregistry.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.regex.Pattern;
+
+// Sees every SQL string Hibernate prepares (hibernate.session_factory.statement_inspector) and, when
+// the current request is tracking shapes, counts it by shape: literals become ?, IN lists collapse.
+// The same shape prepared many times in one request is the N+1 signature, e.g. one
+// "select ... from courses where id=?" per enrollment row. The SQL itself is returned unchanged.
+public class SqlShapeInspector implements StatementInspector {
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern IN_LIST = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)+\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    @Override
+    public String inspect(String sql) {
+        RequestQueryStats stats = RequestQueryStats.current();
+        if (stats != null && stats.isTrackingShapes()) {
+            stats.statementPrepared(shapeOf(sql));
+        }
+        return sql;
+    }
+
+    static String shapeOf(String sql) {
+        String shape = STRING_LITERAL.matcher(sql).replaceAll("?");
+        shape = NUMBER_LITERAL.matcher(shape).replaceAll("?");
+        shape = IN_LIST.matcher(shape).replaceAll("(?...)");
+        return WHITESPACE.matcher(shape).replaceAll(" ").trim();
+    }
+}
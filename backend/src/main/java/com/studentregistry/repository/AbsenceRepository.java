@@ -1,39 +1,76 @@
 package com.studentregistry.repository;
 
+import com.studentregistry.dto.AbsenceRow;
 import com.studentregistry.entity.Absence;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface AbsenceRepository extends JpaRepository<Absence, Absence.AbsenceId> {
 
+    // List methods load student and course -> teacher -> user -> role in the same select,
+    // otherwise every distinct association costs its own query (N+1)
+    @Override
+    @EntityGraph("Absence.details")
+    List<Absence> findAll(Sort sort);
+
+    @EntityGraph("Absence.details")
     List<Absence> findByStudent_Id(Long studentId, Sort sort);
+    @EntityGraph("Absence.details")
     Page<Absence> findByStudent_Id(Long studentId, Pageable pageable);
 
+    @EntityGraph("Absence.details")
     List<Absence> findByCourse_Id(Long courseId, Sort sort);
+    @EntityGraph("Absence.details")
     Page<Absence> findByCourse_Id(Long courseId, Pageable pageable);
     long countByCourse_Id(Long courseId);
 
+    @EntityGraph("Absence.details")
     @Query("SELECT a FROM Absence a WHERE a.date = :date ORDER BY a.student.id, a.course.id")
     List<Absence> findByDate(@Param("date") LocalDate date);
 
+    @EntityGraph("Absence.details")
     @Query("SELECT a FROM Absence a WHERE a.student.id = :studentId AND a.course.id = :courseId ORDER BY a.date")
     List<Absence> findByStudentAndCourse(@Param("studentId") Long studentId, @Param("courseId") Long courseId);
 
+    @EntityGraph("Absence.details")
     @Query("SELECT a FROM Absence a WHERE a.date BETWEEN :startDate AND :endDate ORDER BY a.student.id, a.course.id, a.date")
     List<Absence> findByDateRange(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
 
+    // Roll call: records an absence for every listed student enrolled in the course, in one statement.
+    // Rows already present are skipped by the primary key, so re-submitting a roll call is harmless.
+    @Modifying
+    @Query(value = "INSERT INTO absences (student_id, course_id, date) " +
+                   "SELECT e.student_id, e.course_id, :date FROM enrollments e " +
+                   "WHERE e.course_id = :courseId AND e.student_id IN (:studentIds) " +
+                   "ON CONFLICT (student_id, course_id, date) DO NOTHING",
+           nativeQuery = true)
+    int insertRollCall(@Param("courseId") Long courseId,
+                       @Param("studentIds") Collection<Long> studentIds,
+                       @Param("date") LocalDate date);
+
     @Query("SELECT COUNT(a) FROM Absence a WHERE a.student.id = :studentId AND a.course.id = :courseId")
     Long countByStudentAndCourse(@Param("studentId") Long studentId, @Param("courseId") Long courseId);
 
+    @EntityGraph("Absence.details")
     @Query("SELECT a FROM Absence a WHERE " +
            "(:studentId IS NULL OR a.student.id = :studentId) AND " +
            "(:courseId IS NULL OR a.course.id = :courseId) AND " +
@@ -45,4 +82,90 @@ public interface AbsenceRepository extends JpaRepository<Absence, Absence.Absenc
                                        @Param("dateFrom") LocalDate dateFrom, 
                                        @Param("dateTo") LocalDate dateTo, 
                                        Pageable pageable);
+
+    // Same as findFilteredAbsences but returned as a Slice, so no COUNT query is run
+    @EntityGraph("Absence.details")
+    @Query("SELECT a FROM Absence a WHERE " +
+           "(:studentId IS NULL OR a.student.id = :studentId) AND " +
+           "(:courseId IS NULL OR a.course.id = :courseId) AND " +
+           "(:dateFrom IS NULL OR a.date >= :dateFrom) AND " +
+           "(:dateTo IS NULL OR a.date <= :dateTo) " +
+           "ORDER BY a.student.id, a.course.id, a.date")
+    Slice<Absence> findFilteredAbsencesSlice(@Param("studentId") Long studentId, 
+                                             @Param("courseId") Long courseId,
+                                             @Param("dateFrom") LocalDate dateFrom, 
+                                             @Param("dateTo") LocalDate dateTo, 
+                                             Pageable pageable);
+
+    // Keyset variant of findFilteredAbsences, seeking past (studentId, courseId, date) in pk_absences order.
+    // The leading >= on student_id lets PostgreSQL start the index scan at the cursor.
+    @EntityGraph("Absence.details")
+    @Query("SELECT a FROM Absence a WHERE " +
+           "(:afterStudentId IS NULL OR (a.student.id >= :afterStudentId AND " +
+           "  (a.student.id > :afterStudentId OR a.course.id > :afterCourseId OR " +
+           "   (a.course.id = :afterCourseId AND a.date > :afterDate)))) AND " +
+           "(:studentId IS NULL OR a.student.id = :studentId) AND " +
+           "(:courseId IS NULL OR a.course.id = :courseId) AND " +
+           "(:dateFrom IS NULL OR a.date >= :dateFrom) AND " +
+           "(:dateTo IS NULL OR a.date <= :dateTo) " +
+           "ORDER BY a.student.id, a.course.id, a.date")
+    List<Absence> findFilteredAbsencesAfter(@Param("studentId") Long studentId,
+                                          @Param("courseId") Long courseId,
+                                          @Param("dateFrom") LocalDate dateFrom,
+                                          @Param("dateTo") LocalDate dateTo,
+                                          @Param("afterStudentId") Long afterStudentId,
+                                          @Param("afterCourseId") Long afterCourseId,
+                                          @Param("afterDate") LocalDate afterDate,
+                                          Limit limit);
+
+    // view=summary: flat rows selected straight from the joined tables, no entities loaded
+    String ROW_SELECT = "SELECT new com.studentregistry.dto.AbsenceRow(" +
+            "s.id, s.firstName, s.lastName, c.id, c.courseCode, c.courseName, a.date) " +
+            "FROM Absence a JOIN a.student s JOIN a.course c ";
+
+    String ROW_FILTERS = "(:studentId IS NULL OR a.student.id = :studentId) AND " +
+            "(:courseId IS NULL OR a.course.id = :courseId) AND " +
+            "(:dateFrom IS NULL OR a.date >= :dateFrom) AND " +
+            "(:dateTo IS NULL OR a.date <= :dateTo) ";
+
+    @Query(value = ROW_SELECT + "WHERE " + ROW_FILTERS + "ORDER BY a.student.id, a.course.id, a.date",
+           countQuery = "SELECT COUNT(a) FROM Absence a WHERE " + ROW_FILTERS)
+    Page<AbsenceRow> findFilteredAbsenceRows(@Param("studentId") Long studentId,
+                                             @Param("courseId") Long courseId,
+                                             @Param("dateFrom") LocalDate dateFrom,
+                                             @Param("dateTo") LocalDate dateTo,
+                                             Pageable pageable);
+
+    @Query(ROW_SELECT + "WHERE " + ROW_FILTERS + "ORDER BY a.student.id, a.course.id, a.date")
+    Slice<AbsenceRow> findFilteredAbsenceRowsSlice(@Param("studentId") Long studentId,
+                                                   @Param("courseId") Long courseId,
+                                                   @Param("dateFrom") LocalDate dateFrom,
+                                                   @Param("dateTo") LocalDate dateTo,
+                                                   Pageable pageable);
+
+    @Query(ROW_SELECT + "WHERE " +
+           "(:afterStudentId IS NULL OR (a.student.id >= :afterStudentId AND " +
+           "  (a.student.id > :afterStudentId OR a.course.id > :afterCourseId OR " +
+           "   (a.course.id = :afterCourseId AND a.date > :afterDate)))) AND " +
+           ROW_FILTERS +
+           "ORDER BY a.student.id, a.course.id, a.date")
+    List<AbsenceRow> findFilteredAbsenceRowsAfter(@Param("studentId") Long studentId,
+                                                @Param("courseId") Long courseId,
+                                                @Param("dateFrom") LocalDate dateFrom,
+                                                @Param("dateTo") LocalDate dateTo,
+                                                @Param("afterStudentId") Long afterStudentId,
+                                                @Param("afterCourseId") Long afterCourseId,
+                                                @Param("afterDate") LocalDate afterDate,
+                                                Limit limit);
+
+    @Query(ROW_SELECT + "WHERE a.date BETWEEN :startDate AND :endDate ORDER BY a.student.id, a.course.id, a.date")
+    List<AbsenceRow> findRowsByDateRange(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+
+    // Export: forward-only cursor, 500 rows per fetch; consume inside a read-only transaction
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(ROW_SELECT + "ORDER BY a.student.id, a.course.id, a.date")
+    Stream<AbsenceRow> streamAllRows();
 }
\ No newline at end of file
@@ -0,0 +1,74 @@
+package com.studentregistry.repository;
+
+import com.studentregistry.dto.AttendanceRow;
+
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import jakarta.persistence.EntityManager;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+// Reads and repairs course_attendance_stats, which the V6 triggers keep in step with absences.
+@Repository
+public class AttendanceStatsRepository {
+
+    private final EntityManager entityManager;
+
+    public AttendanceStatsRepository(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    // Every enrolled student with their counts, in one statement: idx_enrollments_course_student for
+    // the class list, then primary key lookups into students and course_attendance_stats
+    @Transactional(readOnly = true)
+    public List<AttendanceRow> findByCourse(long courseId) {
+        @SuppressWarnings("unchecked")
+        List<Object[]> rows = entityManager.createNativeQuery(
+                "SELECT s.id, s.first_name, s.last_name, COALESCE(cas.absence_count, 0), cas.last_absence_date "
+                        + "FROM enrollments e "
+                        + "JOIN students s ON s.id = e.student_id "
+                        + "LEFT JOIN course_attendance_stats cas "
+                        + "ON cas.course_id = e.course_id AND cas.student_id = e.student_id "
+                        + "WHERE e.course_id = :courseId "
+                        + "ORDER BY s.last_name, s.first_name, s.id")
+                .setParameter("courseId", courseId)
+                .getResultList();
+        List<AttendanceRow> result = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            result.add(new AttendanceRow(((Number) row[0]).longValue(), (String) row[1], (String) row[2],
+                    ((Number) row[3]).intValue(), toLocalDate(row[4])));
+        }
+        return result;
+    }
+
+    // Recomputes the whole table from absences and fixes rows that drifted (e.g. after the triggers
+    // were disabled for a bulk load). Absence writes wait for the duration; reads do not.
+    // Returns the number of rows inserted, corrected or removed.
+    @Transactional
+    public int rebuild() {
+        entityManager.createNativeQuery("LOCK TABLE absences IN SHARE MODE").executeUpdate();
+        int removed = entityManager.createNativeQuery(
+                "DELETE FROM course_attendance_stats cas WHERE NOT EXISTS ("
+                        + "SELECT 1 FROM absences a WHERE a.student_id = cas.student_id AND a.course_id = cas.course_id)")
+                .executeUpdate();
+        int upserted = entityManager.createNativeQuery(
+                "INSERT INTO course_attendance_stats AS cas (course_id, student_id, absence_count, last_absence_date) "
+                        + "SELECT course_id, student_id, count(*), max(date) FROM absences GROUP BY course_id, student_id "
+                        + "ON CONFLICT (course_id, student_id) DO UPDATE "
+                        + "SET absence_count = EXCLUDED.absence_count, last_absence_date = EXCLUDED.last_absence_date "
+                        + "WHERE (cas.absence_count, cas.last_absence_date) "
+                        + "IS DISTINCT FROM (EXCLUDED.absence_count, EXCLUDED.last_absence_date)")
+                .executeUpdate();
+        return removed + upserted;
+    }
+
+    private static LocalDate toLocalDate(Object value) {
+        if (value == null) {
+            return null;
+        }
+        return value instanceof Date date ? date.toLocalDate() : (LocalDate) value;
+    }
+}
@@ -1,20 +1,34 @@
 package com.studentregistry.repository;
 
+import com.studentregistry.dto.CourseRow;
+import com.studentregistry.entity.CacheRegions;
 import com.studentregistry.entity.Course;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface CourseRepository extends JpaRepository<Course, Long> {
 
+    // The semester catalogue is read on every course picker and changes only between terms.
+    // Hibernate drops these results whenever the courses table is written on this node.
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.COURSES_BY_SEMESTER)
+    })
     List<Course> findBySemester(String semester, Sort sort);
 
     List<Course> findByDepartment(String department, Sort sort);
@@ -41,4 +55,73 @@ public interface CourseRepository extends JpaRepository<Course, Long> {
                                    @Param("semester") String semester,
                                    @Param("teacherId") Long teacherId,
                                    Pageable pageable);
+
+    // Same as findFilteredCourses but returned as a Slice, so no COUNT query is run
+    @Query("SELECT c FROM Course c WHERE " +
+           "(:name IS NULL OR c.courseName LIKE %:name%) AND " +
+           "(:department IS NULL OR c.department = :department) AND " +
+           "(:semester IS NULL OR c.semester = :semester) AND " +
+           "(:teacherId IS NULL OR c.teacher.id = :teacherId) " +
+           "ORDER BY c.id")
+    Slice<Course> findFilteredCoursesSlice(@Param("name") String name,
+                                         @Param("department") String department,
+                                         @Param("semester") String semester,
+                                         @Param("teacherId") Long teacherId,
+                                         Pageable pageable);
+
+    // Set-based existence check for bulk operations
+    @Query("SELECT c.id FROM Course c WHERE c.id IN :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    // Typeahead index load: id, courseCode, section, courseName, semester
+    @Query("SELECT c.id, c.courseCode, c.section, c.courseName, c.semester FROM Course c")
+    List<Object[]> findTypeaheadRows();
+
+    // Keyset variant of findFilteredCourses
+    @Query("SELECT c FROM Course c WHERE " +
+           "(:afterId IS NULL OR c.id > :afterId) AND " +
+           "(:name IS NULL OR c.courseName LIKE %:name%) AND " +
+           "(:department IS NULL OR c.department = :department) AND " +
+           "(:semester IS NULL OR c.semester = :semester) AND " +
+           "(:teacherId IS NULL OR c.teacher.id = :teacherId) " +
+           "ORDER BY c.id")
+    List<Course> findFilteredCoursesAfter(@Param("name") String name,
+                                        @Param("department") String department,
+                                        @Param("semester") String semester,
+                                        @Param("teacherId") Long teacherId,
+                                        @Param("afterId") Long afterId,
+                                        Limit limit);
+
+    // view=summary: flat rows selected straight from the joined tables, no entities loaded
+    String ROW_SELECT = "SELECT new com.studentregistry.dto.CourseRow(" +
+            "c.id, c.courseCode, c.section, c.courseName, c.credit, c.department, c.semester, c.status, " +
+            "t.id, t.firstName, t.lastName) FROM Course c LEFT JOIN c.teacher t ";
+
+    String ROW_FILTERS = "(:name IS NULL OR c.courseName LIKE %:name%) AND " +
+            "(:department IS NULL OR c.department = :department) AND " +
+            "(:semester IS NULL OR c.semester = :semester) AND " +
+            "(:teacherId IS NULL OR c.teacher.id = :teacherId) ";
+
+    @Query(value = ROW_SELECT + "WHERE " + ROW_FILTERS + "ORDER BY c.id",
+           countQuery = "SELECT COUNT(c) FROM Course c WHERE " + ROW_FILTERS)
+    Page<CourseRow> findFilteredCourseRows(@Param("name") String name,
+                                           @Param("department") String department,
+                                           @Param("semester") String semester,
+                                           @Param("teacherId") Long teacherId,
+                                           Pageable pageable);
+
+    @Query(ROW_SELECT + "WHERE " + ROW_FILTERS + "ORDER BY c.id")
+    Slice<CourseRow> findFilteredCourseRowsSlice(@Param("name") String name,
+                                                 @Param("department") String department,
+                                                 @Param("semester") String semester,
+                                                 @Param("teacherId") Long teacherId,
+                                                 Pageable pageable);
+
+    @Query(ROW_SELECT + "WHERE (:afterId IS NULL OR c.id > :afterId) AND " + ROW_FILTERS + "ORDER BY c.id")
+    List<CourseRow> findFilteredCourseRowsAfter(@Param("name") String name,
+                                              @Param("department") String department,
+                                              @Param("semester") String semester,
+                                              @Param("teacherId") Long teacherId,
+                                              @Param("afterId") Long afterId,
+                                              Limit limit);
 }
\ No newline at end of file
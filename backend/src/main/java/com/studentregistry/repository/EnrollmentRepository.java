@@ -1,38 +1,100 @@
 package com.studentregistry.repository;
 
+import com.studentregistry.dto.EnrollmentRow;
 import com.studentregistry.entity.Enrollment;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface EnrollmentRepository extends JpaRepository<Enrollment, Long> {
 
+    // List methods load student and course -> teacher -> user -> role in the same select,
+    // otherwise every distinct association costs its own query (N+1)
+    @Override
+    @EntityGraph("Enrollment.details")
+    List<Enrollment> findAll(Sort sort);
+
+    @EntityGraph("Enrollment.details")
     List<Enrollment> findByStudent_Id(Long studentId, Sort sort);
+    @EntityGraph("Enrollment.details")
     Page<Enrollment> findByStudent_Id(Long studentId, Pageable pageable);
 
+    @EntityGraph("Enrollment.details")
     List<Enrollment> findByCourse_Id(Long courseId, Sort sort);
+    @EntityGraph("Enrollment.details")
     Page<Enrollment> findByCourse_Id(Long courseId, Pageable pageable);
     long countByCourse_Id(Long courseId);
 
+    @EntityGraph("Enrollment.details")
     Optional<Enrollment> findByStudent_IdAndCourse_Id(Long studentId, Long courseId);
 
+    @EntityGraph("Enrollment.details")
     @Query("SELECT e FROM Enrollment e WHERE e.finalGrade IS NOT NULL ORDER BY e.id")
     List<Enrollment> findByFinalGradeIsNotNull();
 
+    @EntityGraph("Enrollment.details")
     @Query("SELECT e FROM Enrollment e WHERE e.finalGrade IS NULL ORDER BY e.id")
     List<Enrollment> findByFinalGradeIsNull();
 
+    @EntityGraph("Enrollment.details")
     @Query("SELECT e FROM Enrollment e WHERE e.course.semester = :semester ORDER BY e.id")
     List<Enrollment> findBySemester(@Param("semester") String semester);
 
+    @EntityGraph("Enrollment.details")
     @Query("SELECT e FROM Enrollment e WHERE e.student.id = :studentId AND e.course.semester = :semester ORDER BY e.id")
     List<Enrollment> findByStudentAndSemester(@Param("studentId") Long studentId, @Param("semester") String semester);
+
+    // Which of the given students are enrolled in the course
+    @Query("SELECT e.student.id FROM Enrollment e WHERE e.course.id = :courseId AND e.student.id IN :studentIds")
+    List<Long> findEnrolledStudentIds(@Param("courseId") Long courseId,
+                                      @Param("studentIds") Collection<Long> studentIds);
+
+    // (studentId, courseId) pairs that already exist among the given students and courses
+    @Query("SELECT e.student.id, e.course.id FROM Enrollment e " +
+           "WHERE e.student.id IN :studentIds AND e.course.id IN :courseIds")
+    List<Object[]> findExistingPairs(@Param("studentIds") Collection<Long> studentIds,
+                                     @Param("courseIds") Collection<Long> courseIds);
+
+    // view=summary: flat rows selected straight from the joined tables, no entities loaded
+    String ROW_SELECT = "SELECT new com.studentregistry.dto.EnrollmentRow(" +
+            "e.id, s.id, s.firstName, s.lastName, c.id, c.courseCode, c.section, c.courseName, c.semester, " +
+            "e.finalGrade, e.enrolledAt) FROM Enrollment e JOIN e.student s JOIN e.course c ";
+
+    @Query(ROW_SELECT + "ORDER BY e.id")
+    List<EnrollmentRow> findAllRows();
+
+    // Export: forward-only cursor, 500 rows per fetch; consume inside a read-only transaction
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(ROW_SELECT + "ORDER BY e.id")
+    Stream<EnrollmentRow> streamAllRows();
+
+    @Query(ROW_SELECT + "WHERE s.id = :studentId ORDER BY e.id")
+    List<EnrollmentRow> findRowsByStudentId(@Param("studentId") Long studentId);
+
+    @Query(ROW_SELECT + "WHERE c.id = :courseId ORDER BY e.id")
+    List<EnrollmentRow> findRowsByCourseId(@Param("courseId") Long courseId);
+
+    @Query(ROW_SELECT + "WHERE c.semester = :semester ORDER BY e.id")
+    List<EnrollmentRow> findRowsBySemester(@Param("semester") String semester);
+
+    @Query(ROW_SELECT + "WHERE s.id = :studentId AND c.semester = :semester ORDER BY e.id")
+    List<EnrollmentRow> findRowsByStudentAndSemester(@Param("studentId") Long studentId, @Param("semester") String semester);
 }
\ No newline at end of file
@@ -1,15 +1,21 @@
 package com.studentregistry.repository;
 
+import com.studentregistry.dto.LogRow;
 import com.studentregistry.entity.Log;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface LogRepository extends JpaRepository<Log, Long>, JpaSpecificationExecutor<Log> {
@@ -26,6 +32,15 @@ public interface LogRepository extends JpaRepository<Log, Long>, JpaSpecificatio
     List<Log> findByUserAndTimestampRange(@Param("userId") Long userId, @Param("startDate") LocalDateTime startDate,
             @Param("endDate") LocalDateTime endDate);
 
+    // Export: forward-only cursor, 500 rows per fetch; consume inside a read-only transaction
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new com.studentregistry.dto.LogRow(l.id, l.timestamp, u.id, u.username, l.action, l.details) " +
+           "FROM Log l LEFT JOIN l.user u ORDER BY l.id")
+    Stream<LogRow> streamAllRows();
+
     // Removed findFilteredLogs - now using Specification in LogService instead
     // This avoids PostgreSQL type inference issues with IS NULL checks
 }
\ No newline at end of file
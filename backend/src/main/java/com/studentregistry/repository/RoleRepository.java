@@ -1,14 +1,23 @@
 package com.studentregistry.repository;
 
+import com.studentregistry.entity.CacheRegions;
 import com.studentregistry.entity.Role;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import java.util.Optional;
 
 @Repository
 public interface RoleRepository extends JpaRepository<Role, Long> {
 
+    // Runs on every registration and role assignment; roles are almost never renamed
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.ROLE_BY_NAME)
+    })
     Optional<Role> findByName(String name);
 
     boolean existsByName(String name);
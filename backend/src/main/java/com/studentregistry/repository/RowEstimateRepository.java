@@ -0,0 +1,69 @@
+package com.studentregistry.repository;
+
+import org.hibernate.Session;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import java.io.IOException;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.List;
+import java.util.Optional;
+
+// Row count estimates from the PostgreSQL planner, used by includeTotal=estimate.
+// Unfiltered lists read pg_class.reltuples; filtered ones read the top-level
+// "Plan Rows" of EXPLAIN, which is cheap but only as good as the table statistics.
+@Repository
+public class RowEstimateRepository {
+
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+
+    public RowEstimateRepository(EntityManager entityManager) {
+        this.entityManager = entityManager;
+        this.objectMapper = new ObjectMapper();
+    }
+
+    // predicates are trusted SQL fragments using ? placeholders; params are bound in order.
+    // Returns empty when the table has never been analyzed or the estimate can't be read.
+    // Transactional so the unwrapped Session stays open (open-in-view is disabled).
+    @Transactional(readOnly = true)
+    public Optional<Long> estimateCount(String table, List<String> predicates, List<Object> params) {
+        try {
+            return entityManager.unwrap(Session.class).doReturningWork(connection -> {
+                if (predicates.isEmpty()) {
+                    try (PreparedStatement ps = connection.prepareStatement(
+                            "SELECT reltuples::bigint FROM pg_class WHERE oid = to_regclass(?)")) {
+                        ps.setString(1, table);
+                        try (ResultSet rs = ps.executeQuery()) {
+                            // reltuples is -1 until the first VACUUM/ANALYZE
+                            return rs.next() && rs.getLong(1) >= 0 ? Optional.of(rs.getLong(1)) : Optional.<Long>empty();
+                        }
+                    }
+                }
+
+                String sql = "EXPLAIN (FORMAT JSON) SELECT 1 FROM " + table + " WHERE " + String.join(" AND ", predicates);
+                try (PreparedStatement ps = connection.prepareStatement(sql)) {
+                    for (int i = 0; i < params.size(); i++) {
+                        ps.setObject(i + 1, params.get(i));
+                    }
+                    try (ResultSet rs = ps.executeQuery()) {
+                        if (!rs.next()) {
+                            return Optional.<Long>empty();
+                        }
+                        JsonNode plan = objectMapper.readTree(rs.getString(1)).path(0).path("Plan");
+                        return plan.has("Plan Rows") ? Optional.of(plan.get("Plan Rows").asLong()) : Optional.<Long>empty();
+                    } catch (IOException e) {
+                        return Optional.<Long>empty();
+                    }
+                }
+            });
+        } catch (Exception e) {
+            System.err.println("Row estimate failed for " + table + " - " + e.getMessage());
+            return Optional.empty();
+        }
+    }
+}
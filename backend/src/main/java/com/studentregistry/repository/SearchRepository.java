@@ -0,0 +1,76 @@
+package com.studentregistry.repository;
+
+import com.studentregistry.dto.SearchResult;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import jakarta.persistence.EntityManager;
+import java.util.List;
+
+// Ranked name search backed by the pg_trgm GIN indexes of V4__trigram_search.sql. Each document
+// expression below must stay identical to its index expression or the planner falls back to a
+// sequential scan. A row matches when the query is word-similar to the name (typo tolerant) or
+// is a substring of it (prefix typing); both conditions are answered from the same index.
+@Repository
+public class SearchRepository {
+
+    private static final String STUDENT_DOC = "search_norm(s.first_name || ' ' || s.last_name)";
+    private static final String TEACHER_DOC =
+            "search_norm(coalesce(t.first_name, '') || ' ' || coalesce(t.last_name, ''))";
+    private static final String COURSE_DOC = "search_norm(c.course_code || ' ' || c.course_name)";
+
+    private final EntityManager entityManager;
+
+    public SearchRepository(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Transactional(readOnly = true)
+    public List<SearchResult> searchStudents(String query, int limit) {
+        return search(SearchResult.Type.STUDENT,
+                "SELECT s.id, s.first_name || ' ' || s.last_name, " +
+                "concat_ws(', ', s.email, s.department), " + score(STUDENT_DOC) + " AS score " +
+                "FROM students s WHERE " + matches(STUDENT_DOC) + " ORDER BY score DESC, s.id LIMIT :limit",
+                query, limit);
+    }
+
+    @Transactional(readOnly = true)
+    public List<SearchResult> searchTeachers(String query, int limit) {
+        return search(SearchResult.Type.TEACHER,
+                "SELECT t.id, concat_ws(' ', t.first_name, t.last_name), " +
+                "concat_ws(', ', t.email, t.department), " + score(TEACHER_DOC) + " AS score " +
+                "FROM teachers t WHERE " + matches(TEACHER_DOC) + " ORDER BY score DESC, t.id LIMIT :limit",
+                query, limit);
+    }
+
+    @Transactional(readOnly = true)
+    public List<SearchResult> searchCourses(String query, int limit) {
+        return search(SearchResult.Type.COURSE,
+                "SELECT c.id, c.course_code || ' - ' || c.course_name, " +
+                "concat_ws(', ', c.semester, 'section ' || c.section, c.department), " + score(COURSE_DOC) + " AS score " +
+                "FROM courses c WHERE " + matches(COURSE_DOC) + " ORDER BY score DESC, c.id LIMIT :limit",
+                query, limit);
+    }
+
+    private static String matches(String doc) {
+        return "(search_norm(:q) <% " + doc + " OR " + doc + " LIKE search_contains_pattern(search_norm(:q)))";
+    }
+
+    // Prefix bonus: the contains pattern minus its leading '%' is "starts with"
+    private static String score(String doc) {
+        return "(word_similarity(search_norm(:q), " + doc + ") + " +
+               "CASE WHEN " + doc + " LIKE substr(search_contains_pattern(search_norm(:q)), 2) THEN 1 ELSE 0 END)";
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<SearchResult> search(SearchResult.Type type, String sql, String query, int limit) {
+        List<Object[]> rows = entityManager.createNativeQuery(sql)
+                .setParameter("q", query)
+                .setParameter("limit", limit)
+                .getResultList();
+        return rows.stream()
+                .map(row -> new SearchResult(type, ((Number) row[0]).longValue(), (String) row[1],
+                        (String) row[2], ((Number) row[3]).doubleValue()))
+                .toList();
+    }
+}
@@ -1,16 +1,24 @@
 package com.studentregistry.repository;
 
 import com.studentregistry.entity.Student;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface StudentRepository extends JpaRepository<Student, Long> {
@@ -23,6 +31,13 @@ public interface StudentRepository extends JpaRepository<Student, Long> {
 
     Optional<Student> findByEmail(String email);
 
+    // Typeahead index load: id, firstName, lastName, email without materialising entities
+    @Query("SELECT s.id, s.firstName, s.lastName, s.email FROM Student s")
+    List<Object[]> findTypeaheadRows();
+
+    // CSV import: resolve a whole chunk of upsert keys in one query
+    List<Student> findByEmailIn(Collection<String> emails);
+
     @Query("SELECT s FROM Student s WHERE s.firstName LIKE %:name% OR s.lastName LIKE %:name% ORDER BY s.id")
     List<Student> findByNameContaining(@Param("name") String name, Sort sort);
 
@@ -39,4 +54,45 @@ public interface StudentRepository extends JpaRepository<Student, Long> {
                                      @Param("enrollmentYear") Integer enrollmentYear,
                                      @Param("status") Student.Status status,
                                      Pageable pageable);
+
+    // Same as findFilteredStudents but returned as a Slice, so no COUNT query is run
+    @Query("SELECT s FROM Student s WHERE " +
+           "(:name IS NULL OR s.firstName LIKE %:name% OR s.lastName LIKE %:name%) AND " +
+           "(:department IS NULL OR s.department = :department) AND " +
+           "(:enrollmentYear IS NULL OR s.enrollmentYear = :enrollmentYear) AND " +
+           "(:status IS NULL OR s.status = :status) " +
+           "ORDER BY s.id")
+    Slice<Student> findFilteredStudentsSlice(@Param("name") String name,
+                                           @Param("department") String department,
+                                           @Param("enrollmentYear") Integer enrollmentYear,
+                                           @Param("status") Student.Status status,
+                                           Pageable pageable);
+
+    // Set-based existence check for bulk operations
+    @Query("SELECT s.id FROM Student s WHERE s.id IN :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    // Export: forward-only cursor over the whole table, 500 rows per fetch. Must be consumed
+    // inside a read-only transaction; callers detach each row so the session stays small.
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT s FROM Student s ORDER BY s.id")
+    Stream<Student> streamAll();
+
+    // Keyset variant of findFilteredStudents: seeks past afterId instead of using OFFSET, no count query
+    @Query("SELECT s FROM Student s WHERE " +
+           "(:afterId IS NULL OR s.id > :afterId) AND " +
+           "(:name IS NULL OR s.firstName LIKE %:name% OR s.lastName LIKE %:name%) AND " +
+           "(:department IS NULL OR s.department = :department) AND " +
+           "(:enrollmentYear IS NULL OR s.enrollmentYear = :enrollmentYear) AND " +
+           "(:status IS NULL OR s.status = :status) " +
+           "ORDER BY s.id")
+    List<Student> findFilteredStudentsAfter(@Param("name") String name,
+                                          @Param("department") String department,
+                                          @Param("enrollmentYear") Integer enrollmentYear,
+                                          @Param("status") Student.Status status,
+                                          @Param("afterId") Long afterId,
+                                          Limit limit);
 }
\ No newline at end of file
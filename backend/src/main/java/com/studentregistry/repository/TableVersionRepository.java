@@ -0,0 +1,58 @@
+package com.studentregistry.repository;
+
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import jakarta.persistence.EntityManager;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+// Cheap probes behind conditional GETs: the per-table counters kept by the V5/V8 triggers, and
+// a single row's updated_at read by primary key without loading the entity.
+@Repository
+public class TableVersionRepository {
+
+    // Counter and last change (epoch millis) of one table
+    public record TableVersion(long version, long updatedAtMillis) {
+    }
+
+    private final EntityManager entityManager;
+
+    public TableVersionRepository(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Transactional(readOnly = true)
+    public Map<String, TableVersion> findVersions(Collection<String> tables) {
+        @SuppressWarnings("unchecked")
+        List<Object[]> rows = entityManager.createNativeQuery(
+                "SELECT table_name, version, (extract(epoch FROM updated_at) * 1000)::bigint "
+                        + "FROM table_versions WHERE table_name IN (:tables)")
+                .setParameter("tables", tables)
+                .getResultList();
+        Map<String, TableVersion> versions = new HashMap<>();
+        for (Object[] row : rows) {
+            versions.put((String) row[0],
+                    new TableVersion(((Number) row[1]).longValue(), ((Number) row[2]).longValue()));
+        }
+        return versions;
+    }
+
+    // table is a trusted constant (see ResourceVersionService), never user input
+    @Transactional(readOnly = true)
+    public Optional<LocalDateTime> findRowUpdatedAt(String table, long id) {
+        List<?> rows = entityManager.createNativeQuery("SELECT updated_at FROM " + table + " WHERE id = :id")
+                .setParameter("id", id)
+                .getResultList();
+        if (rows.isEmpty() || rows.get(0) == null) {
+            return Optional.empty();
+        }
+        Object value = rows.get(0);
+        return Optional.of(value instanceof Timestamp timestamp ? timestamp.toLocalDateTime() : (LocalDateTime) value);
+    }
+}
@@ -1,14 +1,17 @@
 package com.studentregistry.repository;
 
 import com.studentregistry.entity.Teacher;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -19,6 +22,9 @@ public interface TeacherRepository extends JpaRepository<Teacher, Long> {
 
     Optional<Teacher> findByEmail(String email);
 
+    // CSV import: resolve a whole chunk of upsert keys in one query
+    List<Teacher> findByEmailIn(Collection<String> emails);
+
     Optional<Teacher> findByUser_Id(Long userId);
 
     @Query("SELECT t FROM Teacher t WHERE t.firstName LIKE %:name% OR t.lastName LIKE %:name% ORDER BY t.id")
@@ -35,4 +41,24 @@ public interface TeacherRepository extends JpaRepository<Teacher, Long> {
     Page<Teacher> findFilteredTeachers(@Param("name") String name,
                                      @Param("department") String department,
                                      Pageable pageable);
+
+    // Same as findFilteredTeachers but returned as a Slice, so no COUNT query is run
+    @Query("SELECT t FROM Teacher t WHERE " +
+           "(:name IS NULL OR t.firstName LIKE %:name% OR t.lastName LIKE %:name%) AND " +
+           "(:department IS NULL OR t.department = :department) " +
+           "ORDER BY t.id")
+    Slice<Teacher> findFilteredTeachersSlice(@Param("name") String name,
+                                           @Param("department") String department,
+                                           Pageable pageable);
+
+    // Keyset variant of findFilteredTeachers
+    @Query("SELECT t FROM Teacher t WHERE " +
+           "(:afterId IS NULL OR t.id > :afterId) AND " +
+           "(:name IS NULL OR t.firstName LIKE %:name% OR t.lastName LIKE %:name%) AND " +
+           "(:department IS NULL OR t.department = :department) " +
+           "ORDER BY t.id")
+    List<Teacher> findFilteredTeachersAfter(@Param("name") String name,
+                                          @Param("department") String department,
+                                          @Param("afterId") Long afterId,
+                                          Limit limit);
 }
\ No newline at end of file
@@ -1,8 +1,12 @@
 package com.studentregistry.service;
 
+import com.studentregistry.dto.AbsenceRow;
+import com.studentregistry.dto.AttendanceRow;
+import com.studentregistry.dto.RollCallResult;
 import com.studentregistry.entity.Absence;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -28,19 +32,44 @@ public interface AbsenceService {
     Page<Absence> getFilteredAbsences(Long studentId, Long courseId, LocalDate dateFrom, LocalDate dateTo,
             Pageable pageable);
 
+    Slice<Absence> getFilteredAbsencesSlice(Long studentId, Long courseId, LocalDate dateFrom, LocalDate dateTo,
+            Pageable pageable);
+
+    Optional<Long> estimateFilteredAbsences(Long studentId, Long courseId, LocalDate dateFrom, LocalDate dateTo);
+
+    List<Absence> getFilteredAbsencesAfter(Long studentId, Long courseId, LocalDate dateFrom, LocalDate dateTo,
+            Long afterStudentId, Long afterCourseId, LocalDate afterDate, int limit);
+
     List<Absence> getAbsencesByDate(LocalDate date);
 
     List<Absence> getAbsencesByStudentAndCourse(Long studentId, Long courseId);
 
     List<Absence> getAbsencesByDateRange(LocalDate startDate, LocalDate endDate);
 
+    Page<AbsenceRow> getFilteredAbsenceRows(Long studentId, Long courseId, LocalDate dateFrom, LocalDate dateTo,
+            Pageable pageable);
+
+    Slice<AbsenceRow> getFilteredAbsenceRowsSlice(Long studentId, Long courseId, LocalDate dateFrom, LocalDate dateTo,
+            Pageable pageable);
+
+    List<AbsenceRow> getFilteredAbsenceRowsAfter(Long studentId, Long courseId, LocalDate dateFrom, LocalDate dateTo,
+            Long afterStudentId, Long afterCourseId, LocalDate afterDate, int limit);
+
+    List<AbsenceRow> getAbsenceRowsByDateRange(LocalDate startDate, LocalDate endDate);
+
     Long countAbsencesByStudentAndCourse(Long studentId, Long courseId);
 
+    List<AttendanceRow> getCourseAttendance(Long courseId);
+
+    int rebuildAttendanceStats();
+
     Page<Absence> getAbsencesByStudentId(Long studentId, Pageable pageable);
 
     Page<Absence> getAbsencesByCourseId(Long courseId, Pageable pageable);
 
     void addAbsence(Long studentId, Long courseId, String dateString, String username);
 
+    RollCallResult recordRollCall(Long courseId, String dateString, List<Long> studentIds, String username);
+
     void removeAbsence(Long studentId, Long courseId, String dateString, String username);
 }
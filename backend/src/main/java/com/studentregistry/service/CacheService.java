@@ -0,0 +1,7 @@
+package com.studentregistry.service;
+
+import java.util.Map;
+
+public interface CacheService {
+    Map<String, Object> getStats();
+}
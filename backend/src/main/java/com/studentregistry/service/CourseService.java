@@ -1,8 +1,10 @@
 package com.studentregistry.service;
 
+import com.studentregistry.dto.CourseRow;
 import com.studentregistry.entity.Course;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
 import java.util.Optional;
@@ -32,4 +34,21 @@ public interface CourseService {
 
     Page<Course> getFilteredCourses(String name, String department, String semester,
             Long teacherId, Pageable pageable);
+
+    Slice<Course> getFilteredCoursesSlice(String name, String department, String semester,
+            Long teacherId, Pageable pageable);
+
+    Page<CourseRow> getFilteredCourseRows(String name, String department, String semester,
+            Long teacherId, Pageable pageable);
+
+    Slice<CourseRow> getFilteredCourseRowsSlice(String name, String department, String semester,
+            Long teacherId, Pageable pageable);
+
+    List<CourseRow> getFilteredCourseRowsAfter(String name, String department, String semester,
+            Long teacherId, Long afterId, int limit);
+
+    Optional<Long> estimateFilteredCourses(String name, String department, String semester, Long teacherId);
+
+    List<Course> getFilteredCoursesAfter(String name, String department, String semester,
+            Long teacherId, Long afterId, int limit);
 }
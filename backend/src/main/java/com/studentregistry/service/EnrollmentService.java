@@ -1,5 +1,8 @@
 package com.studentregistry.service;
 
+import com.studentregistry.dto.BulkEnrollmentResult;
+import com.studentregistry.dto.CreateEnrollmentDTO;
+import com.studentregistry.dto.EnrollmentRow;
 import com.studentregistry.entity.Enrollment;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -14,6 +17,8 @@ public interface EnrollmentService {
 
     Enrollment saveEnrollment(Enrollment enrollment, String username);
 
+    BulkEnrollmentResult bulkEnroll(List<CreateEnrollmentDTO> enrollments, String username);
+
     Enrollment updateEnrollment(Long id, Enrollment enrollmentDetails);
 
     void deleteEnrollment(Long id);
@@ -32,6 +37,16 @@ public interface EnrollmentService {
 
     List<Enrollment> getUngradedEnrollments();
 
+    List<EnrollmentRow> getAllEnrollmentRows();
+
+    List<EnrollmentRow> getEnrollmentRowsByStudent(Long studentId);
+
+    List<EnrollmentRow> getEnrollmentRowsByCourse(Long courseId);
+
+    List<EnrollmentRow> getEnrollmentRowsBySemester(String semester);
+
+    List<EnrollmentRow> getEnrollmentRowsByStudentAndSemester(Long studentId, String semester);
+
     Page<Enrollment> getEnrollmentsByStudentId(Long studentId, Pageable pageable);
 
     Page<Enrollment> getEnrollmentsByCourseId(Long courseId, Pageable pageable);
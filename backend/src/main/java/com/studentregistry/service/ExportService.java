@@ -0,0 +1,16 @@
+package com.studentregistry.service;
+
+import com.studentregistry.dto.ExportFormat;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+public interface ExportService {
+    void exportStudents(ExportFormat format, OutputStream out) throws IOException;
+
+    void exportEnrollments(ExportFormat format, OutputStream out) throws IOException;
+
+    void exportAbsences(ExportFormat format, OutputStream out) throws IOException;
+
+    void exportLogs(ExportFormat format, OutputStream out) throws IOException;
+}
@@ -0,0 +1,17 @@
+package com.studentregistry.service;
+
+import com.studentregistry.dto.ImportJob;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.util.Optional;
+
+public interface ImportService {
+    String STUDENTS = "students";
+    String TEACHERS = "teachers";
+
+    ImportJob startStudentImport(MultipartFile file, String username);
+
+    ImportJob startTeacherImport(MultipartFile file, String username);
+
+    Optional<ImportJob> getJob(String jobId, String type);
+}
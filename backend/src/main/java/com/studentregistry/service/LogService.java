@@ -3,9 +3,11 @@ package com.studentregistry.service;
 import com.studentregistry.entity.Log;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public interface LogService {
@@ -29,6 +31,16 @@ public interface LogService {
 
     void logActionByUsername(String username, String action, String details);
 
+    Map<String, Object> getWriterStats();
+
     Page<Log> getFilteredLogs(String action, Long userId, Long courseId, Long studentId,
             LocalDateTime dateFrom, LocalDateTime dateTo, Pageable pageable);
+
+    Slice<Log> getFilteredLogsSlice(String action, Long userId, LocalDateTime dateFrom, LocalDateTime dateTo,
+            Pageable pageable);
+
+    Optional<Long> estimateFilteredLogs(String action, Long userId, LocalDateTime dateFrom, LocalDateTime dateTo);
+
+    List<Log> getFilteredLogsBefore(String action, Long userId, LocalDateTime dateFrom, LocalDateTime dateTo,
+            Long beforeId, int limit);
 }
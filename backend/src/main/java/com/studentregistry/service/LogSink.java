@@ -0,0 +1,11 @@
+package com.studentregistry.service;
+
+import com.studentregistry.dto.AuditEvent;
+
+import java.util.Map;
+
+public interface LogSink {
+    void submit(AuditEvent event);
+
+    Map<String, Object> getStats();
+}
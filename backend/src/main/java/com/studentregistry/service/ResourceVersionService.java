@@ -0,0 +1,23 @@
+package com.studentregistry.service;
+
+import com.studentregistry.dto.ResourceVersion;
+
+import java.util.Optional;
+
+public interface ResourceVersionService {
+
+    // Tables with a version counter (db/migration V5)
+    String ROLES = "roles";
+    String USERS = "users";
+    String TEACHERS = "teachers";
+    String STUDENTS = "students";
+    String COURSES = "courses";
+    String ENROLLMENTS = "enrollments";
+
+    // Changes whenever any of the tables is written
+    ResourceVersion forTables(String... tables);
+
+    // Changes when the row's updated_at moves or any of the dependencies (tables its JSON pulls
+    // in through associations) is written. Empty when the row doesn't exist or has no updated_at.
+    Optional<ResourceVersion> forRow(String table, long id, String... dependencies);
+}
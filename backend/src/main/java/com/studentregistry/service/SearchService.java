@@ -0,0 +1,10 @@
+package com.studentregistry.service;
+
+import com.studentregistry.dto.SearchResult;
+
+import java.util.List;
+import java.util.Set;
+
+public interface SearchService {
+    List<SearchResult> search(String query, Set<SearchResult.Type> types, int limit);
+}
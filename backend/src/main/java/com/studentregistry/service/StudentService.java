@@ -3,6 +3,7 @@ package com.studentregistry.service;
 import com.studentregistry.entity.Student;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
 import java.util.Optional;
@@ -30,4 +31,13 @@ public interface StudentService {
 
     Page<Student> getFilteredStudents(String name, String department, Integer enrollmentYear,
             Student.Status status, Pageable pageable);
+
+    Slice<Student> getFilteredStudentsSlice(String name, String department, Integer enrollmentYear,
+            Student.Status status, Pageable pageable);
+
+    Optional<Long> estimateFilteredStudents(String name, String department, Integer enrollmentYear,
+            Student.Status status);
+
+    List<Student> getFilteredStudentsAfter(String name, String department, Integer enrollmentYear,
+            Student.Status status, Long afterId, int limit);
 }
@@ -3,6 +3,7 @@ package com.studentregistry.service;
 import com.studentregistry.entity.Teacher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
 import java.util.Optional;
@@ -33,4 +34,10 @@ public interface TeacherService {
     void revokeUser(Long teacherId, String username);
 
     Page<Teacher> getFilteredTeachers(String name, String department, Pageable pageable);
+
+    Slice<Teacher> getFilteredTeachersSlice(String name, String department, Pageable pageable);
+
+    Optional<Long> estimateFilteredTeachers(String name, String department);
+
+    List<Teacher> getFilteredTeachersAfter(String name, String department, Long afterId, int limit);
 }
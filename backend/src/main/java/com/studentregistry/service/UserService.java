@@ -5,6 +5,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public interface UserService {
@@ -30,5 +31,7 @@ public interface UserService {
 
     boolean existsByEmail(String email);
 
+    Map<String, Object> getLookupCacheStats();
+
     Page<User> getFilteredUsers(String email, String role, Pageable pageable);
 }
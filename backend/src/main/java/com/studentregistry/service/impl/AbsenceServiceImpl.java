@@ -1,22 +1,38 @@
 package com.studentregistry.service.impl;
 
+import com.studentregistry.dto.AbsenceRow;
+import com.studentregistry.dto.AttendanceRow;
+import com.studentregistry.dto.RollCallResult;
 import com.studentregistry.entity.Absence;
+import com.studentregistry.entity.Course;
 import com.studentregistry.repository.AbsenceRepository;
+import com.studentregistry.repository.AttendanceStatsRepository;
 import com.studentregistry.repository.StudentRepository;
 import com.studentregistry.repository.CourseRepository;
+import com.studentregistry.repository.EnrollmentRepository;
+import com.studentregistry.repository.RowEstimateRepository;
 import com.studentregistry.service.AbsenceService;
 import com.studentregistry.service.LogService;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 @Service
 public class AbsenceServiceImpl implements AbsenceService {
@@ -24,16 +40,25 @@ public class AbsenceServiceImpl implements AbsenceService {
     private final AbsenceRepository absenceRepository;
     private final StudentRepository studentRepository;
     private final CourseRepository courseRepository;
+    private final EnrollmentRepository enrollmentRepository;
+    private final RowEstimateRepository rowEstimateRepository;
+    private final AttendanceStatsRepository attendanceStatsRepository;
     private final LogService logService;
     private final ObjectMapper objectMapper;
 
     public AbsenceServiceImpl(AbsenceRepository absenceRepository,
             StudentRepository studentRepository,
             CourseRepository courseRepository,
+            EnrollmentRepository enrollmentRepository,
+            RowEstimateRepository rowEstimateRepository,
+            AttendanceStatsRepository attendanceStatsRepository,
             LogService logService) {
         this.absenceRepository = absenceRepository;
         this.studentRepository = studentRepository;
         this.courseRepository = courseRepository;
+        this.enrollmentRepository = enrollmentRepository;
+        this.rowEstimateRepository = rowEstimateRepository;
+        this.attendanceStatsRepository = attendanceStatsRepository;
         this.logService = logService;
         this.objectMapper = new ObjectMapper();
     }
@@ -75,6 +100,41 @@ public class AbsenceServiceImpl implements AbsenceService {
         return absenceRepository.findFilteredAbsences(studentId, courseId, dateFrom, dateTo, pageable);
     }
 
+    public Slice<Absence> getFilteredAbsencesSlice(Long studentId, Long courseId, LocalDate dateFrom, LocalDate dateTo,
+            Pageable pageable) {
+        return absenceRepository.findFilteredAbsencesSlice(studentId, courseId, dateFrom, dateTo, pageable);
+    }
+
+    // Mirrors the findFilteredAbsences filters in SQL for the planner estimate
+    public Optional<Long> estimateFilteredAbsences(Long studentId, Long courseId, LocalDate dateFrom, LocalDate dateTo) {
+        List<String> predicates = new ArrayList<>();
+        List<Object> params = new ArrayList<>();
+        if (studentId != null) {
+            predicates.add("student_id = ?");
+            params.add(studentId);
+        }
+        if (courseId != null) {
+            predicates.add("course_id = ?");
+            params.add(courseId);
+        }
+        if (dateFrom != null) {
+            predicates.add("date >= ?");
+            params.add(dateFrom);
+        }
+        if (dateTo != null) {
+            predicates.add("date <= ?");
+            params.add(dateTo);
+        }
+        return rowEstimateRepository.estimateCount("absences", predicates, params);
+    }
+
+    // Fetches one extra row so the caller can tell whether there is a next page
+    public List<Absence> getFilteredAbsencesAfter(Long studentId, Long courseId, LocalDate dateFrom, LocalDate dateTo,
+            Long afterStudentId, Long afterCourseId, LocalDate afterDate, int limit) {
+        return absenceRepository.findFilteredAbsencesAfter(studentId, courseId, dateFrom, dateTo,
+                afterStudentId, afterCourseId, afterDate, Limit.of(limit + 1));
+    }
+
     public List<Absence> getAbsencesByDate(LocalDate date) {
         return absenceRepository.findByDate(date);
     }
@@ -87,10 +147,54 @@ public class AbsenceServiceImpl implements AbsenceService {
         return absenceRepository.findByDateRange(startDate, endDate);
     }
 
+    public Page<AbsenceRow> getFilteredAbsenceRows(Long studentId, Long courseId, LocalDate dateFrom, LocalDate dateTo,
+            Pageable pageable) {
+        return absenceRepository.findFilteredAbsenceRows(studentId, courseId, dateFrom, dateTo, pageable);
+    }
+
+    public Slice<AbsenceRow> getFilteredAbsenceRowsSlice(Long studentId, Long courseId, LocalDate dateFrom,
+            LocalDate dateTo, Pageable pageable) {
+        return absenceRepository.findFilteredAbsenceRowsSlice(studentId, courseId, dateFrom, dateTo, pageable);
+    }
+
+    public List<AbsenceRow> getFilteredAbsenceRowsAfter(Long studentId, Long courseId, LocalDate dateFrom,
+            LocalDate dateTo, Long afterStudentId, Long afterCourseId, LocalDate afterDate, int limit) {
+        return absenceRepository.findFilteredAbsenceRowsAfter(studentId, courseId, dateFrom, dateTo,
+                afterStudentId, afterCourseId, afterDate, Limit.of(limit + 1));
+    }
+
+    public List<AbsenceRow> getAbsenceRowsByDateRange(LocalDate startDate, LocalDate endDate) {
+        return absenceRepository.findRowsByDateRange(startDate, endDate);
+    }
+
     public Long countAbsencesByStudentAndCourse(Long studentId, Long courseId) {
         return absenceRepository.countByStudentAndCourse(studentId, courseId);
     }
 
+    // Served from course_attendance_stats, which triggers on absences keep current (V6)
+    public List<AttendanceRow> getCourseAttendance(Long courseId) {
+        return attendanceStatsRepository.findByCourse(courseId);
+    }
+
+    public int rebuildAttendanceStats() {
+        return attendanceStatsRepository.rebuild();
+    }
+
+    // Safety net for the triggers; "-" disables it
+    @Scheduled(cron = "${attendance.stats.rebuild-cron:0 30 3 * * *}")
+    public void scheduledAttendanceStatsRebuild() {
+        try {
+            long started = System.nanoTime();
+            int corrected = rebuildAttendanceStats();
+            if (corrected > 0) {
+                System.err.println("Attendance stats rebuild corrected " + corrected + " rows in "
+                        + (System.nanoTime() - started) / 1_000_000 + " ms");
+            }
+        } catch (Exception e) {
+            System.err.println("Attendance stats rebuild failed - " + e.getMessage());
+        }
+    }
+
     public Page<Absence> getAbsencesByStudentId(Long studentId, Pageable pageable) {
         return absenceRepository.findByStudent_Id(studentId, pageable);
     }
@@ -128,6 +232,41 @@ public class AbsenceServiceImpl implements AbsenceService {
         }
     }
 
+    // Records a whole class's absences for one date: one course lookup, one enrollment
+    // check and one INSERT ... ON CONFLICT DO NOTHING, all in a single transaction
+    @Transactional
+    public RollCallResult recordRollCall(Long courseId, String dateString, List<Long> studentIds, String username) {
+        LocalDate date = LocalDate.parse(dateString);
+        Course course = courseRepository.findById(courseId)
+                .orElseThrow(() -> new RuntimeException("Course not found"));
+
+        Set<Long> requested = new LinkedHashSet<>(studentIds);
+        requested.remove(null);
+        if (requested.isEmpty()) {
+            return new RollCallResult(courseId, date, 0, 0, 0, List.of());
+        }
+
+        Set<Long> enrolled = new HashSet<>(enrollmentRepository.findEnrolledStudentIds(courseId, requested));
+        List<Long> notEnrolled = requested.stream().filter(id -> !enrolled.contains(id)).toList();
+        int recorded = enrolled.isEmpty() ? 0 : absenceRepository.insertRollCall(courseId, enrolled, date);
+        RollCallResult result = new RollCallResult(courseId, date, requested.size(), recorded,
+                enrolled.size() - recorded, notEnrolled);
+
+        try {
+            Map<String, Object> details = new LinkedHashMap<>();
+            details.put("courseId", courseId);
+            details.put("courseCode", course.getCourseCode() != null ? course.getCourseCode() : "");
+            details.put("date", dateString);
+            details.put("absent", enrolled.size());
+            details.put("recorded", recorded);
+            details.put("notEnrolled", notEnrolled);
+            logService.logActionByUsername(username, "ROLL_CALL", objectMapper.writeValueAsString(details));
+        } catch (Exception e) {
+            // Logging failure shouldn't break the operation
+        }
+        return result;
+    }
+
     public void removeAbsence(Long studentId, Long courseId, String dateString, String username) {
         LocalDate date = LocalDate.parse(dateString);
         Absence.AbsenceId absenceId = new Absence.AbsenceId(studentId, courseId, date);
@@ -0,0 +1,320 @@
+package com.studentregistry.service.impl;
+
+import com.studentregistry.dto.AuditEvent;
+import com.studentregistry.service.LogSink;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Default sink: request threads enqueue audit events into a bounded queue and a single
+// background writer drains it, inserting rows in JDBC batches.
+@Component
+@ConditionalOnProperty(name = "audit.log.mode", havingValue = "async", matchIfMissing = true)
+public class AsyncLogSink implements LogSink {
+
+    // What submit() does when the queue is full
+    public enum Backpressure {
+        BLOCK, // wait up to audit.log.block-timeout-ms, then drop
+        DROP_OLDEST, // evict the oldest queued event
+        SPILL; // append to the local spill file, replayed when the writer is idle
+
+        public static Backpressure fromString(String value) {
+            return Backpressure.valueOf(value.trim().toUpperCase().replace('-', '_'));
+        }
+    }
+
+    private final LogRowWriter logRowWriter;
+    private final ObjectMapper objectMapper;
+    private final BlockingQueue<AuditEvent> queue;
+    private final int queueCapacity;
+    private final int batchSize;
+    private final long flushIntervalMs;
+    private final long blockTimeoutMs;
+    private final long shutdownTimeoutMs;
+    private final Backpressure backpressure;
+    private final Path spillFile;
+    private final Path replayFile;
+    private final Path remainderFile;
+    private final Object spillLock = new Object();
+
+    private final AtomicLong submitted = new AtomicLong();
+    private final AtomicLong written = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong spilled = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+
+    private volatile boolean running;
+    private Thread worker;
+
+    public AsyncLogSink(LogRowWriter logRowWriter,
+            @Value("${audit.log.queue-capacity:10000}") int queueCapacity,
+            @Value("${audit.log.batch-size:100}") int batchSize,
+            @Value("${audit.log.flush-interval-ms:500}") long flushIntervalMs,
+            @Value("${audit.log.backpressure:block}") String backpressure,
+            @Value("${audit.log.block-timeout-ms:1000}") long blockTimeoutMs,
+            @Value("${audit.log.shutdown-timeout-ms:10000}") long shutdownTimeoutMs,
+            @Value("${audit.log.spill-file:audit-log-spill.ndjson}") String spillFile) {
+        this.logRowWriter = logRowWriter;
+        this.objectMapper = new ObjectMapper();
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.queueCapacity = queueCapacity;
+        this.batchSize = batchSize;
+        this.flushIntervalMs = flushIntervalMs;
+        this.blockTimeoutMs = blockTimeoutMs;
+        this.shutdownTimeoutMs = shutdownTimeoutMs;
+        this.backpressure = Backpressure.fromString(backpressure);
+        this.spillFile = Paths.get(spillFile);
+        this.replayFile = Paths.get(spillFile + ".replay");
+        this.remainderFile = Paths.get(spillFile + ".replay.tmp");
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        worker = new Thread(this::run, "audit-log-writer");
+        worker.start();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        try {
+            worker.join(shutdownTimeoutMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // Anything the writer could not flush in time goes to disk rather than being lost
+        List<AuditEvent> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        if (!remaining.isEmpty()) {
+            spill(remaining);
+        }
+    }
+
+    @Override
+    public void submit(AuditEvent event) {
+        submitted.incrementAndGet();
+        if (!running) {
+            // Late events during shutdown are written on the caller's thread
+            flush(List.of(event));
+            return;
+        }
+        if (queue.offer(event)) {
+            return;
+        }
+        switch (backpressure) {
+            case BLOCK -> {
+                try {
+                    if (!queue.offer(event, blockTimeoutMs, TimeUnit.MILLISECONDS)) {
+                        dropped.incrementAndGet();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    dropped.incrementAndGet();
+                }
+            }
+            case DROP_OLDEST -> {
+                while (!queue.offer(event)) {
+                    if (queue.poll() != null) {
+                        dropped.incrementAndGet();
+                    }
+                }
+            }
+            case SPILL -> spill(List.of(event));
+        }
+        if (!running) {
+            // shutdown() may have made its final drain between our running check and the offer
+            writeStranded();
+        }
+    }
+
+    @Override
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("mode", "async");
+        stats.put("backpressure", backpressure.name());
+        stats.put("queueDepth", queue.size());
+        stats.put("queueCapacity", queueCapacity);
+        stats.put("submitted", submitted.get());
+        stats.put("written", written.get());
+        stats.put("dropped", dropped.get());
+        stats.put("spilled", spilled.get());
+        stats.put("failed", failed.get());
+        return stats;
+    }
+
+    public int getQueueDepth() {
+        return queue.size();
+    }
+
+    // Events left in the queue after shutdown's drain have no writer; write them on the caller's
+    // thread. drainTo hands each event to exactly one drainer, so nothing is written twice.
+    private void writeStranded() {
+        List<AuditEvent> stranded = new ArrayList<>();
+        queue.drainTo(stranded);
+        if (!stranded.isEmpty()) {
+            flush(stranded);
+        }
+    }
+
+    private void run() {
+        List<AuditEvent> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                AuditEvent first = queue.poll(flushIntervalMs, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    replaySpill();
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                flush(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                System.err.println("Audit log writer error: " + e.getMessage());
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void flush(List<AuditEvent> batch) {
+        try {
+            logRowWriter.writeBatch(batch);
+            written.addAndGet(batch.size());
+        } catch (Exception e) {
+            // Don't let logging failures break the writer; keep the rows if we can
+            System.err.println("Failed to write " + batch.size() + " audit log rows - " + e.getMessage());
+            failed.addAndGet(batch.size());
+            if (backpressure == Backpressure.SPILL) {
+                spill(batch);
+            }
+        }
+    }
+
+    private void spill(List<AuditEvent> events) {
+        List<String> lines = new ArrayList<>(events.size());
+        try {
+            for (AuditEvent event : events) {
+                lines.add(toJson(event));
+            }
+            synchronized (spillLock) {
+                Files.write(spillFile, lines, StandardCharsets.UTF_8,
+                        StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            }
+            spilled.addAndGet(events.size());
+        } catch (IOException e) {
+            System.err.println("Failed to spill " + events.size() + " audit log rows - " + e.getMessage());
+            dropped.addAndGet(events.size());
+        }
+    }
+
+    // Re-inserts spilled events once the queue has gone quiet. The spill file is moved
+    // aside first so concurrent spills keep appending to a fresh file.
+    private void replaySpill() throws IOException {
+        synchronized (spillLock) {
+            if (!Files.exists(replayFile)) {
+                if (!Files.exists(spillFile) || Files.size(spillFile) == 0) {
+                    return;
+                }
+                Files.move(spillFile, replayFile, StandardCopyOption.ATOMIC_MOVE);
+            }
+        }
+
+        // Streamed one batch at a time: after a long outage the file can be far larger than the heap
+        RuntimeException failure = null;
+        try (BufferedReader reader = Files.newBufferedReader(replayFile, StandardCharsets.UTF_8)) {
+            List<String> chunk = new ArrayList<>(batchSize);
+            String line;
+            do {
+                line = reader.readLine();
+                if (line != null && !line.isBlank()) {
+                    chunk.add(line);
+                }
+                if (chunk.size() == batchSize || (line == null && !chunk.isEmpty())) {
+                    try {
+                        replayBatch(chunk);
+                    } catch (RuntimeException e) {
+                        // Keep only the rows that were not written so the next attempt doesn't duplicate
+                        saveRemainder(chunk, reader);
+                        failure = e;
+                        break;
+                    }
+                    chunk.clear();
+                }
+            } while (line != null);
+        }
+        if (failure != null) {
+            Files.move(remainderFile, replayFile, StandardCopyOption.REPLACE_EXISTING);
+            throw failure;
+        }
+        Files.delete(replayFile);
+    }
+
+    private void replayBatch(List<String> lines) throws IOException {
+        List<AuditEvent> batch = new ArrayList<>(lines.size());
+        for (String line : lines) {
+            batch.add(fromJson(line));
+        }
+        logRowWriter.writeBatch(batch);
+        written.addAndGet(batch.size());
+    }
+
+    // The failed batch plus everything the reader has not reached yet
+    private void saveRemainder(List<String> failed, BufferedReader reader) throws IOException {
+        try (BufferedWriter out = Files.newBufferedWriter(remainderFile, StandardCharsets.UTF_8)) {
+            for (String line : failed) {
+                out.write(line);
+                out.newLine();
+            }
+            reader.transferTo(out);
+        }
+    }
+
+    private String toJson(AuditEvent event) throws IOException {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("userId", event.getUserId());
+        map.put("username", event.getUsername());
+        map.put("action", event.getAction());
+        map.put("details", event.getDetails());
+        map.put("timestamp", event.getTimestamp() != null ? event.getTimestamp().toString() : null);
+        return objectMapper.writeValueAsString(map);
+    }
+
+    private AuditEvent fromJson(String line) throws IOException {
+        Map<?, ?> map = objectMapper.readValue(line, Map.class);
+        Object userId = map.get("userId");
+        Object timestamp = map.get("timestamp");
+        return new AuditEvent(
+                userId != null ? ((Number) userId).longValue() : null,
+                (String) map.get("username"),
+                (String) map.get("action"),
+                (String) map.get("details"),
+                timestamp != null ? LocalDateTime.parse((String) timestamp) : LocalDateTime.now());
+    }
+}
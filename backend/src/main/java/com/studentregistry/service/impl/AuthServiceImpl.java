@@ -1,5 +1,8 @@
 package com.studentregistry.service.impl;
 
+import com.studentregistry.cache.CacheInvalidationBus;
+import com.studentregistry.cache.InvalidationEvent.EntityType;
+import com.studentregistry.cache.UserLookupCache;
 import com.studentregistry.dto.LoginRequest;
 import com.studentregistry.dto.ChangePasswordRequest;
 import com.studentregistry.dto.LoginResponse;
@@ -35,12 +38,15 @@ public class AuthServiceImpl implements AuthService {
     private final AuthenticationManager authenticationManager;
     private final AuthenticationTokenFactory tokenFactory;
     private final LogService logService;
+    private final UserLookupCache userLookupCache;
+    private final CacheInvalidationBus invalidationBus;
     private final ObjectMapper objectMapper;
 
     public AuthServiceImpl(UserRepository userRepository, RoleRepository roleRepository,
             PasswordEncoder passwordEncoder, JwtUtil jwtUtil,
             AuthenticationManager authenticationManager,
-            AuthenticationTokenFactory tokenFactory, LogService logService) {
+            AuthenticationTokenFactory tokenFactory, LogService logService,
+            UserLookupCache userLookupCache, CacheInvalidationBus invalidationBus) {
         this.userRepository = userRepository;
         this.roleRepository = roleRepository;
         this.passwordEncoder = passwordEncoder;
@@ -48,6 +54,8 @@ public class AuthServiceImpl implements AuthService {
         this.authenticationManager = authenticationManager;
         this.tokenFactory = tokenFactory;
         this.logService = logService;
+        this.userLookupCache = userLookupCache;
+        this.invalidationBus = invalidationBus;
         this.objectMapper = new ObjectMapper();
     }
 
@@ -60,14 +68,14 @@ public class AuthServiceImpl implements AuthService {
 
             UserDetails userDetails = (UserDetails) authentication.getPrincipal();
 
-            // Get user from database to access role information
-            User user = userRepository.findByUsername(loginRequest.getUsername())
+            // Role information comes from the lookup cache, warmed by loadUserByUsername above
+            UserLookupCache.CachedUser user = userLookupCache.get(loginRequest.getUsername())
                     .orElseThrow(() -> new RuntimeException("User not found"));
 
             // Generate JWT token - ensure role name is uppercase for consistency
-            String roleName = user.getRole() != null ? user.getRole().getName().toUpperCase() : "VIEWER";
+            String roleName = user.getRoleName() != null ? user.getRoleName().toUpperCase() : "VIEWER";
             String token = jwtUtil.generateToken(userDetails, roleName);
-            UserResponseDTO userResponse = new UserResponseDTO(user);
+            UserResponseDTO userResponse = user.toResponseDTO();
 
             return new LoginResponse(token, userResponse);
         } catch (Exception e) {
@@ -77,23 +85,25 @@ public class AuthServiceImpl implements AuthService {
 
     public UserResponseDTO getCurrentUser(Authentication authentication) {
         String username = authentication.getName();
-        User user = userRepository.findByUsername(username)
+        UserLookupCache.CachedUser user = userLookupCache.get(username)
                 .orElseThrow(() -> new RuntimeException("User not found"));
 
-        return new UserResponseDTO(user);
+        return user.toResponseDTO();
     }
 
     public void changePassword(ChangePasswordRequest request, Authentication authentication) {
         String username = authentication.getName();
-        User user = userRepository.findByUsername(username)
+        UserLookupCache.CachedUser user = userLookupCache.get(username)
                 .orElseThrow(() -> new RuntimeException("User not found"));
 
-        if (!passwordEncoder.matches(request.getOldPassword(), user.getPassword())) {
+        if (!passwordEncoder.matches(request.getOldPassword(), user.getPasswordHash())) {
             throw new RuntimeException("Invalid old password");
         }
 
-        user.setPasswordHash(passwordEncoder.encode(request.getNewPassword()));
-        userRepository.save(user);
+        // Update by id; the cached snapshot already told us who the user is
+        userRepository.updatePasswordHash(user.getId(), passwordEncoder.encode(request.getNewPassword()));
+        userLookupCache.invalidate(username);
+        invalidationBus.publish(EntityType.USER, username);
 
         try {
             String details = objectMapper.writeValueAsString(Map.of(
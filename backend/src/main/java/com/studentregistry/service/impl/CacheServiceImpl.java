@@ -0,0 +1,82 @@
+package com.studentregistry.service.impl;
+
+import com.studentregistry.cache.CacheInvalidationBus;
+import com.studentregistry.cache.SettingsCache;
+import com.studentregistry.entity.CacheRegions;
+import com.studentregistry.service.CacheService;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Service;
+
+import jakarta.persistence.EntityManagerFactory;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Service
+public class CacheServiceImpl implements CacheService {
+
+    private static final List<String> ENTITY_REGIONS = List.of(
+            CacheRegions.ROLES, CacheRegions.COURSES, CacheRegions.TEACHERS, CacheRegions.SETTINGS);
+    private static final List<String> QUERY_REGIONS = List.of(
+            CacheRegions.COURSES_BY_SEMESTER, CacheRegions.ROLE_BY_NAME);
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final CacheInvalidationBus invalidationBus;
+    private final SettingsCache settingsCache;
+
+    public CacheServiceImpl(EntityManagerFactory entityManagerFactory, CacheInvalidationBus invalidationBus,
+            SettingsCache settingsCache) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.invalidationBus = invalidationBus;
+        this.settingsCache = settingsCache;
+    }
+
+    public Map<String, Object> getStats() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        Map<String, Object> secondLevel = new LinkedHashMap<>();
+        secondLevel.put("hits", statistics.getSecondLevelCacheHitCount());
+        secondLevel.put("misses", statistics.getSecondLevelCacheMissCount());
+        secondLevel.put("puts", statistics.getSecondLevelCachePutCount());
+        secondLevel.put("regions", regionStats(statistics, ENTITY_REGIONS, false));
+
+        Map<String, Object> queryCache = new LinkedHashMap<>();
+        queryCache.put("hits", statistics.getQueryCacheHitCount());
+        queryCache.put("misses", statistics.getQueryCacheMissCount());
+        queryCache.put("puts", statistics.getQueryCachePutCount());
+        queryCache.put("regions", regionStats(statistics, QUERY_REGIONS, true));
+
+        Map<String, Object> stats = new LinkedHashMap<>();
+        // Hibernate counters stay at zero unless hibernate.generate_statistics is on
+        stats.put("statisticsEnabled", statistics.isStatisticsEnabled());
+        stats.put("secondLevel", secondLevel);
+        stats.put("queryCache", queryCache);
+        stats.put("settings", settingsCache.getStats());
+        stats.put("invalidationBus", invalidationBus.getStats());
+        return stats;
+    }
+
+    private static Map<String, Object> regionStats(Statistics statistics, List<String> regions, boolean query) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        for (String region : regions) {
+            CacheRegionStatistics regionStatistics = query
+                    ? statistics.getQueryRegionStatistics(region)
+                    : statistics.getDomainDataRegionStatistics(region);
+            if (regionStatistics == null) {
+                continue;
+            }
+            long hits = regionStatistics.getHitCount();
+            long misses = regionStatistics.getMissCount();
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("hits", hits);
+            entry.put("misses", misses);
+            entry.put("puts", regionStatistics.getPutCount());
+            entry.put("hitRate", hits + misses > 0 ? (double) hits / (hits + misses) : 0.0);
+            result.put(region, entry);
+        }
+        return result;
+    }
+}
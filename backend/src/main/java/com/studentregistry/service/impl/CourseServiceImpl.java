@@ -1,18 +1,27 @@
 package com.studentregistry.service.impl;
 
+import com.studentregistry.cache.CacheInvalidationBus;
+import com.studentregistry.cache.InvalidationEvent.EntityType;
+import com.studentregistry.cache.TypeaheadIndex;
+import com.studentregistry.dto.CourseRow;
+import com.studentregistry.dto.Suggestion;
 import com.studentregistry.entity.Course;
 import com.studentregistry.repository.CourseRepository;
+import com.studentregistry.repository.RowEstimateRepository;
 import com.studentregistry.repository.EnrollmentRepository;
 import com.studentregistry.service.CourseService;
 import com.studentregistry.service.LogService;
 import com.studentregistry.repository.AbsenceRepository;
  
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -23,17 +32,26 @@ public class CourseServiceImpl implements CourseService {
     private final CourseRepository courseRepository;
     private final EnrollmentRepository enrollmentRepository;
     private final AbsenceRepository absenceRepository;
+    private final RowEstimateRepository rowEstimateRepository;
     private final LogService logService;
+    private final TypeaheadIndex typeaheadIndex;
+    private final CacheInvalidationBus invalidationBus;
     private final ObjectMapper objectMapper;
 
     public CourseServiceImpl(CourseRepository courseRepository, 
                         EnrollmentRepository enrollmentRepository,
                         AbsenceRepository absenceRepository,
-                        LogService logService) {
+                        RowEstimateRepository rowEstimateRepository,
+                        LogService logService,
+                        TypeaheadIndex typeaheadIndex,
+                        CacheInvalidationBus invalidationBus) {
         this.courseRepository = courseRepository;
         this.enrollmentRepository = enrollmentRepository;
         this.absenceRepository = absenceRepository;
+        this.rowEstimateRepository = rowEstimateRepository;
         this.logService = logService;
+        this.typeaheadIndex = typeaheadIndex;
+        this.invalidationBus = invalidationBus;
         this.objectMapper = new ObjectMapper();
     }
 
@@ -47,6 +65,8 @@ public class CourseServiceImpl implements CourseService {
 
     public Course saveCourse(Course course, String username) {
         Course saved = courseRepository.save(course);
+        typeaheadIndex.putCourse(saved);
+        invalidationBus.publish(EntityType.COURSE, saved.getId());
         try {
             String details = objectMapper.writeValueAsString(Map.of(
                 "courseId", saved.getId(),
@@ -80,6 +100,8 @@ public class CourseServiceImpl implements CourseService {
         course.setStatus(courseDetails.getStatus());
         
         Course updated = courseRepository.save(course);
+        typeaheadIndex.putCourse(updated);
+        invalidationBus.publish(EntityType.COURSE, updated.getId());
         try {
             String details = objectMapper.writeValueAsString(Map.of(
                 "courseId", updated.getId(),
@@ -128,6 +150,8 @@ public class CourseServiceImpl implements CourseService {
         }
         
         courseRepository.deleteById(id);
+        typeaheadIndex.remove(Suggestion.Type.COURSE, id);
+        invalidationBus.publish(EntityType.COURSE, id);
     }
 
     public List<Course> getCoursesBySemester(String semester) {
@@ -158,4 +182,55 @@ public class CourseServiceImpl implements CourseService {
                                          Long teacherId, Pageable pageable) {
         return courseRepository.findFilteredCourses(name, department, semester, teacherId, pageable);
     }
+
+    public Slice<Course> getFilteredCoursesSlice(String name, String department, String semester,
+                                               Long teacherId, Pageable pageable) {
+        return courseRepository.findFilteredCoursesSlice(name, department, semester, teacherId, pageable);
+    }
+
+    public Page<CourseRow> getFilteredCourseRows(String name, String department, String semester,
+                                               Long teacherId, Pageable pageable) {
+        return courseRepository.findFilteredCourseRows(name, department, semester, teacherId, pageable);
+    }
+
+    public Slice<CourseRow> getFilteredCourseRowsSlice(String name, String department, String semester,
+                                                     Long teacherId, Pageable pageable) {
+        return courseRepository.findFilteredCourseRowsSlice(name, department, semester, teacherId, pageable);
+    }
+
+    public List<CourseRow> getFilteredCourseRowsAfter(String name, String department, String semester,
+                                                    Long teacherId, Long afterId, int limit) {
+        return courseRepository.findFilteredCourseRowsAfter(name, department, semester, teacherId,
+                afterId, Limit.of(limit + 1));
+    }
+
+    // Mirrors the findFilteredCourses filters in SQL for the planner estimate
+    public Optional<Long> estimateFilteredCourses(String name, String department, String semester, Long teacherId) {
+        List<String> predicates = new ArrayList<>();
+        List<Object> params = new ArrayList<>();
+        if (name != null) {
+            predicates.add("course_name LIKE ?");
+            params.add("%" + name + "%");
+        }
+        if (department != null) {
+            predicates.add("department = ?");
+            params.add(department);
+        }
+        if (semester != null) {
+            predicates.add("semester = ?");
+            params.add(semester);
+        }
+        if (teacherId != null) {
+            predicates.add("teacher_id = ?");
+            params.add(teacherId);
+        }
+        return rowEstimateRepository.estimateCount("courses", predicates, params);
+    }
+
+    // Fetches one extra row so the caller can tell whether there is a next page
+    public List<Course> getFilteredCoursesAfter(String name, String department, String semester,
+                                              Long teacherId, Long afterId, int limit) {
+        return courseRepository.findFilteredCoursesAfter(name, department, semester, teacherId,
+                afterId, Limit.of(limit + 1));
+    }
 }
\ No newline at end of file
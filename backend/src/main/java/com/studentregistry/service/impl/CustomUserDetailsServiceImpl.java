@@ -1,30 +1,35 @@
 package com.studentregistry.service.impl;
 
-import com.studentregistry.entity.User;
-import com.studentregistry.repository.UserRepository;
+import com.studentregistry.cache.UserLookupCache;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+
 @Service
 public class CustomUserDetailsServiceImpl implements UserDetailsService {
 
-    private final UserRepository userRepository;
+    private final UserLookupCache userLookupCache;
 
-    public CustomUserDetailsServiceImpl(UserRepository userRepository) {
-        this.userRepository = userRepository;
+    public CustomUserDetailsServiceImpl(UserLookupCache userLookupCache) {
+        this.userLookupCache = userLookupCache;
     }
 
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        User user = userRepository.findByUsername(username)
+        UserLookupCache.CachedUser user = userLookupCache.get(username)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found: " + username));
 
+        // Same authority Role.getAuthority() would produce
         return org.springframework.security.core.userdetails.User.builder()
                 .username(user.getUsername())
-                .password(user.getPassword())
-                .authorities(user.getAuthorities())
+                .password(user.getPasswordHash())
+                .authorities(user.getRoleName() != null
+                        ? List.of(new SimpleGrantedAuthority("ROLE_" + user.getRoleName()))
+                        : List.of())
                 .accountExpired(false)
                 .accountLocked(false)
                 .credentialsExpired(false)
@@ -0,0 +1,39 @@
+package com.studentregistry.service.impl;
+
+import com.studentregistry.dto.AuditEvent;
+import com.studentregistry.service.LogSink;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Writes each audit event on the calling thread (audit.log.mode=sync)
+@Component
+@ConditionalOnProperty(name = "audit.log.mode", havingValue = "sync")
+public class DirectLogSink implements LogSink {
+
+    private final LogRowWriter logRowWriter;
+    private final AtomicLong written = new AtomicLong();
+
+    public DirectLogSink(LogRowWriter logRowWriter) {
+        this.logRowWriter = logRowWriter;
+    }
+
+    @Override
+    public void submit(AuditEvent event) {
+        logRowWriter.writeBatch(List.of(event));
+        written.incrementAndGet();
+    }
+
+    @Override
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("mode", "sync");
+        stats.put("written", written.get());
+        return stats;
+    }
+}
@@ -1,31 +1,53 @@
 package com.studentregistry.service.impl;
 
+import com.studentregistry.dto.BulkEnrollmentResult;
+import com.studentregistry.dto.CreateEnrollmentDTO;
+import com.studentregistry.dto.EnrollmentRow;
 import com.studentregistry.entity.Enrollment;
+import com.studentregistry.repository.CourseRepository;
 import com.studentregistry.repository.EnrollmentRepository;
+import com.studentregistry.repository.StudentRepository;
 import com.studentregistry.service.EnrollmentService;
 import com.studentregistry.service.LogService;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 @Service
 public class EnrollmentServiceImpl implements EnrollmentService {
 
     private final EnrollmentRepository enrollmentRepository;
+    private final StudentRepository studentRepository;
+    private final CourseRepository courseRepository;
     private final LogService logService;
     private final ObjectMapper objectMapper;
+    private final int bulkMaxSize;
+    private final int bulkChunkSize;
 
-    public EnrollmentServiceImpl(EnrollmentRepository enrollmentRepository, LogService logService) {
+    public EnrollmentServiceImpl(EnrollmentRepository enrollmentRepository, StudentRepository studentRepository,
+            CourseRepository courseRepository, LogService logService,
+            @Value("${enrollment.bulk.max-size:10000}") int bulkMaxSize,
+            @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:100}") int bulkChunkSize) {
         this.enrollmentRepository = enrollmentRepository;
+        this.studentRepository = studentRepository;
+        this.courseRepository = courseRepository;
         this.logService = logService;
         this.objectMapper = new ObjectMapper();
+        this.bulkMaxSize = bulkMaxSize;
+        this.bulkChunkSize = bulkChunkSize;
     }
 
     public List<Enrollment> getAllEnrollments() {
@@ -58,6 +80,90 @@ public class EnrollmentServiceImpl implements EnrollmentService {
         return saved;
     }
 
+    // Validates the whole request with set-based queries, then inserts the valid rows in
+    // JDBC batches. Rows that would fail are reported by index instead of aborting the batch.
+    @Transactional
+    public BulkEnrollmentResult bulkEnroll(List<CreateEnrollmentDTO> enrollments, String username) {
+        if (enrollments.size() > bulkMaxSize) {
+            throw new RuntimeException("Too many enrollments in one request (max " + bulkMaxSize + ")");
+        }
+        BulkEnrollmentResult result = new BulkEnrollmentResult(enrollments.size());
+
+        Set<Long> studentIds = new HashSet<>();
+        Set<Long> courseIds = new HashSet<>();
+        for (CreateEnrollmentDTO dto : enrollments) {
+            studentIds.add(dto.getStudentId());
+            courseIds.add(dto.getCourseId());
+        }
+        Set<Long> knownStudents = new HashSet<>();
+        for (List<Long> chunk : chunks(studentIds)) {
+            knownStudents.addAll(studentRepository.findExistingIds(chunk));
+        }
+        Set<Long> knownCourses = new HashSet<>();
+        for (List<Long> chunk : chunks(courseIds)) {
+            knownCourses.addAll(courseRepository.findExistingIds(chunk));
+        }
+        Set<String> existingPairs = new HashSet<>();
+        if (!knownCourses.isEmpty()) {
+            for (List<Long> chunk : chunks(knownStudents)) {
+                for (Object[] pair : enrollmentRepository.findExistingPairs(chunk, knownCourses)) {
+                    existingPairs.add(pair[0] + ":" + pair[1]);
+                }
+            }
+        }
+
+        List<Enrollment> toInsert = new ArrayList<>();
+        Set<String> seen = new HashSet<>();
+        for (int i = 0; i < enrollments.size(); i++) {
+            CreateEnrollmentDTO dto = enrollments.get(i);
+            Long studentId = dto.getStudentId();
+            Long courseId = dto.getCourseId();
+            String key = studentId + ":" + courseId;
+            if (!knownStudents.contains(studentId)) {
+                result.addConflict(i, studentId, courseId, BulkEnrollmentResult.Reason.STUDENT_NOT_FOUND);
+            } else if (!knownCourses.contains(courseId)) {
+                result.addConflict(i, studentId, courseId, BulkEnrollmentResult.Reason.COURSE_NOT_FOUND);
+            } else if (existingPairs.contains(key)) {
+                result.addConflict(i, studentId, courseId, BulkEnrollmentResult.Reason.ALREADY_ENROLLED);
+            } else if (!seen.add(key)) {
+                result.addConflict(i, studentId, courseId, BulkEnrollmentResult.Reason.DUPLICATE_IN_REQUEST);
+            } else {
+                // References only - the ids were validated above, so no per-row select
+                toInsert.add(new Enrollment(studentRepository.getReferenceById(studentId),
+                        courseRepository.getReferenceById(courseId), dto.getFinalGrade()));
+            }
+        }
+
+        for (int from = 0; from < toInsert.size(); from += bulkChunkSize) {
+            enrollmentRepository.saveAll(toInsert.subList(from, Math.min(from + bulkChunkSize, toInsert.size())));
+            enrollmentRepository.flush();
+        }
+        result.setCreated(toInsert.size());
+
+        // One summarized audit entry per request instead of one per row
+        try {
+            Map<String, Object> details = new LinkedHashMap<>();
+            details.put("requested", result.getRequested());
+            details.put("created", result.getCreated());
+            details.put("conflicts", result.getConflicts().size());
+            details.put("courseIds", knownCourses);
+            logService.logActionByUsername(username, "BULK_CREATE_ENROLLMENT", objectMapper.writeValueAsString(details));
+        } catch (Exception e) {
+            // Logging failure shouldn't break the operation
+        }
+        return result;
+    }
+
+    // Keeps IN lists well under PostgreSQL's bind parameter limit
+    private List<List<Long>> chunks(Set<Long> ids) {
+        List<Long> all = new ArrayList<>(ids);
+        List<List<Long>> chunks = new ArrayList<>();
+        for (int from = 0; from < all.size(); from += 1000) {
+            chunks.add(all.subList(from, Math.min(from + 1000, all.size())));
+        }
+        return chunks;
+    }
+
     public Enrollment updateEnrollment(Long id, Enrollment enrollmentDetails) {
         Enrollment enrollment = enrollmentRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Enrollment not found with id: " + id));
@@ -101,6 +207,26 @@ public class EnrollmentServiceImpl implements EnrollmentService {
         return enrollmentRepository.findByFinalGradeIsNull();
     }
 
+    public List<EnrollmentRow> getAllEnrollmentRows() {
+        return enrollmentRepository.findAllRows();
+    }
+
+    public List<EnrollmentRow> getEnrollmentRowsByStudent(Long studentId) {
+        return enrollmentRepository.findRowsByStudentId(studentId);
+    }
+
+    public List<EnrollmentRow> getEnrollmentRowsByCourse(Long courseId) {
+        return enrollmentRepository.findRowsByCourseId(courseId);
+    }
+
+    public List<EnrollmentRow> getEnrollmentRowsBySemester(String semester) {
+        return enrollmentRepository.findRowsBySemester(semester);
+    }
+
+    public List<EnrollmentRow> getEnrollmentRowsByStudentAndSemester(Long studentId, String semester) {
+        return enrollmentRepository.findRowsByStudentAndSemester(studentId, semester);
+    }
+
     public Page<Enrollment> getEnrollmentsByStudentId(Long studentId, Pageable pageable) {
         return enrollmentRepository.findByStudent_Id(studentId, pageable);
     }
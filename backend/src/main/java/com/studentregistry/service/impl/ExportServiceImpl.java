@@ -0,0 +1,210 @@
+package com.studentregistry.service.impl;
+
+import com.studentregistry.dto.AbsenceRow;
+import com.studentregistry.dto.EnrollmentRow;
+import com.studentregistry.dto.ExportFormat;
+import com.studentregistry.dto.LogRow;
+import com.studentregistry.entity.Student;
+import com.studentregistry.repository.AbsenceRepository;
+import com.studentregistry.repository.EnrollmentRepository;
+import com.studentregistry.repository.LogRepository;
+import com.studentregistry.repository.StudentRepository;
+import com.studentregistry.service.ExportService;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.temporal.Temporal;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+// Streams whole tables straight from a forward-only JDBC cursor to the response. Each method
+// holds one read-only transaction for the duration of the download; rows are written and
+// dropped one at a time so memory stays flat regardless of table size.
+@Service
+public class ExportServiceImpl implements ExportService {
+
+    // Push bytes to the client periodically so slow consumers see progress and the
+    // servlet buffer doesn't grow with the export
+    private static final int FLUSH_EVERY = 1000;
+
+    private final StudentRepository studentRepository;
+    private final EnrollmentRepository enrollmentRepository;
+    private final AbsenceRepository absenceRepository;
+    private final LogRepository logRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+
+    public ExportServiceImpl(StudentRepository studentRepository,
+            EnrollmentRepository enrollmentRepository,
+            AbsenceRepository absenceRepository,
+            LogRepository logRepository,
+            EntityManager entityManager) {
+        this.studentRepository = studentRepository;
+        this.enrollmentRepository = enrollmentRepository;
+        this.absenceRepository = absenceRepository;
+        this.logRepository = logRepository;
+        this.entityManager = entityManager;
+        this.objectMapper = new ObjectMapper();
+    }
+
+    private record Column<T>(String name, Function<T, Object> value) {
+    }
+
+    private static final List<Column<Student>> STUDENT_COLUMNS = List.of(
+            new Column<>("id", Student::getId),
+            new Column<>("firstName", Student::getFirstName),
+            new Column<>("lastName", Student::getLastName),
+            new Column<>("dateOfBirth", Student::getDateOfBirth),
+            new Column<>("gender", Student::getGender),
+            new Column<>("phone", Student::getPhone),
+            new Column<>("email", Student::getEmail),
+            new Column<>("address", Student::getAddress),
+            new Column<>("department", Student::getDepartment),
+            new Column<>("program", Student::getProgram),
+            new Column<>("enrollmentYear", Student::getEnrollmentYear),
+            new Column<>("status", s -> s.getStatus() != null ? s.getStatus().getValue() : null),
+            new Column<>("createdAt", Student::getCreatedAt),
+            new Column<>("updatedAt", Student::getUpdatedAt));
+
+    private static final List<Column<EnrollmentRow>> ENROLLMENT_COLUMNS = List.of(
+            new Column<>("id", EnrollmentRow::id),
+            new Column<>("studentId", EnrollmentRow::studentId),
+            new Column<>("studentFirstName", EnrollmentRow::studentFirstName),
+            new Column<>("studentLastName", EnrollmentRow::studentLastName),
+            new Column<>("courseId", EnrollmentRow::courseId),
+            new Column<>("courseCode", EnrollmentRow::courseCode),
+            new Column<>("section", EnrollmentRow::section),
+            new Column<>("courseName", EnrollmentRow::courseName),
+            new Column<>("semester", EnrollmentRow::semester),
+            new Column<>("finalGrade", EnrollmentRow::finalGrade),
+            new Column<>("enrolledAt", EnrollmentRow::enrolledAt));
+
+    private static final List<Column<AbsenceRow>> ABSENCE_COLUMNS = List.of(
+            new Column<>("studentId", AbsenceRow::studentId),
+            new Column<>("studentFirstName", AbsenceRow::studentFirstName),
+            new Column<>("studentLastName", AbsenceRow::studentLastName),
+            new Column<>("courseId", AbsenceRow::courseId),
+            new Column<>("courseCode", AbsenceRow::courseCode),
+            new Column<>("courseName", AbsenceRow::courseName),
+            new Column<>("date", AbsenceRow::date));
+
+    private static final List<Column<LogRow>> LOG_COLUMNS = List.of(
+            new Column<>("id", LogRow::id),
+            new Column<>("timestamp", LogRow::timestamp),
+            new Column<>("userId", LogRow::userId),
+            new Column<>("username", LogRow::username),
+            new Column<>("action", LogRow::action),
+            new Column<>("details", LogRow::details));
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportStudents(ExportFormat format, OutputStream out) throws IOException {
+        // Student is exported as an entity, so evict each one once written; otherwise the
+        // persistence context would end up holding the whole table
+        try (Stream<Student> rows = studentRepository.streamAll()) {
+            write(rows, STUDENT_COLUMNS, format, out, entityManager::detach);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportEnrollments(ExportFormat format, OutputStream out) throws IOException {
+        try (Stream<EnrollmentRow> rows = enrollmentRepository.streamAllRows()) {
+            write(rows, ENROLLMENT_COLUMNS, format, out, row -> { });
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportAbsences(ExportFormat format, OutputStream out) throws IOException {
+        try (Stream<AbsenceRow> rows = absenceRepository.streamAllRows()) {
+            write(rows, ABSENCE_COLUMNS, format, out, row -> { });
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportLogs(ExportFormat format, OutputStream out) throws IOException {
+        try (Stream<LogRow> rows = logRepository.streamAllRows()) {
+            write(rows, LOG_COLUMNS, format, out, row -> { });
+        }
+    }
+
+    private <T> void write(Stream<T> rows, List<Column<T>> columns, ExportFormat format, OutputStream out,
+            Consumer<T> afterWrite) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        if (format == ExportFormat.CSV) {
+            writer.write(String.join(",", columns.stream().map(Column::name).toList()));
+            writer.write("\r\n");
+        }
+
+        long[] written = {0};
+        try {
+            rows.forEach(row -> {
+                try {
+                    if (format == ExportFormat.CSV) {
+                        writeCsvRow(writer, row, columns);
+                    } else {
+                        writeJsonRow(writer, row, columns);
+                    }
+                    afterWrite.accept(row);
+                    if (++written[0] % FLUSH_EVERY == 0) {
+                        writer.flush();
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            // Usually the client went away mid-download; unwrap so the caller sees the IOException
+            throw e.getCause();
+        }
+        writer.flush();
+    }
+
+    private <T> void writeCsvRow(Writer writer, T row, List<Column<T>> columns) throws IOException {
+        for (int i = 0; i < columns.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            Object value = columns.get(i).value().apply(row);
+            if (value != null) {
+                writer.write(escapeCsv(value.toString()));
+            }
+        }
+        writer.write("\r\n");
+    }
+
+    private <T> void writeJsonRow(Writer writer, T row, List<Column<T>> columns) throws IOException {
+        Map<String, Object> json = new LinkedHashMap<>();
+        for (Column<T> column : columns) {
+            Object value = column.value().apply(row);
+            // ObjectMapper has no java.time module here; ISO strings match the CSV output
+            json.put(column.name(), value instanceof Temporal ? value.toString() : value);
+        }
+        writer.write(objectMapper.writeValueAsString(json));
+        writer.write('\n');
+    }
+
+    // RFC 4180 quoting
+    private static String escapeCsv(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
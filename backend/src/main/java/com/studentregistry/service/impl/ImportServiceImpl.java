@@ -0,0 +1,441 @@
+package com.studentregistry.service.impl;
+
+import com.studentregistry.cache.CacheInvalidationBus;
+import com.studentregistry.cache.InvalidationEvent;
+import com.studentregistry.cache.TypeaheadIndex;
+import com.studentregistry.dto.CreateStudentDTO;
+import com.studentregistry.dto.CreateTeacherDTO;
+import com.studentregistry.dto.DTOMapper;
+import com.studentregistry.dto.ImportJob;
+import com.studentregistry.entity.Student;
+import com.studentregistry.entity.Teacher;
+import com.studentregistry.repository.StudentRepository;
+import com.studentregistry.repository.TeacherRepository;
+import com.studentregistry.service.ImportService;
+import com.studentregistry.service.LogService;
+import com.studentregistry.util.CsvReader;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// CSV onboarding for students and teachers. The upload is spooled to a temp file, then a
+// worker reads it record by record, validates each row against the Create*DTO constraints
+// and upserts on email one chunk per transaction: one SELECT ... WHERE email IN (...) and
+// one JDBC batch per chunk, with a single audit entry for the whole job.
+@Service
+public class ImportServiceImpl implements ImportService {
+
+    private static final Set<String> STUDENT_REQUIRED = Set.of("firstname", "lastname", "email", "enrollmentyear", "status");
+    private static final Set<String> TEACHER_REQUIRED = Set.of("firstname", "lastname", "email");
+
+    // Rows waiting for the next chunk, with the CSV line they came from for error reports
+    private record PendingRow<D>(int line, D dto) {
+    }
+
+    // afterCommit runs only once the chunk's transaction has committed
+    private record UpsertCounts(int created, int updated, Runnable afterCommit) {
+    }
+
+    @FunctionalInterface
+    private interface ChunkWriter<D> {
+        UpsertCounts write(List<PendingRow<D>> rows);
+    }
+
+    private final StudentRepository studentRepository;
+    private final TeacherRepository teacherRepository;
+    private final DTOMapper dtoMapper;
+    private final LogService logService;
+    private final TypeaheadIndex typeaheadIndex;
+    private final CacheInvalidationBus invalidationBus;
+    private final Validator validator;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final ExecutorService executor;
+    private final Map<String, ImportJob> jobs = new ConcurrentHashMap<>();
+    private final int chunkSize;
+    private final int maxErrors;
+    private final long retentionMinutes;
+
+    public ImportServiceImpl(StudentRepository studentRepository,
+            TeacherRepository teacherRepository,
+            DTOMapper dtoMapper,
+            LogService logService,
+            TypeaheadIndex typeaheadIndex,
+            CacheInvalidationBus invalidationBus,
+            Validator validator,
+            EntityManager entityManager,
+            PlatformTransactionManager transactionManager,
+            @Value("${import.chunk-size:500}") int chunkSize,
+            @Value("${import.max-errors:1000}") int maxErrors,
+            @Value("${import.workers:2}") int workers,
+            @Value("${import.job-retention-minutes:60}") long retentionMinutes,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this.studentRepository = studentRepository;
+        this.teacherRepository = teacherRepository;
+        this.dtoMapper = dtoMapper;
+        this.logService = logService;
+        this.typeaheadIndex = typeaheadIndex;
+        this.invalidationBus = invalidationBus;
+        this.validator = validator;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.objectMapper = new ObjectMapper();
+        this.chunkSize = chunkSize;
+        this.maxErrors = maxErrors;
+        this.retentionMinutes = retentionMinutes;
+        // Still a fixed pool in virtual mode: import.workers bounds the load imports put on the database
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(workers, virtualThreads
+                ? Thread.ofVirtual().name("csv-import-", 1).factory()
+                : r -> new Thread(r, "csv-import-" + threadCount.incrementAndGet()));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+        try {
+            executor.awaitTermination(30, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public ImportJob startStudentImport(MultipartFile file, String username) {
+        return submit(STUDENTS, file, username, STUDENT_REQUIRED, this::parseStudent, CreateStudentDTO::getEmail,
+                this::upsertStudents);
+    }
+
+    @Override
+    public ImportJob startTeacherImport(MultipartFile file, String username) {
+        return submit(TEACHERS, file, username, TEACHER_REQUIRED, this::parseTeacher, CreateTeacherDTO::getEmail,
+                this::upsertTeachers);
+    }
+
+    @Override
+    public Optional<ImportJob> getJob(String jobId, String type) {
+        return Optional.ofNullable(jobs.get(jobId)).filter(job -> job.getType().equals(type));
+    }
+
+    private <D> ImportJob submit(String type, MultipartFile file, String username, Set<String> required,
+            Function<Map<String, String>, D> parser, Function<D, String> emailOf, ChunkWriter<D> writer) {
+        if (file == null || file.isEmpty()) {
+            throw new RuntimeException("CSV file is required");
+        }
+        evictFinishedJobs();
+
+        // The multipart temp file is deleted when the request completes, so keep our own copy
+        Path spool;
+        try {
+            spool = Files.createTempFile("import-" + type + "-", ".csv");
+            file.transferTo(spool);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to store uploaded file: " + e.getMessage());
+        }
+
+        ImportJob job = new ImportJob(type, file.getOriginalFilename(), maxErrors);
+        jobs.put(job.getId(), job);
+        executor.execute(() -> {
+            try {
+                run(job, spool, username, required, parser, emailOf, writer);
+            } finally {
+                try {
+                    Files.deleteIfExists(spool);
+                } catch (IOException e) {
+                    System.err.println("Failed to delete import spool file " + spool + " - " + e.getMessage());
+                }
+            }
+        });
+        return job;
+    }
+
+    private <D> void run(ImportJob job, Path spool, String username, Set<String> required,
+            Function<Map<String, String>, D> parser, Function<D, String> emailOf, ChunkWriter<D> writer) {
+        job.start();
+        try (Reader in = Files.newBufferedReader(spool, StandardCharsets.UTF_8);
+                CsvReader csv = new CsvReader(in)) {
+            List<String> header = csv.readRecord();
+            if (header == null) {
+                job.finish(ImportJob.Status.FAILED, "File is empty");
+                return;
+            }
+            List<String> columns = header.stream().map(ImportServiceImpl::normalizeColumn).toList();
+            List<String> missing = required.stream().filter(c -> !columns.contains(c)).sorted().toList();
+            if (!missing.isEmpty()) {
+                job.finish(ImportJob.Status.FAILED, "Missing required columns: " + String.join(", ", missing));
+                return;
+            }
+
+            List<PendingRow<D>> pending = new ArrayList<>(chunkSize);
+            List<String> record;
+            while ((record = csv.readRecord()) != null) {
+                if (record.stream().allMatch(String::isBlank)) {
+                    continue;
+                }
+                job.rowRead();
+                int line = csv.getRecordLine();
+                Map<String, String> row = new HashMap<>();
+                for (int i = 0; i < columns.size() && i < record.size(); i++) {
+                    String value = record.get(i).trim();
+                    row.put(columns.get(i), value.isEmpty() ? null : value);
+                }
+
+                D dto;
+                try {
+                    dto = parser.apply(row);
+                } catch (IllegalArgumentException e) {
+                    job.addError(line, row.get("email"), e.getMessage());
+                    continue;
+                }
+                Set<ConstraintViolation<D>> violations = validator.validate(dto);
+                if (!violations.isEmpty()) {
+                    job.addError(line, emailOf.apply(dto), violations.stream()
+                            .map(ConstraintViolation::getMessage).sorted().collect(Collectors.joining("; ")));
+                    continue;
+                }
+
+                pending.add(new PendingRow<>(line, dto));
+                if (pending.size() >= chunkSize) {
+                    flushChunk(job, pending, emailOf, writer);
+                }
+            }
+            flushChunk(job, pending, emailOf, writer);
+            job.finish(ImportJob.Status.COMPLETED, null);
+        } catch (Exception e) {
+            System.err.println("Import " + job.getId() + " failed - " + e.getMessage());
+            job.finish(ImportJob.Status.FAILED, e.getMessage());
+        }
+        // Committed chunks stay committed even when a later one fails. Other nodes refresh
+        // their caches once per job rather than once per row.
+        if (job.getCreated() + job.getUpdated() > 0) {
+            invalidationBus.publish(InvalidationEvent.all(STUDENTS.equals(job.getType())
+                    ? InvalidationEvent.EntityType.STUDENT : InvalidationEvent.EntityType.TEACHER));
+        }
+        audit(job, username);
+    }
+
+    private <D> void flushChunk(ImportJob job, List<PendingRow<D>> pending, Function<D, String> emailOf,
+            ChunkWriter<D> writer) {
+        if (pending.isEmpty()) {
+            return;
+        }
+        writeOrSplit(job, List.copyOf(pending), emailOf, writer);
+        pending.clear();
+    }
+
+    // Writes the rows in one transaction. If the database rejects it (a value too long for its
+    // column, a concurrent email collision), the whole transaction rolled back, so the rows are
+    // retried in two halves, each in a fresh transaction, down to single rows: the good rows
+    // are still written and only the rows the database refuses are reported.
+    private <D> void writeOrSplit(ImportJob job, List<PendingRow<D>> rows, Function<D, String> emailOf,
+            ChunkWriter<D> writer) {
+        try {
+            UpsertCounts counts = transactionTemplate.execute(status -> {
+                UpsertCounts result = writer.write(rows);
+                entityManager.flush();
+                entityManager.clear();
+                return result;
+            });
+            job.addCreated(counts.created());
+            job.addUpdated(counts.updated());
+            counts.afterCommit().run();
+        } catch (Exception e) {
+            if (rows.size() == 1) {
+                PendingRow<D> row = rows.get(0);
+                job.addError(row.line(), emailOf.apply(row.dto()),
+                        "Rejected by database: " + NestedExceptionUtils.getMostSpecificCause(e).getMessage());
+                return;
+            }
+            int half = rows.size() / 2;
+            writeOrSplit(job, rows.subList(0, half), emailOf, writer);
+            writeOrSplit(job, rows.subList(half, rows.size()), emailOf, writer);
+        }
+    }
+
+    private UpsertCounts upsertStudents(List<PendingRow<CreateStudentDTO>> rows) {
+        Set<String> emails = rows.stream().map(r -> r.dto().getEmail()).collect(Collectors.toSet());
+        Map<String, Student> byEmail = new HashMap<>();
+        for (Student existing : studentRepository.findByEmailIn(emails)) {
+            byEmail.putIfAbsent(existing.getEmail(), existing);
+        }
+
+        int created = 0;
+        int updated = 0;
+        Set<Student> toSave = new LinkedHashSet<>();
+        for (PendingRow<CreateStudentDTO> row : rows) {
+            CreateStudentDTO dto = row.dto();
+            Student student = byEmail.get(dto.getEmail());
+            if (student == null) {
+                student = dtoMapper.toEntity(dto);
+                byEmail.put(dto.getEmail(), student);
+                created++;
+            } else {
+                // Also covers a repeated email within the same file: last row wins, one entity saved
+                dtoMapper.copyInto(dto, student);
+                updated++;
+            }
+            toSave.add(student);
+        }
+        studentRepository.saveAll(toSave);
+        return new UpsertCounts(created, updated, () -> toSave.forEach(typeaheadIndex::putStudent));
+    }
+
+    private UpsertCounts upsertTeachers(List<PendingRow<CreateTeacherDTO>> rows) {
+        Set<String> emails = rows.stream().map(r -> r.dto().getEmail()).collect(Collectors.toSet());
+        Map<String, Teacher> byEmail = new HashMap<>();
+        for (Teacher existing : teacherRepository.findByEmailIn(emails)) {
+            byEmail.putIfAbsent(existing.getEmail(), existing);
+        }
+
+        int created = 0;
+        int updated = 0;
+        Set<Teacher> toSave = new LinkedHashSet<>();
+        for (PendingRow<CreateTeacherDTO> row : rows) {
+            CreateTeacherDTO dto = row.dto();
+            Teacher teacher = byEmail.get(dto.getEmail());
+            if (teacher == null) {
+                teacher = dtoMapper.toEntity(dto);
+                byEmail.put(dto.getEmail(), teacher);
+                created++;
+            } else {
+                dtoMapper.copyInto(dto, teacher);
+                updated++;
+            }
+            toSave.add(teacher);
+        }
+        teacherRepository.saveAll(toSave);
+        return new UpsertCounts(created, updated, () -> { });
+    }
+
+    private CreateStudentDTO parseStudent(Map<String, String> row) {
+        CreateStudentDTO dto = new CreateStudentDTO();
+        dto.setFirstName(row.get("firstname"));
+        dto.setLastName(row.get("lastname"));
+        dto.setDateOfBirth(parseDate(row.get("dateofbirth")));
+        dto.setGender(row.get("gender"));
+        dto.setPhone(row.get("phone"));
+        dto.setEmail(row.get("email"));
+        dto.setAddress(row.get("address"));
+        dto.setDepartment(row.get("department"));
+        dto.setProgram(row.get("program"));
+        dto.setEnrollmentYear(parseInteger(row.get("enrollmentyear"), "enrollmentYear"));
+        dto.setStatus(parseStatus(row.get("status")));
+        // Email is the upsert key, so unlike POST /api/students it is mandatory here: a row without
+        // one could only ever be inserted, and re-importing the file would duplicate it
+        if (dto.getEmail() == null) {
+            throw new IllegalArgumentException("Email is required");
+        }
+        return dto;
+    }
+
+    private CreateTeacherDTO parseTeacher(Map<String, String> row) {
+        CreateTeacherDTO dto = new CreateTeacherDTO();
+        dto.setFirstName(row.get("firstname"));
+        dto.setLastName(row.get("lastname"));
+        dto.setDepartment(row.get("department"));
+        dto.setEmail(row.get("email"));
+        dto.setPhone(row.get("phone"));
+        // Email is the upsert key, so unlike POST /api/teachers it is mandatory here
+        if (dto.getEmail() == null) {
+            throw new IllegalArgumentException("Email is required");
+        }
+        if (dto.getFirstName() == null || dto.getLastName() == null) {
+            throw new IllegalArgumentException("First and last name are required");
+        }
+        return dto;
+    }
+
+    private void audit(ImportJob job, String username) {
+        try {
+            Map<String, Object> details = new LinkedHashMap<>();
+            details.put("jobId", job.getId());
+            details.put("fileName", job.getFileName() != null ? job.getFileName() : "");
+            details.put("status", job.getStatus().name());
+            details.put("rowsRead", job.getRowsRead());
+            details.put("created", job.getCreated());
+            details.put("updated", job.getUpdated());
+            details.put("failed", job.getFailed());
+            String action = STUDENTS.equals(job.getType()) ? "IMPORT_STUDENTS" : "IMPORT_TEACHERS";
+            logService.logActionByUsername(username, action, objectMapper.writeValueAsString(details));
+        } catch (Exception e) {
+            // Logging failure shouldn't break the operation
+        }
+    }
+
+    private void evictFinishedJobs() {
+        LocalDateTime cutoff = LocalDateTime.now().minusMinutes(retentionMinutes);
+        jobs.values().removeIf(job -> job.isFinished() && job.getFinishedAt().isBefore(cutoff));
+    }
+
+    // "First Name", "first_name" and "firstName" all map to "firstname"
+    private static String normalizeColumn(String name) {
+        return name.trim().toLowerCase().replace("_", "").replace(" ", "").replace("-", "");
+    }
+
+    private static LocalDate parseDate(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid dateOfBirth (expected YYYY-MM-DD): " + value);
+        }
+    }
+
+    private static Integer parseInteger(String value, String column) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Integer.valueOf(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid " + column + ": " + value);
+        }
+    }
+
+    private static Student.Status parseStatus(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Student.Status.valueOf(value.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid status: " + value);
+        }
+    }
+}
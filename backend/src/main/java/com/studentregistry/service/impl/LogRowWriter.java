@@ -0,0 +1,87 @@
+package com.studentregistry.service.impl;
+
+import com.studentregistry.cache.UserLookupCache;
+import com.studentregistry.dto.AuditEvent;
+import com.studentregistry.entity.Log;
+import com.studentregistry.entity.User;
+import com.studentregistry.repository.LogRepository;
+import com.studentregistry.repository.UserRepository;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// Turns audit events into Log rows and inserts them in one transaction so Hibernate
+// can send them as a single JDBC batch (see hibernate.jdbc.batch_size).
+@Component
+public class LogRowWriter {
+
+    private final LogRepository logRepository;
+    private final UserRepository userRepository;
+    private final UserLookupCache userLookupCache;
+    private final TransactionTemplate transactionTemplate;
+
+    public LogRowWriter(LogRepository logRepository, UserRepository userRepository,
+            UserLookupCache userLookupCache, PlatformTransactionManager transactionManager) {
+        this.logRepository = logRepository;
+        this.userRepository = userRepository;
+        this.userLookupCache = userLookupCache;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public void writeBatch(List<AuditEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            // Resolve all users referenced by the batch with at most two queries.
+            // Usernames already in the lookup cache only need a reference, not a select.
+            Set<Long> userIds = new HashSet<>();
+            Set<String> usernames = new HashSet<>();
+            Map<String, User> usersByName = new HashMap<>();
+            for (AuditEvent event : events) {
+                if (event.getUserId() != null) {
+                    userIds.add(event.getUserId());
+                } else if (event.getUsername() != null && !usersByName.containsKey(event.getUsername())
+                        && !usernames.contains(event.getUsername())) {
+                    UserLookupCache.CachedUser cached = userLookupCache.getIfPresent(event.getUsername());
+                    if (cached != null) {
+                        usersByName.put(event.getUsername(), userRepository.getReferenceById(cached.getId()));
+                    } else {
+                        usernames.add(event.getUsername());
+                    }
+                }
+            }
+
+            Map<Long, User> usersById = new HashMap<>();
+            if (!userIds.isEmpty()) {
+                userRepository.findAllById(userIds).forEach(user -> usersById.put(user.getId(), user));
+            }
+            if (!usernames.isEmpty()) {
+                long loadGeneration = userLookupCache.currentGeneration();
+                userRepository.findByUsernameIn(usernames).forEach(user -> {
+                    usersByName.put(user.getUsername(), user);
+                    userLookupCache.put(user, loadGeneration);
+                });
+            }
+
+            List<Log> rows = new ArrayList<>(events.size());
+            for (AuditEvent event : events) {
+                User user = event.getUserId() != null
+                        ? usersById.get(event.getUserId())
+                        : event.getUsername() != null ? usersByName.get(event.getUsername()) : null;
+                Log log = new Log(user, event.getAction(), event.getDetails());
+                log.setTimestamp(event.getTimestamp());
+                rows.add(log);
+            }
+            logRepository.saveAll(rows);
+        });
+    }
+}
@@ -1,13 +1,15 @@
 package com.studentregistry.service.impl;
 
+import com.studentregistry.dto.AuditEvent;
 import com.studentregistry.entity.Log;
-import com.studentregistry.entity.User;
 import com.studentregistry.repository.LogRepository;
-import com.studentregistry.repository.UserRepository;
+import com.studentregistry.repository.RowEstimateRepository;
 import com.studentregistry.service.LogService;
+import com.studentregistry.service.LogSink;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
@@ -16,17 +18,20 @@ import jakarta.persistence.criteria.Predicate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Service
 public class LogServiceImpl implements LogService {
 
     private final LogRepository logRepository;
-    private final UserRepository userRepository;
+    private final RowEstimateRepository rowEstimateRepository;
+    private final LogSink logSink;
 
-    public LogServiceImpl(LogRepository logRepository, UserRepository userRepository) {
+    public LogServiceImpl(LogRepository logRepository, RowEstimateRepository rowEstimateRepository, LogSink logSink) {
         this.logRepository = logRepository;
-        this.userRepository = userRepository;
+        this.rowEstimateRepository = rowEstimateRepository;
+        this.logSink = logSink;
     }
 
     public List<Log> getAllLogs() {
@@ -61,19 +66,11 @@ public class LogServiceImpl implements LogService {
         return logRepository.findByUserAndTimestampRange(userId, startDate, endDate);
     }
 
-    // Utility method to create and save logs with userId
+    // Utility method to create and save logs with userId.
+    // The row is handed to the LogSink, which writes it in the background by default.
     public void logAction(Long userId, String action, String details) {
         try {
-            Log log = new Log();
-            if (userId != null) {
-                Optional<User> user = userRepository.findById(userId);
-                log.setUser(user.orElse(null));
-            } else {
-                log.setUser(null);
-            }
-            log.setAction(action);
-            log.setDetails(details);
-            saveLog(log);
+            logSink.submit(AuditEvent.forUserId(userId, action, details));
         } catch (Exception e) {
             // Don't let logging failures break the main operation
             // Log to console for debugging
@@ -81,30 +78,69 @@ public class LogServiceImpl implements LogService {
         }
     }
 
-    // Utility method to create and save logs with username (looks up user ID)
+    // Utility method to create and save logs with username (the sink resolves the user ID)
     public void logActionByUsername(String username, String action, String details) {
         try {
-            Long userId = null;
-            if (username != null && !username.isEmpty()) {
-                Optional<User> user = userRepository.findByUsername(username);
-                if (user.isPresent()) {
-                    userId = user.get().getId();
-                }
-            }
-            logAction(userId, action, details);
+            String name = username != null && !username.isEmpty() ? username : null;
+            logSink.submit(AuditEvent.forUsername(name, action, details));
         } catch (Exception e) {
             // Don't let logging failures break the main operation
             System.err.println("Failed to log action by username: " + action + " - " + e.getMessage());
         }
     }
 
+    public Map<String, Object> getWriterStats() {
+        return logSink.getStats();
+    }
+
     public Page<Log> getFilteredLogs(String action, Long userId, Long courseId, Long studentId, 
                                    LocalDateTime dateFrom, LocalDateTime dateTo, Pageable pageable) {
         // Note: courseId and studentId are not stored directly in Log entity, 
         // but passed through for API compatibility - they are ignored in the query
-        
+        return logRepository.findAll(buildFilterSpec(action, userId, dateFrom, dateTo, null), pageable);
+    }
+
+    public Slice<Log> getFilteredLogsSlice(String action, Long userId, LocalDateTime dateFrom, LocalDateTime dateTo,
+                                         Pageable pageable) {
+        Specification<Log> spec = buildFilterSpec(action, userId, dateFrom, dateTo, null);
+        return logRepository.findBy(spec, q -> q.sortBy(pageable.getSort()).slice(pageable));
+    }
+
+    // Mirrors buildFilterSpec in SQL for the planner estimate
+    public Optional<Long> estimateFilteredLogs(String action, Long userId, LocalDateTime dateFrom, LocalDateTime dateTo) {
+        List<String> predicates = new ArrayList<>();
+        List<Object> params = new ArrayList<>();
+        if (action != null && !action.isEmpty()) {
+            predicates.add("action = ?");
+            params.add(action);
+        }
+        if (userId != null) {
+            predicates.add("user_id = ?");
+            params.add(userId);
+        }
+        if (dateFrom != null) {
+            predicates.add("timestamp >= ?");
+            params.add(dateFrom);
+        }
+        if (dateTo != null) {
+            predicates.add("timestamp <= ?");
+            params.add(dateTo);
+        }
+        return rowEstimateRepository.estimateCount("logs", predicates, params);
+    }
+
+    // Keyset mode: logs are listed newest first, so the cursor seeks to ids below the last one seen.
+    // Fetches one extra row so the caller can tell whether there is a next page.
+    public List<Log> getFilteredLogsBefore(String action, Long userId, LocalDateTime dateFrom, LocalDateTime dateTo,
+                                         Long beforeId, int limit) {
+        Specification<Log> spec = buildFilterSpec(action, userId, dateFrom, dateTo, beforeId);
+        return logRepository.findBy(spec, q -> q.sortBy(Sort.by(Sort.Direction.DESC, "id")).limit(limit + 1).all());
+    }
+
+    private Specification<Log> buildFilterSpec(String action, Long userId, LocalDateTime dateFrom,
+                                               LocalDateTime dateTo, Long beforeId) {
         // Use Specification to build dynamic query and avoid PostgreSQL type inference issues
-        Specification<Log> spec = (root, query, cb) -> {
+        return (root, query, cb) -> {
             List<Predicate> predicates = new ArrayList<>();
             
             if (action != null && !action.isEmpty()) {
@@ -123,11 +159,13 @@ public class LogServiceImpl implements LogService {
                 predicates.add(cb.lessThanOrEqualTo(root.get("timestamp"), dateTo));
             }
             
+            if (beforeId != null) {
+                predicates.add(cb.lessThan(root.get("id"), beforeId));
+            }
+            
             query.orderBy(cb.desc(root.get("id")));
             
             return cb.and(predicates.toArray(new Predicate[0]));
         };
-        
-        return logRepository.findAll(spec, pageable);
     }
 }
\ No newline at end of file
@@ -0,0 +1,67 @@
+package com.studentregistry.service.impl;
+
+import com.studentregistry.dto.ResourceVersion;
+import com.studentregistry.repository.TableVersionRepository;
+import com.studentregistry.repository.TableVersionRepository.TableVersion;
+import com.studentregistry.service.ResourceVersionService;
+
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+@Service
+public class ResourceVersionServiceImpl implements ResourceVersionService {
+
+    private static final TableVersion UNKNOWN = new TableVersion(0, 0);
+
+    private final TableVersionRepository tableVersionRepository;
+
+    public ResourceVersionServiceImpl(TableVersionRepository tableVersionRepository) {
+        this.tableVersionRepository = tableVersionRepository;
+    }
+
+    public ResourceVersion forTables(String... tables) {
+        StringBuilder etag = new StringBuilder("t");
+        long lastModified = appendVersions(etag, tables);
+        return new ResourceVersion(quote(etag), Instant.ofEpochMilli(lastModified));
+    }
+
+    public Optional<ResourceVersion> forRow(String table, long id, String... dependencies) {
+        Optional<LocalDateTime> updatedAt = tableVersionRepository.findRowUpdatedAt(table, id);
+        if (updatedAt.isEmpty()) {
+            return Optional.empty();
+        }
+        // Entity timestamps are written in the JVM's zone
+        Instant rowModified = updatedAt.get().atZone(ZoneId.systemDefault()).toInstant();
+        StringBuilder etag = new StringBuilder("r")
+                .append(id).append('-')
+                .append(ChronoUnit.MICROS.between(Instant.EPOCH, rowModified));
+        long lastModified = Math.max(rowModified.toEpochMilli(), appendVersions(etag, dependencies));
+        return Optional.of(new ResourceVersion(quote(etag), Instant.ofEpochMilli(lastModified)));
+    }
+
+    // Appends ".<version>" per table in argument order; returns the latest change among them
+    private long appendVersions(StringBuilder etag, String... tables) {
+        if (tables.length == 0) {
+            return 0;
+        }
+        Map<String, TableVersion> versions = tableVersionRepository.findVersions(List.of(tables));
+        long lastModified = 0;
+        for (String table : tables) {
+            TableVersion version = versions.getOrDefault(table, UNKNOWN);
+            etag.append('.').append(version.version());
+            lastModified = Math.max(lastModified, version.updatedAtMillis());
+        }
+        return lastModified;
+    }
+
+    private static String quote(CharSequence value) {
+        return "\"" + value + "\"";
+    }
+}
@@ -1,5 +1,8 @@
 package com.studentregistry.service.impl;
 
+import com.studentregistry.cache.CacheInvalidationBus;
+import com.studentregistry.cache.InvalidationEvent.EntityType;
+import com.studentregistry.cache.UserLookupCache;
 import com.studentregistry.entity.Role;
 import com.studentregistry.repository.RoleRepository;
 import com.studentregistry.service.RoleService;
@@ -14,9 +17,14 @@ import java.util.Optional;
 public class RoleServiceImpl implements RoleService {
 
     private final RoleRepository roleRepository;
+    private final UserLookupCache userLookupCache;
+    private final CacheInvalidationBus invalidationBus;
 
-    public RoleServiceImpl(RoleRepository roleRepository) {
+    public RoleServiceImpl(RoleRepository roleRepository, UserLookupCache userLookupCache,
+            CacheInvalidationBus invalidationBus) {
         this.roleRepository = roleRepository;
+        this.userLookupCache = userLookupCache;
+        this.invalidationBus = invalidationBus;
     }
 
     public List<Role> getAllRoles() {
@@ -48,11 +56,17 @@ public class RoleServiceImpl implements RoleService {
         }
         
         role.setName(roleDetails.getName());
-        return roleRepository.save(role);
+        Role saved = roleRepository.save(role);
+        // Cached users carry their role name
+        userLookupCache.invalidateAll();
+        invalidationBus.publish(EntityType.ROLE, id);
+        return saved;
     }
 
     public void deleteRole(Long id) {
         roleRepository.deleteById(id);
+        userLookupCache.invalidateAll();
+        invalidationBus.publish(EntityType.ROLE, id);
     }
 
     public boolean existsByName(String name) {
@@ -0,0 +1,54 @@
+package com.studentregistry.service.impl;
+
+import com.studentregistry.dto.SearchResult;
+import com.studentregistry.repository.SearchRepository;
+import com.studentregistry.service.SearchService;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+
+@Service
+public class SearchServiceImpl implements SearchService {
+
+    // Trigrams need at least two characters to say anything useful
+    private static final int MIN_QUERY_LENGTH = 2;
+
+    private final SearchRepository searchRepository;
+    private final int maxLimit;
+
+    public SearchServiceImpl(SearchRepository searchRepository,
+            @Value("${search.max-limit:100}") int maxLimit) {
+        this.searchRepository = searchRepository;
+        this.maxLimit = maxLimit;
+    }
+
+    @Override
+    public List<SearchResult> search(String query, Set<SearchResult.Type> types, int limit) {
+        String q = query != null ? query.trim() : "";
+        if (q.length() < MIN_QUERY_LENGTH || limit < 1) {
+            return List.of();
+        }
+        int cappedLimit = Math.min(limit, maxLimit);
+
+        // Each type contributes at most `limit` hits; the merged list is re-ranked and cut
+        List<SearchResult> results = new ArrayList<>();
+        if (types.contains(SearchResult.Type.STUDENT)) {
+            results.addAll(searchRepository.searchStudents(q, cappedLimit));
+        }
+        if (types.contains(SearchResult.Type.TEACHER)) {
+            results.addAll(searchRepository.searchTeachers(q, cappedLimit));
+        }
+        if (types.contains(SearchResult.Type.COURSE)) {
+            results.addAll(searchRepository.searchCourses(q, cappedLimit));
+        }
+        results.sort(Comparator.comparingDouble(SearchResult::score).reversed()
+                .thenComparing(SearchResult::type)
+                .thenComparingLong(SearchResult::id));
+        return results.size() > cappedLimit ? results.subList(0, cappedLimit) : results;
+    }
+}
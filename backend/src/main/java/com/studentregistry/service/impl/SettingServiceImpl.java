@@ -1,5 +1,8 @@
 package com.studentregistry.service.impl;
 
+import com.studentregistry.cache.CacheInvalidationBus;
+import com.studentregistry.cache.InvalidationEvent;
+import com.studentregistry.cache.SettingsCache;
 import com.studentregistry.entity.Setting;
 import com.studentregistry.repository.SettingRepository;
 import com.studentregistry.service.LogService;
@@ -17,28 +20,37 @@ public class SettingServiceImpl implements SettingService {
 
     private final SettingRepository settingRepository;
     private final LogService logService;
+    private final SettingsCache settingsCache;
+    private final CacheInvalidationBus invalidationBus;
     private final ObjectMapper objectMapper;
 
-    public SettingServiceImpl(SettingRepository settingRepository, LogService logService) {
+    public SettingServiceImpl(SettingRepository settingRepository, LogService logService,
+            SettingsCache settingsCache, CacheInvalidationBus invalidationBus) {
         this.settingRepository = settingRepository;
         this.logService = logService;
+        this.settingsCache = settingsCache;
+        this.invalidationBus = invalidationBus;
         this.objectMapper = new ObjectMapper();
     }
 
+    // Reads are served from SettingsCache; writes go to the database, reload it and tell other nodes
+
     public List<Setting> getAllSettings() {
-        return settingRepository.findAll();
+        return settingsCache.getAll();
     }
 
     public Optional<Setting> getSettingById(Long id) {
-        return settingRepository.findById(id);
+        return settingsCache.getById(id);
     }
 
     public Optional<Setting> getSettingByKey(String key) {
-        return settingRepository.findByKey(key);
+        return settingsCache.getByKey(key);
     }
 
     public Setting saveSetting(Setting setting) {
-        return settingRepository.save(setting);
+        Setting saved = settingRepository.save(setting);
+        settingsChanged();
+        return saved;
     }
 
     public Setting updateSetting(Long id, Setting settingDetails) {
@@ -48,7 +60,9 @@ public class SettingServiceImpl implements SettingService {
         setting.setKey(settingDetails.getKey());
         setting.setValue(settingDetails.getValue());
         
-        return settingRepository.save(setting);
+        Setting saved = settingRepository.save(setting);
+        settingsChanged();
+        return saved;
     }
 
     public Setting updateSettingByKey(String key, String value, String username) {
@@ -64,6 +78,7 @@ public class SettingServiceImpl implements SettingService {
             Setting newSetting = new Setting(key, value);
             saved = settingRepository.save(newSetting);
         }
+        settingsChanged();
         
         // Log semester updates specifically
         if ("current_semester".equals(key)) {
@@ -84,20 +99,26 @@ public class SettingServiceImpl implements SettingService {
 
     public void deleteSetting(Long id) {
         settingRepository.deleteById(id);
+        settingsChanged();
     }
 
     public void deleteSettingByKey(String key) {
         settingRepository.deleteByKey(key);
+        settingsChanged();
     }
 
     public boolean existsByKey(String key) {
-        return settingRepository.existsByKey(key);
+        return settingsCache.containsKey(key);
     }
 
     // Utility method to get setting value with default
     public String getSettingValue(String key, String defaultValue) {
-        return settingRepository.findByKey(key)
-                .map(Setting::getValue)
-                .orElse(defaultValue);
+        return settingsCache.getValue(key).orElse(defaultValue);
+    }
+
+    // Other nodes reload the whole table anyway, so one event covers any setting
+    private void settingsChanged() {
+        settingsCache.reload();
+        invalidationBus.publish(InvalidationEvent.all(InvalidationEvent.EntityType.SETTING));
     }
-}
\ No newline at end of file
+}
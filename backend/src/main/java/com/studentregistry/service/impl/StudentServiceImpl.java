@@ -1,16 +1,24 @@
 package com.studentregistry.service.impl;
 
+import com.studentregistry.cache.CacheInvalidationBus;
+import com.studentregistry.cache.InvalidationEvent.EntityType;
+import com.studentregistry.cache.TypeaheadIndex;
+import com.studentregistry.dto.Suggestion;
 import com.studentregistry.entity.Student;
+import com.studentregistry.repository.RowEstimateRepository;
 import com.studentregistry.repository.StudentRepository;
 import com.studentregistry.service.LogService;
 import com.studentregistry.service.StudentService;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -19,12 +27,19 @@ import java.util.Optional;
 public class StudentServiceImpl implements StudentService {
 
     private final StudentRepository studentRepository;
+    private final RowEstimateRepository rowEstimateRepository;
     private final LogService logService;
+    private final TypeaheadIndex typeaheadIndex;
+    private final CacheInvalidationBus invalidationBus;
     private final ObjectMapper objectMapper;
 
-    public StudentServiceImpl(StudentRepository studentRepository, LogService logService) {
+    public StudentServiceImpl(StudentRepository studentRepository, RowEstimateRepository rowEstimateRepository,
+            LogService logService, TypeaheadIndex typeaheadIndex, CacheInvalidationBus invalidationBus) {
         this.studentRepository = studentRepository;
+        this.rowEstimateRepository = rowEstimateRepository;
         this.logService = logService;
+        this.typeaheadIndex = typeaheadIndex;
+        this.invalidationBus = invalidationBus;
         this.objectMapper = new ObjectMapper();
     }
 
@@ -38,6 +53,8 @@ public class StudentServiceImpl implements StudentService {
 
     public Student saveStudent(Student student, String username) {
         Student saved = studentRepository.save(student);
+        typeaheadIndex.putStudent(saved);
+        invalidationBus.publish(EntityType.STUDENT, saved.getId());
         try {
             String details = objectMapper.writeValueAsString(Map.of(
                 "studentId", saved.getId(),
@@ -72,6 +89,8 @@ public class StudentServiceImpl implements StudentService {
         student.setStatus(studentDetails.getStatus());
         
         Student updated = studentRepository.save(student);
+        typeaheadIndex.putStudent(updated);
+        invalidationBus.publish(EntityType.STUDENT, updated.getId());
         try {
             String details = objectMapper.writeValueAsString(Map.of(
                 "studentId", updated.getId(),
@@ -102,6 +121,8 @@ public class StudentServiceImpl implements StudentService {
             }
         }
         studentRepository.deleteById(id);
+        typeaheadIndex.remove(Suggestion.Type.STUDENT, id);
+        invalidationBus.publish(EntityType.STUDENT, id);
     }
 
     public List<Student> getStudentsByStatus(Student.Status status) {
@@ -128,4 +149,41 @@ public class StudentServiceImpl implements StudentService {
                                            Student.Status status, Pageable pageable) {
         return studentRepository.findFilteredStudents(name, department, enrollmentYear, status, pageable);
     }
+
+    public Slice<Student> getFilteredStudentsSlice(String name, String department, Integer enrollmentYear,
+                                                 Student.Status status, Pageable pageable) {
+        return studentRepository.findFilteredStudentsSlice(name, department, enrollmentYear, status, pageable);
+    }
+
+    // Mirrors the findFilteredStudents filters in SQL for the planner estimate
+    public Optional<Long> estimateFilteredStudents(String name, String department, Integer enrollmentYear,
+                                                 Student.Status status) {
+        List<String> predicates = new ArrayList<>();
+        List<Object> params = new ArrayList<>();
+        if (name != null) {
+            predicates.add("(first_name LIKE ? OR last_name LIKE ?)");
+            params.add("%" + name + "%");
+            params.add("%" + name + "%");
+        }
+        if (department != null) {
+            predicates.add("department = ?");
+            params.add(department);
+        }
+        if (enrollmentYear != null) {
+            predicates.add("enrollment_year = ?");
+            params.add(enrollmentYear);
+        }
+        if (status != null) {
+            predicates.add("status = ?");
+            params.add(status.name());
+        }
+        return rowEstimateRepository.estimateCount("students", predicates, params);
+    }
+
+    // Fetches one extra row so the caller can tell whether there is a next page
+    public List<Student> getFilteredStudentsAfter(String name, String department, Integer enrollmentYear,
+                                                Student.Status status, Long afterId, int limit) {
+        return studentRepository.findFilteredStudentsAfter(name, department, enrollmentYear, status,
+                afterId, Limit.of(limit + 1));
+    }
 }
\ No newline at end of file
@@ -1,18 +1,25 @@
 package com.studentregistry.service.impl;
 
+import com.studentregistry.cache.CacheInvalidationBus;
+import com.studentregistry.cache.InvalidationEvent.EntityType;
+import com.studentregistry.cache.UserLookupCache;
 import com.studentregistry.entity.Teacher;
 import com.studentregistry.entity.User;
+import com.studentregistry.repository.RowEstimateRepository;
 import com.studentregistry.repository.TeacherRepository;
 import com.studentregistry.repository.UserRepository;
 import com.studentregistry.service.LogService;
 import com.studentregistry.service.TeacherService;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -22,14 +29,21 @@ public class TeacherServiceImpl implements TeacherService {
 
     private final TeacherRepository teacherRepository;
     private final UserRepository userRepository;
+    private final RowEstimateRepository rowEstimateRepository;
     private final LogService logService;
+    private final UserLookupCache userLookupCache;
+    private final CacheInvalidationBus invalidationBus;
     private final ObjectMapper objectMapper;
 
     public TeacherServiceImpl(TeacherRepository teacherRepository, UserRepository userRepository,
-            LogService logService) {
+            RowEstimateRepository rowEstimateRepository, LogService logService, UserLookupCache userLookupCache,
+            CacheInvalidationBus invalidationBus) {
         this.teacherRepository = teacherRepository;
         this.userRepository = userRepository;
+        this.rowEstimateRepository = rowEstimateRepository;
         this.logService = logService;
+        this.userLookupCache = userLookupCache;
+        this.invalidationBus = invalidationBus;
         this.objectMapper = new ObjectMapper();
     }
 
@@ -73,6 +87,7 @@ public class TeacherServiceImpl implements TeacherService {
         }
 
         Teacher updated = teacherRepository.save(teacher);
+        invalidationBus.publish(EntityType.TEACHER, id);
         try {
             String details = objectMapper.writeValueAsString(Map.of(
                     "teacherId", updated.getId(),
@@ -100,6 +115,7 @@ public class TeacherServiceImpl implements TeacherService {
             }
         }
         teacherRepository.deleteById(id);
+        invalidationBus.publish(EntityType.TEACHER, id);
     }
 
     public List<Teacher> getTeachersByDepartment(String department) {
@@ -135,6 +151,9 @@ public class TeacherServiceImpl implements TeacherService {
 
         teacher.setUser(user);
         teacherRepository.save(teacher);
+        invalidationBus.publish(EntityType.TEACHER, teacherId);
+        userLookupCache.invalidate(user.getUsername());
+        invalidationBus.publish(EntityType.USER, user.getUsername());
         try {
             String details = objectMapper.writeValueAsString(Map.of(
                     "teacherId", teacherId,
@@ -152,8 +171,14 @@ public class TeacherServiceImpl implements TeacherService {
                 .orElseThrow(() -> new RuntimeException("Teacher not found"));
 
         Long userId = teacher.getUser() != null ? teacher.getUser().getId() : null;
+        String revokedUsername = teacher.getUser() != null ? teacher.getUser().getUsername() : null;
         teacher.setUser(null);
         teacherRepository.save(teacher);
+        invalidationBus.publish(EntityType.TEACHER, teacherId);
+        userLookupCache.invalidate(revokedUsername);
+        if (revokedUsername != null) {
+            invalidationBus.publish(EntityType.USER, revokedUsername);
+        }
         try {
             String details = objectMapper.writeValueAsString(Map.of(
                     "teacherId", teacherId,
@@ -168,4 +193,29 @@ public class TeacherServiceImpl implements TeacherService {
     public Page<Teacher> getFilteredTeachers(String name, String department, Pageable pageable) {
         return teacherRepository.findFilteredTeachers(name, department, pageable);
     }
+
+    public Slice<Teacher> getFilteredTeachersSlice(String name, String department, Pageable pageable) {
+        return teacherRepository.findFilteredTeachersSlice(name, department, pageable);
+    }
+
+    // Mirrors the findFilteredTeachers filters in SQL for the planner estimate
+    public Optional<Long> estimateFilteredTeachers(String name, String department) {
+        List<String> predicates = new ArrayList<>();
+        List<Object> params = new ArrayList<>();
+        if (name != null) {
+            predicates.add("(first_name LIKE ? OR last_name LIKE ?)");
+            params.add("%" + name + "%");
+            params.add("%" + name + "%");
+        }
+        if (department != null) {
+            predicates.add("department = ?");
+            params.add(department);
+        }
+        return rowEstimateRepository.estimateCount("teachers", predicates, params);
+    }
+
+    // Fetches one extra row so the caller can tell whether there is a next page
+    public List<Teacher> getFilteredTeachersAfter(String name, String department, Long afterId, int limit) {
+        return teacherRepository.findFilteredTeachersAfter(name, department, afterId, Limit.of(limit + 1));
+    }
 }
\ No newline at end of file
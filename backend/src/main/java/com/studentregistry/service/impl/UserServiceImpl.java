@@ -1,5 +1,10 @@
 package com.studentregistry.service.impl;
 
+import com.studentregistry.cache.CacheInvalidationBus;
+import com.studentregistry.cache.InvalidationEvent;
+import com.studentregistry.cache.InvalidationEvent.EntityType;
+import com.studentregistry.cache.SecondLevelCacheEvictor;
+import com.studentregistry.cache.UserLookupCache;
 import com.studentregistry.entity.User;
 import com.studentregistry.repository.UserRepository;
 import com.studentregistry.service.LogService;
@@ -22,12 +27,20 @@ public class UserServiceImpl implements UserService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final LogService logService;
+    private final UserLookupCache userLookupCache;
+    private final CacheInvalidationBus invalidationBus;
+    private final SecondLevelCacheEvictor secondLevelCacheEvictor;
     private final ObjectMapper objectMapper;
 
-    public UserServiceImpl(UserRepository userRepository, PasswordEncoder passwordEncoder, LogService logService) {
+    public UserServiceImpl(UserRepository userRepository, PasswordEncoder passwordEncoder, LogService logService,
+            UserLookupCache userLookupCache, CacheInvalidationBus invalidationBus,
+            SecondLevelCacheEvictor secondLevelCacheEvictor) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
         this.logService = logService;
+        this.userLookupCache = userLookupCache;
+        this.invalidationBus = invalidationBus;
+        this.secondLevelCacheEvictor = secondLevelCacheEvictor;
         this.objectMapper = new ObjectMapper();
     }
 
@@ -85,6 +98,12 @@ public class UserServiceImpl implements UserService {
         }
         
         User updated = userRepository.save(user);
+        userLookupCache.invalidate(oldUsername);
+        userLookupCache.invalidate(updated.getUsername());
+        invalidationBus.publish(EntityType.USER, oldUsername);
+        if (!updated.getUsername().equals(oldUsername)) {
+            invalidationBus.publish(EntityType.USER, updated.getUsername());
+        }
         try {
             String details = objectMapper.writeValueAsString(Map.of(
                 "userId", updated.getId(),
@@ -116,6 +135,14 @@ public class UserServiceImpl implements UserService {
             }
         }
         userRepository.deleteById(id);
+        userOpt.ifPresent(user -> {
+            userLookupCache.invalidate(user.getUsername());
+            invalidationBus.publish(EntityType.USER, user.getUsername());
+            // ON DELETE SET NULL clears teachers.user_id without Hibernate seeing it
+            InvalidationEvent teachers = InvalidationEvent.all(EntityType.TEACHER);
+            secondLevelCacheEvictor.evict(teachers);
+            invalidationBus.publish(teachers);
+        });
     }
 
     public List<User> getUsersByStatus(User.Status status) {
@@ -134,6 +161,10 @@ public class UserServiceImpl implements UserService {
         return userRepository.existsByEmail(email);
     }
 
+    public Map<String, Object> getLookupCacheStats() {
+        return userLookupCache.getStats();
+    }
+
     public Page<User> getFilteredUsers(String email, String role, Pageable pageable) {
         return userRepository.findFilteredUsers(email, role, pageable);
     }
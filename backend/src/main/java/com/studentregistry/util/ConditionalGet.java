@@ -0,0 +1,34 @@
+package com.studentregistry.util;
+
+import com.studentregistry.dto.ResourceVersion;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import jakarta.servlet.http.HttpServletResponse;
+
+// ETag / Last-Modified handling for GET endpoints. Call it before loading anything:
+//
+//     if (ConditionalGet.notModified(request, version)) {
+//         return null; // 304 without a body
+//     }
+//
+// On a miss the validators are already on the response and the handler carries on as usual.
+public final class ConditionalGet {
+
+    // Clients may keep a copy but must revalidate it on every use. Set here so Spring
+    // Security's default "no-store" doesn't stop browsers from storing it at all.
+    private static final String CACHE_CONTROL = CacheControl.noCache().cachePrivate().getHeaderValue();
+
+    private ConditionalGet() {
+    }
+
+    public static boolean notModified(ServletWebRequest request, ResourceVersion version) {
+        HttpServletResponse response = request.getResponse();
+        if (response != null) {
+            response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+        }
+        return request.checkNotModified(version.etag(), version.lastModified().toEpochMilli());
+    }
+}
@@ -1,6 +1,7 @@
 package com.studentregistry.util;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
@@ -8,10 +9,12 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
+import jakarta.annotation.PostConstruct;
 import java.security.Key;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
 @Component
@@ -23,21 +26,41 @@ public class JwtUtil {
     @Value("${jwt.expiration:86400}")
     private Long expiration;
 
+    @Value("${jwt.claims-cache.max-size:10000}")
+    private int claimsCacheMaxSize;
+
+    // Built once; both are immutable and thread-safe
+    private Key signingKey;
+    private JwtParser parser;
+
+    // Fields of verified tokens, kept until the token's exp claim. Only immutable values are cached,
+    // never the Claims map, which is mutable and would be shared by every request with the token.
+    private final Map<String, CachedClaims> claimsCache = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void init() {
+        signingKey = Keys.hmacShaKeyFor(secret.getBytes());
+        parser = Jwts.parserBuilder()
+                .setSigningKey(signingKey)
+                .build();
+    }
+
     private Key getSigningKey() {
-        return Keys.hmacShaKeyFor(secret.getBytes());
+        return signingKey;
     }
 
     public String extractUsername(String token) {
-        return extractClaim(token, Claims::getSubject);
+        return verifiedClaims(token).subject();
     }
 
     public Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
+        Long expiresAt = verifiedClaims(token).expiresAt();
+        return expiresAt != null ? new Date(expiresAt) : null;
     }
 
     public String extractRole(String token) {
         try {
-            String role = extractClaim(token, claims -> claims.get("role", String.class));
+            String role = verifiedClaims(token).role();
             // Ensure role is uppercase to match Spring Security expectations
             return role != null ? role.toUpperCase() : null;
         } catch (Exception e) {
@@ -45,17 +68,52 @@ public class JwtUtil {
         }
     }
 
+    // Parses the token on every call; the resolver gets its own Claims instance
     public <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
         final Claims claims = extractAllClaims(token);
         return claimsResolver.apply(claims);
     }
 
     private Claims extractAllClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        return parser.parseClaimsJws(token).getBody();
+    }
+
+    // Verifies the signature once per token; later calls are served from the cache
+    // until the token expires, after which it is parsed (and rejected) again.
+    private CachedClaims verifiedClaims(String token) {
+        long now = System.currentTimeMillis();
+        CachedClaims cached = claimsCache.get(token);
+        if (cached != null) {
+            if (cached.expiresAt() > now) {
+                return cached;
+            }
+            claimsCache.remove(token);
+        }
+
+        Claims claims = extractAllClaims(token);
+        Object role = claims.get("role");
+        Date expiration = claims.getExpiration();
+        CachedClaims verified = new CachedClaims(claims.getSubject(), role instanceof String r ? r : null,
+                expiration != null ? expiration.getTime() : null);
+        if (expiration != null) {
+            if (claimsCache.size() >= claimsCacheMaxSize) {
+                evictClaims(now);
+            }
+            claimsCache.put(token, verified);
+        }
+        return verified;
+    }
+
+    public int getClaimsCacheSize() {
+        return claimsCache.size();
+    }
+
+    private void evictClaims(long now) {
+        claimsCache.values().removeIf(entry -> entry.expiresAt() <= now);
+        if (claimsCache.size() >= claimsCacheMaxSize) {
+            // Still full of live tokens; start over rather than track recency on the hot path
+            claimsCache.clear();
+        }
     }
 
     private Boolean isTokenExpired(String token) {
@@ -82,4 +140,8 @@ public class JwtUtil {
         final String username = extractUsername(token);
         return (username.equals(userDetails.getUsername()) && !isTokenExpired(token));
     }
+
+    // expiresAt is null for tokens without an exp claim, which are never cached
+    private record CachedClaims(String subject, String role, Long expiresAt) {
+    }
 }
\ No newline at end of file
@@ -0,0 +1,34 @@
+package com.studentregistry.util;
+
+import com.studentregistry.dto.ExportFormat;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+// Response for the /export endpoints:
+//
+//     return StreamingExport.response(exportFormat, "students", out -> exportService.exportStudents(exportFormat, out));
+//
+// The body runs on the MVC async executor after the handler returns, so the export service opens
+// its read-only transaction there rather than in the controller. The request is marked so
+// WebAsyncConfig gives it export.request-timeout instead of the default async timeout.
+public final class StreamingExport {
+
+    public static final String EXPORT_ATTRIBUTE = StreamingExport.class.getName() + ".EXPORT";
+
+    private StreamingExport() {
+    }
+
+    public static ResponseEntity<StreamingResponseBody> response(ExportFormat format, String baseName,
+                                                                 StreamingResponseBody body) {
+        RequestContextHolder.currentRequestAttributes()
+                .setAttribute(EXPORT_ATTRIBUTE, Boolean.TRUE, RequestAttributes.SCOPE_REQUEST);
+        return ResponseEntity.ok()
+                .contentType(format.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, format.contentDisposition(baseName))
+                .body(body);
+    }
+}
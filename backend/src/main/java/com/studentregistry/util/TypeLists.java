@@ -0,0 +1,39 @@
+package com.studentregistry.util;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+// Parses the "types" request parameter shared by /api/search and /api/suggest
+public final class TypeLists {
+
+    private TypeLists() {
+    }
+
+    // Comma-separated, case-insensitive; null or blank means every type
+    public static <E extends Enum<E>> Set<E> parseTypeList(String value, Class<E> type) {
+        if (value == null || value.isBlank()) {
+            return EnumSet.allOf(type);
+        }
+        Set<E> types = EnumSet.noneOf(type);
+        for (String part : value.split(",")) {
+            if (part.isBlank()) {
+                continue;
+            }
+            try {
+                types.add(Enum.valueOf(type, part.trim().toUpperCase(Locale.ROOT)));
+            } catch (IllegalArgumentException e) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                        "types must be a comma-separated list of: " + Arrays.stream(type.getEnumConstants())
+                                .map(constant -> constant.name().toLowerCase(Locale.ROOT))
+                                .collect(Collectors.joining(", ")));
+            }
+        }
+        return types.isEmpty() ? EnumSet.allOf(type) : types;
+    }
+}
@@ -0,0 +1,118 @@
+-- Baseline schema, matching what spring.jpa.hibernate.ddl-auto=update produced for the entity
+-- model. Existing databases are baselined at version 1 (spring.flyway.baseline-on-migrate), so
+-- this script only runs against an empty schema.
+
+CREATE SEQUENCE role_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE user_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE teacher_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE student_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE course_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE enrollment_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE log_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE setting_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE roles (
+    id BIGINT PRIMARY KEY,
+    name VARCHAR(50) NOT NULL,
+    CONSTRAINT uq_roles_name UNIQUE (name)
+);
+
+CREATE TABLE users (
+    id BIGINT PRIMARY KEY,
+    username VARCHAR(100) NOT NULL,
+    email VARCHAR(150) NOT NULL,
+    password_hash TEXT NOT NULL,
+    role_id BIGINT NOT NULL,
+    status VARCHAR(255) NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL,
+    updated_at TIMESTAMP(6) NOT NULL,
+    CONSTRAINT uq_users_username UNIQUE (username),
+    CONSTRAINT uq_users_email UNIQUE (email),
+    CONSTRAINT fk_users_role FOREIGN KEY (role_id) REFERENCES roles (id) ON DELETE RESTRICT
+);
+
+CREATE TABLE teachers (
+    id BIGINT PRIMARY KEY,
+    first_name VARCHAR(100),
+    last_name VARCHAR(100),
+    department VARCHAR(150),
+    email VARCHAR(150),
+    phone VARCHAR(50),
+    user_id BIGINT,
+    created_at TIMESTAMP(6) NOT NULL,
+    updated_at TIMESTAMP(6) NOT NULL,
+    CONSTRAINT uq_teachers_user UNIQUE (user_id),
+    CONSTRAINT fk_teachers_user FOREIGN KEY (user_id) REFERENCES users (id) ON DELETE SET NULL
+);
+
+CREATE TABLE students (
+    id BIGINT PRIMARY KEY,
+    first_name VARCHAR(100) NOT NULL,
+    last_name VARCHAR(100) NOT NULL,
+    date_of_birth DATE,
+    gender VARCHAR(20),
+    phone VARCHAR(50),
+    email VARCHAR(150),
+    address TEXT,
+    department VARCHAR(150),
+    program VARCHAR(100),
+    enrollment_year INTEGER NOT NULL,
+    status VARCHAR(255) NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL,
+    updated_at TIMESTAMP(6),
+    CONSTRAINT uq_students_email UNIQUE (email)
+);
+
+CREATE TABLE courses (
+    id BIGINT PRIMARY KEY,
+    course_code VARCHAR(50) NOT NULL,
+    section VARCHAR(10) NOT NULL,
+    course_name VARCHAR(200) NOT NULL,
+    description TEXT,
+    credit INTEGER,
+    department VARCHAR(150),
+    semester VARCHAR(50) NOT NULL,
+    teacher_id BIGINT,
+    status VARCHAR(20) NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL,
+    updated_at TIMESTAMP(6) NOT NULL,
+    CONSTRAINT uq_course_offering UNIQUE (course_code, semester, section),
+    CONSTRAINT fk_courses_teacher FOREIGN KEY (teacher_id) REFERENCES teachers (id) ON DELETE RESTRICT
+);
+
+CREATE TABLE enrollments (
+    id BIGINT PRIMARY KEY,
+    student_id BIGINT NOT NULL,
+    course_id BIGINT NOT NULL,
+    final_grade VARCHAR(10),
+    enrolled_at TIMESTAMP(6) NOT NULL,
+    updated_at TIMESTAMP(6) NOT NULL,
+    CONSTRAINT uq_enrollment UNIQUE (student_id, course_id),
+    CONSTRAINT fk_enrollments_student FOREIGN KEY (student_id) REFERENCES students (id) ON DELETE RESTRICT,
+    CONSTRAINT fk_enrollments_course FOREIGN KEY (course_id) REFERENCES courses (id) ON DELETE RESTRICT
+);
+
+CREATE TABLE absences (
+    student_id BIGINT NOT NULL,
+    course_id BIGINT NOT NULL,
+    date DATE NOT NULL,
+    CONSTRAINT pk_absences PRIMARY KEY (student_id, course_id, date),
+    CONSTRAINT fk_absences_student FOREIGN KEY (student_id) REFERENCES students (id) ON DELETE RESTRICT,
+    CONSTRAINT fk_absences_course FOREIGN KEY (course_id) REFERENCES courses (id) ON DELETE RESTRICT
+);
+
+CREATE TABLE logs (
+    id BIGINT PRIMARY KEY,
+    user_id BIGINT,
+    action VARCHAR(100) NOT NULL,
+    details JSONB,
+    timestamp TIMESTAMP(6) NOT NULL,
+    CONSTRAINT fk_logs_user FOREIGN KEY (user_id) REFERENCES users (id) ON DELETE SET NULL
+);
+
+CREATE TABLE settings (
+    id BIGINT PRIMARY KEY,
+    key VARCHAR(100) NOT NULL,
+    value TEXT,
+    CONSTRAINT uq_settings_key UNIQUE (key)
+);
@@ -0,0 +1,42 @@
+-- Moves every entity id sequence to INCREMENT BY 50 (IdAllocation.SIZE) for Hibernate's pooled
+-- optimizer. Databases that predate Flyway were created by ddl-auto=update with student_seq on
+-- INCREMENT BY 1; on a schema built from V1 this is a no-op.
+--
+-- For each sequence that is missing or still on another increment, it is (re)positioned at
+-- max(id) of its table: the next nextval() returns max(id) + 50, and the pooled optimizer hands
+-- out max(id) + 1 .. max(id) + 50, so no existing id can be reissued. The increment check keeps
+-- it from ever moving a live sequence backwards.
+DO $$
+DECLARE
+    target CONSTANT integer := 50;
+    entry record;
+    max_id bigint;
+    last_id bigint;
+BEGIN
+    FOR entry IN
+        SELECT * FROM (VALUES
+            ('student_seq', 'students'),
+            ('course_seq', 'courses'),
+            ('enrollment_seq', 'enrollments'),
+            ('log_seq', 'logs'),
+            ('user_seq', 'users'),
+            ('teacher_seq', 'teachers'),
+            ('role_seq', 'roles'),
+            ('setting_seq', 'settings')
+        ) AS t(seq_name, table_name)
+    LOOP
+        CONTINUE WHEN to_regclass(entry.table_name) IS NULL;
+        CONTINUE WHEN EXISTS (SELECT 1 FROM pg_sequences
+                              WHERE schemaname = current_schema()
+                                AND sequencename = entry.seq_name
+                                AND increment_by = target);
+
+        EXECUTE format('CREATE SEQUENCE IF NOT EXISTS %I INCREMENT BY %s', entry.seq_name, target);
+        EXECUTE format('ALTER SEQUENCE %I INCREMENT BY %s', entry.seq_name, target);
+        EXECUTE format('SELECT COALESCE(MAX(id), 0) FROM %I', entry.table_name) INTO max_id;
+        EXECUTE format('SELECT last_value FROM %I', entry.seq_name) INTO last_id;
+        PERFORM setval(entry.seq_name, GREATEST(max_id, last_id, 1));
+        RAISE NOTICE 'Sequence % now increments by % from %', entry.seq_name, target, GREATEST(max_id, last_id, 1);
+    END LOOP;
+END
+$$;
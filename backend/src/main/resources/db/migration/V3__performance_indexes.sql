@@ -0,0 +1,36 @@
+-- Secondary indexes for the filters and orderings used by the repository package. Primary keys
+-- and unique constraints already cover: absences (student_id, course_id, date), enrollments
+-- (student_id, course_id), courses (course_code, semester, section), students.email,
+-- users.username/email, teachers.user_id, roles.name and settings.key.
+-- Every index here must also be listed in SchemaIndexVerifier.EXPECTED_INDEXES.
+
+-- findByCourse_Id, countByCourse_Id, course roll-call and enrolled-student checks
+CREATE INDEX IF NOT EXISTS idx_enrollments_course_student ON enrollments (course_id, student_id);
+
+-- Course filters (courseId [+ date range]) and countByCourse_Id
+CREATE INDEX IF NOT EXISTS idx_absences_course_date ON absences (course_id, date);
+-- findByDate / findByDateRange / dateFrom-dateTo without a student or course
+CREATE INDEX IF NOT EXISTS idx_absences_date ON absences (date);
+
+-- Log date-range filters; (user_id, timestamp) also serves the user filter and ON DELETE SET NULL
+CREATE INDEX IF NOT EXISTS idx_logs_timestamp ON logs (timestamp);
+CREATE INDEX IF NOT EXISTS idx_logs_user_timestamp ON logs (user_id, timestamp);
+-- action filter, newest first (ORDER BY id DESC with the before-id cursor)
+CREATE INDEX IF NOT EXISTS idx_logs_action_id ON logs (action, id);
+
+-- Student list filters: department [+ enrollment year], and findByEnrollmentYear on its own
+CREATE INDEX IF NOT EXISTS idx_students_department_year ON students (department, enrollment_year);
+CREATE INDEX IF NOT EXISTS idx_students_enrollment_year ON students (enrollment_year);
+
+-- findBySemester, findBySemesterAndDepartment and enrollment-by-semester joins
+CREATE INDEX IF NOT EXISTS idx_courses_semester_department ON courses (semester, department);
+CREATE INDEX IF NOT EXISTS idx_courses_department ON courses (department);
+-- teacherId filter, findByTeacher_Id and the teacher foreign key
+CREATE INDEX IF NOT EXISTS idx_courses_teacher ON courses (teacher_id);
+
+-- findByEmail / existsByEmail / CSV import upserts (teacher email is not unique)
+CREATE INDEX IF NOT EXISTS idx_teachers_email ON teachers (email);
+CREATE INDEX IF NOT EXISTS idx_teachers_department ON teachers (department);
+
+-- findByRole_Name, users-by-role filter and the role foreign key
+CREATE INDEX IF NOT EXISTS idx_users_role ON users (role_id);
@@ -0,0 +1,25 @@
+-- Case- and accent-insensitive name search (SearchRepository). search_norm() is the one
+-- normalisation used both in the GIN expression indexes below and in the queries, so the
+-- planner can match them; unaccent() itself is only STABLE, hence the IMMUTABLE wrapper with
+-- an explicit dictionary.
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+CREATE EXTENSION IF NOT EXISTS unaccent;
+
+CREATE OR REPLACE FUNCTION search_norm(value text) RETURNS text
+    LANGUAGE sql IMMUTABLE PARALLEL SAFE STRICT
+    AS $$ SELECT lower(public.unaccent('public.unaccent'::regdictionary, value)) $$;
+
+-- '%value%' with LIKE wildcards in the user's input escaped
+CREATE OR REPLACE FUNCTION search_contains_pattern(value text) RETURNS text
+    LANGUAGE sql IMMUTABLE PARALLEL SAFE STRICT
+    AS $$ SELECT '%' || replace(replace(replace(value, '\', '\\'), '%', '\%'), '_', '\_') || '%' $$;
+
+CREATE INDEX IF NOT EXISTS idx_students_name_trgm
+    ON students USING gin (search_norm(first_name || ' ' || last_name) gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS idx_teachers_name_trgm
+    ON teachers USING gin (search_norm(coalesce(first_name, '') || ' ' || coalesce(last_name, '')) gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS idx_courses_code_name_trgm
+    ON courses USING gin (search_norm(course_code || ' ' || course_name) gin_trgm_ops);
@@ -0,0 +1,37 @@
+-- Per-table change counters behind the list ETags (ResourceVersionService). A statement-level
+-- trigger bumps the row of the written table inside the writing transaction, so readers see
+-- the new version exactly when they can see the new rows. Deletes and ON DELETE SET NULL
+-- cascades count too, which max(updated_at) would miss.
+
+CREATE TABLE IF NOT EXISTS table_versions (
+    table_name VARCHAR(63) PRIMARY KEY,
+    version BIGINT NOT NULL DEFAULT 0,
+    updated_at TIMESTAMPTZ NOT NULL DEFAULT now()
+);
+
+INSERT INTO table_versions (table_name)
+VALUES ('roles'), ('users'), ('teachers'), ('students'), ('courses'), ('enrollments')
+ON CONFLICT (table_name) DO NOTHING;
+
+CREATE OR REPLACE FUNCTION bump_table_version() RETURNS trigger
+    LANGUAGE plpgsql
+    AS $$
+BEGIN
+    UPDATE table_versions
+    SET version = version + 1, updated_at = clock_timestamp()
+    WHERE table_name = TG_TABLE_NAME;
+    RETURN NULL;
+END;
+$$;
+
+DO $$
+DECLARE
+    t text;
+BEGIN
+    FOREACH t IN ARRAY ARRAY['roles', 'users', 'teachers', 'students', 'courses', 'enrollments'] LOOP
+        EXECUTE format('DROP TRIGGER IF EXISTS trg_%1$s_version ON %1$I', t);
+        EXECUTE format('CREATE TRIGGER trg_%1$s_version AFTER INSERT OR UPDATE OR DELETE OR TRUNCATE ON %1$I '
+                       'FOR EACH STATEMENT EXECUTE FUNCTION bump_table_version()', t);
+    END LOOP;
+END;
+$$;
@@ -0,0 +1,94 @@
+-- Absence count and latest absence per (course, student), read by GET /api/courses/{id}/attendance
+-- instead of one COUNT per enrolled student. Kept current by statement-level triggers on absences,
+-- so every writer is covered: single adds and removes, roll call's INSERT ... SELECT, CSV imports
+-- and bulk COPY. Only pairs with at least one absence have a row.
+
+CREATE TABLE IF NOT EXISTS course_attendance_stats (
+    course_id BIGINT NOT NULL,
+    student_id BIGINT NOT NULL,
+    absence_count INTEGER NOT NULL DEFAULT 0,
+    last_absence_date DATE,
+    CONSTRAINT pk_course_attendance_stats PRIMARY KEY (course_id, student_id),
+    CONSTRAINT fk_course_attendance_stats_course FOREIGN KEY (course_id) REFERENCES courses (id) ON DELETE CASCADE,
+    CONSTRAINT fk_course_attendance_stats_student FOREIGN KEY (student_id) REFERENCES students (id) ON DELETE CASCADE
+);
+
+-- Recounts every (course, student) pair in the statement's transition table. The pairs' stats rows
+-- are created and locked first, in key order, so concurrent writers to the same pair queue up; the
+-- recount then runs with a fresh snapshot that includes whatever the writers ahead of us committed.
+-- Recounting (rather than adding deltas) also gets last_absence_date right when the latest date
+-- is the one removed.
+CREATE OR REPLACE FUNCTION refresh_course_attendance_stats() RETURNS trigger
+    LANGUAGE plpgsql
+    AS $$
+BEGIN
+    INSERT INTO course_attendance_stats (course_id, student_id)
+    SELECT DISTINCT course_id, student_id FROM changed_rows
+    ORDER BY course_id, student_id
+    ON CONFLICT (course_id, student_id) DO NOTHING;
+
+    PERFORM 1 FROM course_attendance_stats s
+    WHERE (s.course_id, s.student_id) IN (SELECT course_id, student_id FROM changed_rows)
+    ORDER BY s.course_id, s.student_id
+    FOR UPDATE;
+
+    -- Upsert rather than UPDATE: a writer we waited for may have deleted the row (its count hit 0)
+    INSERT INTO course_attendance_stats (course_id, student_id, absence_count, last_absence_date)
+    SELECT p.course_id, p.student_id, count(a.date), max(a.date)
+    FROM (SELECT DISTINCT course_id, student_id FROM changed_rows) p
+    LEFT JOIN absences a ON a.student_id = p.student_id AND a.course_id = p.course_id
+    GROUP BY p.course_id, p.student_id
+    ORDER BY p.course_id, p.student_id
+    ON CONFLICT (course_id, student_id) DO UPDATE
+    SET absence_count = EXCLUDED.absence_count, last_absence_date = EXCLUDED.last_absence_date;
+
+    DELETE FROM course_attendance_stats s
+    WHERE s.absence_count = 0
+      AND (s.course_id, s.student_id) IN (SELECT course_id, student_id FROM changed_rows);
+
+    RETURN NULL;
+END;
+$$;
+
+CREATE OR REPLACE FUNCTION clear_course_attendance_stats() RETURNS trigger
+    LANGUAGE plpgsql
+    AS $$
+BEGIN
+    DELETE FROM course_attendance_stats;
+    RETURN NULL;
+END;
+$$;
+
+-- A trigger with a transition table can only fire on one event, hence one trigger per event
+-- (two for UPDATE: the old pair loses the absence, the new pair gains it)
+DROP TRIGGER IF EXISTS trg_absences_stats_insert ON absences;
+CREATE TRIGGER trg_absences_stats_insert AFTER INSERT ON absences
+    REFERENCING NEW TABLE AS changed_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION refresh_course_attendance_stats();
+
+DROP TRIGGER IF EXISTS trg_absences_stats_delete ON absences;
+CREATE TRIGGER trg_absences_stats_delete AFTER DELETE ON absences
+    REFERENCING OLD TABLE AS changed_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION refresh_course_attendance_stats();
+
+DROP TRIGGER IF EXISTS trg_absences_stats_update_old ON absences;
+CREATE TRIGGER trg_absences_stats_update_old AFTER UPDATE ON absences
+    REFERENCING OLD TABLE AS changed_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION refresh_course_attendance_stats();
+
+DROP TRIGGER IF EXISTS trg_absences_stats_update_new ON absences;
+CREATE TRIGGER trg_absences_stats_update_new AFTER UPDATE ON absences
+    REFERENCING NEW TABLE AS changed_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION refresh_course_attendance_stats();
+
+DROP TRIGGER IF EXISTS trg_absences_stats_truncate ON absences;
+CREATE TRIGGER trg_absences_stats_truncate AFTER TRUNCATE ON absences
+    FOR EACH STATEMENT EXECUTE FUNCTION clear_course_attendance_stats();
+
+-- Backfill
+INSERT INTO course_attendance_stats (course_id, student_id, absence_count, last_absence_date)
+SELECT course_id, student_id, count(*), max(date)
+FROM absences
+GROUP BY course_id, student_id
+ON CONFLICT (course_id, student_id) DO UPDATE
+SET absence_count = EXCLUDED.absence_count, last_absence_date = EXCLUDED.last_absence_date;
@@ -0,0 +1,114 @@
+-- V1 gives constraints explicit names (pk_absences, uq_students_email, fk_absences_student, ...),
+-- ON DELETE actions and no enum CHECKs. Databases that were created by ddl-auto=update and
+-- baselined at V1 have Hibernate's generated names (UK..., FK..., absences_pkey), no ON DELETE
+-- actions and Hibernate's status CHECKs. (V1's header says it matches ddl-auto=update; it does not,
+-- and it cannot be edited without changing its Flyway checksum.)
+--
+-- This brings both kinds of database to the same constraints, matched by definition rather than
+-- name, so later migrations can refer to the V1 names. On a database created from V1 only the
+-- CHECKs are new; everything else is already in place and skipped.
+
+-- Rename the PRIMARY KEY/UNIQUE constraint over exactly these columns to the canonical name.
+-- One over the same columns in a different order is replaced (column order decides which
+-- queries the index serves); a missing one is created.
+CREATE FUNCTION pg_temp.align_key(tbl text, kind "char", cols text[], canonical text) RETURNS void
+    LANGUAGE plpgsql
+    AS $$
+DECLARE
+    existing record;
+BEGIN
+    IF EXISTS (SELECT 1 FROM pg_constraint WHERE conrelid = tbl::regclass AND conname = canonical) THEN
+        RETURN;
+    END IF;
+    FOR existing IN
+        SELECT con.conname,
+               (SELECT array_agg(a.attname::text ORDER BY k.ord)
+                FROM unnest(con.conkey) WITH ORDINALITY AS k(attnum, ord)
+                JOIN pg_attribute a ON a.attrelid = con.conrelid AND a.attnum = k.attnum) AS columns
+        FROM pg_constraint con
+        WHERE con.conrelid = tbl::regclass AND con.contype = kind
+    LOOP
+        IF existing.columns = cols THEN
+            EXECUTE format('ALTER TABLE %I RENAME CONSTRAINT %I TO %I', tbl, existing.conname, canonical);
+            RETURN;
+        ELSIF existing.columns @> cols AND existing.columns <@ cols THEN
+            EXECUTE format('ALTER TABLE %I DROP CONSTRAINT %I', tbl, existing.conname);
+        END IF;
+    END LOOP;
+    EXECUTE format('ALTER TABLE %I ADD CONSTRAINT %I %s (%s)', tbl, canonical,
+                   CASE kind WHEN 'p' THEN 'PRIMARY KEY' ELSE 'UNIQUE' END,
+                   (SELECT string_agg(quote_ident(c), ', ') FROM unnest(cols) AS c));
+END;
+$$;
+
+-- Replace any foreign key from tbl(col) to ref with the canonical one, which carries the
+-- ON DELETE action Hibernate never generated
+CREATE FUNCTION pg_temp.align_fk(tbl text, col text, ref text, on_delete text, canonical text) RETURNS void
+    LANGUAGE plpgsql
+    AS $$
+DECLARE
+    existing record;
+BEGIN
+    IF EXISTS (SELECT 1 FROM pg_constraint WHERE conrelid = tbl::regclass AND conname = canonical) THEN
+        RETURN;
+    END IF;
+    FOR existing IN
+        SELECT con.conname
+        FROM pg_constraint con
+        JOIN pg_attribute a ON a.attrelid = con.conrelid AND a.attname = col
+        WHERE con.conrelid = tbl::regclass AND con.contype = 'f'
+          AND con.confrelid = ref::regclass AND con.conkey = ARRAY[a.attnum]
+    LOOP
+        EXECUTE format('ALTER TABLE %I DROP CONSTRAINT %I', tbl, existing.conname);
+    END LOOP;
+    EXECUTE format('ALTER TABLE %I ADD CONSTRAINT %I FOREIGN KEY (%I) REFERENCES %I (id) ON DELETE %s',
+                   tbl, canonical, col, ref, on_delete);
+END;
+$$;
+
+-- Replace any CHECK on tbl(col) alone with the canonical list of enum names (@Enumerated STRING)
+CREATE FUNCTION pg_temp.align_enum_check(tbl text, col text, vals text[], canonical text) RETURNS void
+    LANGUAGE plpgsql
+    AS $$
+DECLARE
+    existing record;
+BEGIN
+    IF EXISTS (SELECT 1 FROM pg_constraint WHERE conrelid = tbl::regclass AND conname = canonical) THEN
+        RETURN;
+    END IF;
+    FOR existing IN
+        SELECT con.conname
+        FROM pg_constraint con
+        JOIN pg_attribute a ON a.attrelid = con.conrelid AND a.attname = col
+        WHERE con.conrelid = tbl::regclass AND con.contype = 'c' AND con.conkey = ARRAY[a.attnum]
+    LOOP
+        EXECUTE format('ALTER TABLE %I DROP CONSTRAINT %I', tbl, existing.conname);
+    END LOOP;
+    EXECUTE format('ALTER TABLE %I ADD CONSTRAINT %I CHECK (%I IN (%s))', tbl, canonical, col,
+                   (SELECT string_agg(quote_literal(v), ', ') FROM unnest(vals) AS v));
+END;
+$$;
+
+SELECT pg_temp.align_key('absences', 'p', ARRAY['student_id', 'course_id', 'date'], 'pk_absences');
+SELECT pg_temp.align_key('roles', 'u', ARRAY['name'], 'uq_roles_name');
+SELECT pg_temp.align_key('users', 'u', ARRAY['username'], 'uq_users_username');
+SELECT pg_temp.align_key('users', 'u', ARRAY['email'], 'uq_users_email');
+SELECT pg_temp.align_key('teachers', 'u', ARRAY['user_id'], 'uq_teachers_user');
+SELECT pg_temp.align_key('students', 'u', ARRAY['email'], 'uq_students_email');
+SELECT pg_temp.align_key('courses', 'u', ARRAY['course_code', 'semester', 'section'], 'uq_course_offering');
+SELECT pg_temp.align_key('enrollments', 'u', ARRAY['student_id', 'course_id'], 'uq_enrollment');
+SELECT pg_temp.align_key('settings', 'u', ARRAY['key'], 'uq_settings_key');
+
+SELECT pg_temp.align_fk('users', 'role_id', 'roles', 'RESTRICT', 'fk_users_role');
+SELECT pg_temp.align_fk('teachers', 'user_id', 'users', 'SET NULL', 'fk_teachers_user');
+SELECT pg_temp.align_fk('courses', 'teacher_id', 'teachers', 'RESTRICT', 'fk_courses_teacher');
+SELECT pg_temp.align_fk('enrollments', 'student_id', 'students', 'RESTRICT', 'fk_enrollments_student');
+SELECT pg_temp.align_fk('enrollments', 'course_id', 'courses', 'RESTRICT', 'fk_enrollments_course');
+SELECT pg_temp.align_fk('absences', 'student_id', 'students', 'RESTRICT', 'fk_absences_student');
+SELECT pg_temp.align_fk('absences', 'course_id', 'courses', 'RESTRICT', 'fk_absences_course');
+SELECT pg_temp.align_fk('logs', 'user_id', 'users', 'SET NULL', 'fk_logs_user');
+
+-- Keep in step with the Status enums on User, Student and Course
+SELECT pg_temp.align_enum_check('users', 'status', ARRAY['ACTIVE', 'INACTIVE'], 'ck_users_status');
+SELECT pg_temp.align_enum_check('students', 'status', ARRAY['ACTIVE', 'GRADUATED', 'INACTIVE', 'DROPPED'], 'ck_students_status');
+SELECT pg_temp.align_enum_check('courses', 'status', ARRAY['ACTIVE', 'INACTIVE', 'CANCELLED'], 'ck_courses_status');
@@ -0,0 +1,60 @@
+-- V5 bumped the table_versions row from a statement trigger, so every writer to a table held that
+-- row's lock from its first write until commit: concurrent writers to the same table queued behind
+-- each other for the whole transaction, and two transactions writing the same tables in a
+-- different order could deadlock on the counters.
+--
+-- Writes now only note the table in a transaction-local setting. A deferred constraint trigger
+-- bumps all noted tables once, at commit, locking their rows in table_name order. The lock is held
+-- only for the commit itself, and the new version still becomes visible together with the rows.
+-- Constraint triggers cannot fire on TRUNCATE, so TRUNCATE keeps V5's immediate bump.
+
+CREATE OR REPLACE FUNCTION note_table_write() RETURNS trigger
+    LANGUAGE plpgsql
+    AS $$
+DECLARE
+    pending text := coalesce(current_setting('table_versions.pending', true), '');
+BEGIN
+    IF NOT TG_TABLE_NAME = ANY (string_to_array(pending, ',')) THEN
+        PERFORM set_config('table_versions.pending', concat_ws(',', nullif(pending, ''), TG_TABLE_NAME), true);
+    END IF;
+    RETURN NULL;
+END;
+$$;
+
+-- Queued once per written row, but only the first one to fire at commit does any work
+CREATE OR REPLACE FUNCTION bump_pending_table_versions() RETURNS trigger
+    LANGUAGE plpgsql
+    AS $$
+DECLARE
+    pending text[] := string_to_array(coalesce(current_setting('table_versions.pending', true), ''), ',');
+BEGIN
+    IF cardinality(pending) = 0 THEN
+        RETURN NULL;
+    END IF;
+    PERFORM set_config('table_versions.pending', '', true);
+    PERFORM 1 FROM table_versions WHERE table_name = ANY (pending) ORDER BY table_name FOR UPDATE;
+    UPDATE table_versions
+    SET version = version + 1, updated_at = clock_timestamp()
+    WHERE table_name = ANY (pending);
+    RETURN NULL;
+END;
+$$;
+
+DO $$
+DECLARE
+    t text;
+BEGIN
+    FOREACH t IN ARRAY ARRAY['roles', 'users', 'teachers', 'students', 'courses', 'enrollments'] LOOP
+        EXECUTE format('DROP TRIGGER IF EXISTS trg_%1$s_version ON %1$I', t);
+        EXECUTE format('DROP TRIGGER IF EXISTS trg_%1$s_version_truncate ON %1$I', t);
+        EXECUTE format('DROP TRIGGER IF EXISTS trg_%1$s_version_write ON %1$I', t);
+        EXECUTE format('DROP TRIGGER IF EXISTS trg_%1$s_version_commit ON %1$I', t);
+        EXECUTE format('CREATE TRIGGER trg_%1$s_version_truncate AFTER TRUNCATE ON %1$I '
+                       'FOR EACH STATEMENT EXECUTE FUNCTION bump_table_version()', t);
+        EXECUTE format('CREATE TRIGGER trg_%1$s_version_write AFTER INSERT OR UPDATE OR DELETE ON %1$I '
+                       'FOR EACH STATEMENT EXECUTE FUNCTION note_table_write()', t);
+        EXECUTE format('CREATE CONSTRAINT TRIGGER trg_%1$s_version_commit AFTER INSERT OR UPDATE OR DELETE ON %1$I '
+                       'DEFERRABLE INITIALLY DEFERRED FOR EACH ROW EXECUTE FUNCTION bump_pending_table_versions()', t);
+    END LOOP;
+END;
+$$;
@@ -0,0 +1,47 @@
+-- V6 serialized writers to a (course, student) pair by locking its stats row with FOR UPDATE. When
+-- the writer holding that lock deleted the row (the pair's count reached 0), a waiting writer's
+-- FOR UPDATE skipped the now-deleted row instead of waiting on it, and went on to recount with
+-- nothing held: two such writers could then recount concurrently and the later commit could store
+-- a stale count.
+--
+-- Writers now take a transaction-scoped advisory lock per course instead, which does not depend on
+-- the row existing. Per course rather than per pair: advisory locks take slots in the shared lock
+-- table (max_locks_per_transaction x max_connections, about 6,400 by default), and a bulk write
+-- such as the load test seeder's COPY of 100 courses' absences covers tens of thousands of pairs but
+-- only those 100 courses. Roll call, add and remove for one pair still queue behind each other, as do writers to
+-- different students of the same course, which is rare outside roll call anyway. Locks are taken in
+-- key order so two statements covering the same courses cannot deadlock; a hash collision between
+-- courses only makes their writers queue together. The triggers from V6 call this function by name
+-- and are unchanged.
+
+CREATE OR REPLACE FUNCTION refresh_course_attendance_stats() RETURNS trigger
+    LANGUAGE plpgsql
+    AS $$
+DECLARE
+    course_lock bigint;
+BEGIN
+    FOR course_lock IN
+        SELECT DISTINCT hashtextextended('course_attendance_stats:' || course_id, 0)
+        FROM changed_rows
+        ORDER BY 1
+    LOOP
+        PERFORM pg_advisory_xact_lock(course_lock);
+    END LOOP;
+
+    -- Runs with a fresh snapshot, so it sees whatever the writers we waited for committed
+    INSERT INTO course_attendance_stats (course_id, student_id, absence_count, last_absence_date)
+    SELECT p.course_id, p.student_id, count(a.date), max(a.date)
+    FROM (SELECT DISTINCT course_id, student_id FROM changed_rows) p
+    LEFT JOIN absences a ON a.student_id = p.student_id AND a.course_id = p.course_id
+    GROUP BY p.course_id, p.student_id
+    ORDER BY p.course_id, p.student_id
+    ON CONFLICT (course_id, student_id) DO UPDATE
+    SET absence_count = EXCLUDED.absence_count, last_absence_date = EXCLUDED.last_absence_date;
+
+    DELETE FROM course_attendance_stats s
+    WHERE s.absence_count = 0
+      AND (s.course_id, s.student_id) IN (SELECT course_id, student_id FROM changed_rows);
+
+    RETURN NULL;
+END;
+$$;
@@ -0,0 +1,272 @@
+package com.studentregistry.load;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.studentregistry.StudentRegistryApplication;
+import com.studentregistry.entity.Course;
+import com.studentregistry.entity.Enrollment;
+import com.studentregistry.entity.Role;
+import com.studentregistry.entity.Student;
+import com.studentregistry.entity.User;
+import com.studentregistry.repository.CourseRepository;
+import com.studentregistry.repository.EnrollmentRepository;
+import com.studentregistry.repository.RoleRepository;
+import com.studentregistry.repository.StudentRepository;
+import com.studentregistry.repository.UserRepository;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Throughput and latency of the student and enrollment list endpoints with Tomcat on platform
+// threads versus virtual threads, against the PostgreSQL configured in application.properties.
+// Opt-in because it runs for about a minute and writes (then removes) a seeded dataset, including
+// its own ADMIN user (and the ADMIN role, if the database has none):
+//
+//     ./mvnw test -Dtest=ThreadingModeLoadTest -Dloadtest=true
+//
+// Tuning: -Dloadtest.concurrency=400 -Dloadtest.duration-seconds=30 -Dloadtest.warmup-seconds=10
+//         -Dloadtest.students=2000 -Dloadtest.enrollments=500 -Dloadtest.platform-threads=200
+// Client and server share the JVM, so compare the two modes with each other, not with production.
+@EnabledIfSystemProperty(named = "loadtest", matches = "true")
+class ThreadingModeLoadTest {
+
+	private static final String USERNAME_PREFIX = "loadtest-admin-";
+	private static final int PAGE_SIZE = 50;
+	private static final int PAGES = 10;
+
+	private final int concurrency = Integer.getInteger("loadtest.concurrency", 400);
+	private final int durationSeconds = Integer.getInteger("loadtest.duration-seconds", 30);
+	private final int warmupSeconds = Integer.getInteger("loadtest.warmup-seconds", 10);
+	private final int students = Integer.getInteger("loadtest.students", 2000);
+	private final int enrollments = Integer.getInteger("loadtest.enrollments", 500);
+	private final int platformThreads = Integer.getInteger("loadtest.platform-threads", 200);
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	// What cleanUp has to remove; createdRoleId is null when the ADMIN role already existed
+	private record Seeded(long courseId, Long createdRoleId) {
+	}
+
+	private record Database(String url, String username, String password) {
+	}
+
+	private record Result(String mode, String endpoint, int requests, int errors, double throughput,
+			double p50Millis, double p99Millis) {
+	}
+
+	private static final class Recorder {
+		private final ConcurrentLinkedQueue<Long> latencies = new ConcurrentLinkedQueue<>();
+		private final AtomicLong errors = new AtomicLong();
+	}
+
+	@Test
+	void compareThreadingModes() throws Exception {
+		String marker = "LOAD-" + Long.toString(System.nanoTime(), 36);
+		String username = USERNAME_PREFIX + marker.toLowerCase();
+		String password = UUID.randomUUID().toString();
+		List<Result> results = new ArrayList<>();
+		Database database = null;
+		Seeded seeded = null;
+
+		// Cleaned up after the last context has closed, so the audit writer has flushed the login rows
+		try {
+			for (boolean virtual : new boolean[] { false, true }) {
+				try (ConfigurableApplicationContext context = start(virtual)) {
+					if (database == null) {
+						database = database(context);
+						seeded = seed(context, marker, username, password);
+					}
+					String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+					results.addAll(measure(virtual ? "virtual" : "platform", baseUrl,
+							login(baseUrl, username, password), seeded.courseId()));
+				}
+			}
+		} finally {
+			if (database != null) {
+				cleanUp(database, marker, username, seeded);
+			}
+		}
+
+		report(results);
+		assertThat(results).allSatisfy(result -> assertThat(result.requests()).isPositive());
+	}
+
+	// Command-line arguments, because default properties would lose to application.properties
+	private ConfigurableApplicationContext start(boolean virtual) {
+		return new SpringApplicationBuilder(StudentRegistryApplication.class).run(
+				"--server.port=0",
+				"--management.server.port=0",
+				"--spring.threads.virtual.enabled=" + virtual,
+				"--server.tomcat.threads.max=" + platformThreads,
+				"--cache.invalidation.enabled=false");
+	}
+
+	private static Database database(ConfigurableApplicationContext context) {
+		return new Database(context.getEnvironment().getProperty("spring.datasource.url"),
+				context.getEnvironment().getProperty("spring.datasource.username"),
+				context.getEnvironment().getProperty("spring.datasource.password"));
+	}
+
+	// The user is new per run, students are tagged by email and the course by semester, so cleanUp
+	// removes exactly what was seeded and never touches existing accounts
+	private Seeded seed(ConfigurableApplicationContext context, String marker, String username, String password) {
+		RoleRepository roleRepository = context.getBean(RoleRepository.class);
+		UserRepository userRepository = context.getBean(UserRepository.class);
+		PasswordEncoder passwordEncoder = context.getBean(PasswordEncoder.class);
+		Role existingAdmin = roleRepository.findByName("ADMIN").orElse(null);
+		Role admin = existingAdmin != null ? existingAdmin : roleRepository.save(new Role("ADMIN"));
+		userRepository.save(new User(username, username + "@loadtest.local",
+				passwordEncoder.encode(password), admin, User.Status.ACTIVE));
+
+		List<Student> seeded = new ArrayList<>(students);
+		for (int i = 0; i < students; i++) {
+			seeded.add(new Student("Load", "Student " + i, LocalDate.of(2000, 1, 1), null, null,
+					marker.toLowerCase() + "-" + i + "@loadtest.local", null, "Load Testing", null, 2024,
+					Student.Status.ACTIVE));
+		}
+		seeded = context.getBean(StudentRepository.class).saveAll(seeded);
+
+		Course course = context.getBean(CourseRepository.class).save(new Course("LOAD101", "A", "Load Test",
+				null, 3, "Load Testing", marker, null, Course.Status.ACTIVE));
+		List<Enrollment> rows = new ArrayList<>(enrollments);
+		for (int i = 0; i < Math.min(enrollments, seeded.size()); i++) {
+			rows.add(new Enrollment(seeded.get(i), course, null));
+		}
+		context.getBean(EnrollmentRepository.class).saveAll(rows);
+		return new Seeded(course.getId(), existingAdmin == null ? admin.getId() : null);
+	}
+
+	// By username and marker rather than by id, so a seed that failed halfway is cleaned up too
+	private void cleanUp(Database database, String marker, String username, Seeded seeded) {
+		JdbcTemplate jdbcTemplate = new JdbcTemplate(
+				new DriverManagerDataSource(database.url(), database.username(), database.password()));
+		jdbcTemplate.update("DELETE FROM enrollments WHERE course_id IN (SELECT id FROM courses WHERE semester = ?)", marker);
+		jdbcTemplate.update("DELETE FROM courses WHERE semester = ?", marker);
+		jdbcTemplate.update("DELETE FROM students WHERE email LIKE ?", marker.toLowerCase() + "-%@loadtest.local");
+		jdbcTemplate.update("DELETE FROM logs WHERE user_id IN (SELECT id FROM users WHERE username = ?)", username);
+		jdbcTemplate.update("DELETE FROM users WHERE username = ?", username);
+		if (seeded != null && seeded.createdRoleId() != null) {
+			jdbcTemplate.update("DELETE FROM roles WHERE id = ?", seeded.createdRoleId());
+		}
+	}
+
+	private String login(String baseUrl, String username, String password) throws Exception {
+		HttpClient client = HttpClient.newHttpClient();
+		String body = objectMapper.writeValueAsString(Map.of("username", username, "password", password));
+		HttpResponse<String> response = client.send(HttpRequest.newBuilder(URI.create(baseUrl + "/api/auth/login"))
+				.header("Content-Type", "application/json")
+				.POST(HttpRequest.BodyPublishers.ofString(body))
+				.build(), HttpResponse.BodyHandlers.ofString());
+		assertThat(response.statusCode()).isEqualTo(200);
+		return objectMapper.readTree(response.body()).path("token").asText();
+	}
+
+	// Every client alternates between the endpoints; the warmup's samples are thrown away
+	private List<Result> measure(String mode, String baseUrl, String token, long courseId) throws Exception {
+		Map<String, String> endpoints = new LinkedHashMap<>();
+		endpoints.put("GET /api/students", baseUrl + "/api/students?limit=" + PAGE_SIZE + "&page=");
+		endpoints.put("GET /api/courses/{id}/enrollments",
+				baseUrl + "/api/courses/" + courseId + "/enrollments?limit=" + PAGE_SIZE + "&page=");
+		List<String> names = new ArrayList<>(endpoints.keySet());
+
+		HttpClient client = HttpClient.newBuilder()
+				.version(HttpClient.Version.HTTP_1_1)
+				.connectTimeout(Duration.ofSeconds(10))
+				.executor(Executors.newVirtualThreadPerTaskExecutor())
+				.build();
+
+		Map<String, Recorder> recorders = new LinkedHashMap<>();
+		long warmupEnds = System.nanoTime() + TimeUnit.SECONDS.toNanos(warmupSeconds);
+		long runEnds = warmupEnds + TimeUnit.SECONDS.toNanos(durationSeconds);
+		for (String name : names) {
+			recorders.put(name, new Recorder());
+		}
+
+		try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+			for (int c = 0; c < concurrency; c++) {
+				int offset = c;
+				clients.submit(() -> {
+					for (int n = offset; System.nanoTime() < runEnds; n++) {
+						String name = names.get(n % names.size());
+						int page = ThreadLocalRandom.current().nextInt(PAGES) + 1;
+						HttpRequest request = HttpRequest.newBuilder(URI.create(endpoints.get(name) + page))
+								.header("Authorization", "Bearer " + token)
+								.timeout(Duration.ofSeconds(30))
+								.GET()
+								.build();
+						long started = System.nanoTime();
+						boolean ok;
+						try {
+							ok = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200;
+						} catch (Exception e) {
+							ok = false;
+						}
+						long finished = System.nanoTime();
+						if (started < warmupEnds) {
+							continue;
+						}
+						Recorder recorder = recorders.get(name);
+						if (ok) {
+							recorder.latencies.add(finished - started);
+						} else {
+							recorder.errors.incrementAndGet();
+						}
+					}
+				});
+			}
+		}
+
+		List<Result> results = new ArrayList<>();
+		for (Map.Entry<String, Recorder> entry : recorders.entrySet()) {
+			long[] sorted = entry.getValue().latencies.stream().mapToLong(Long::longValue).sorted().toArray();
+			results.add(new Result(mode, entry.getKey(), sorted.length, (int) entry.getValue().errors.get(),
+					(double) sorted.length / durationSeconds, percentileMillis(sorted, 0.50),
+					percentileMillis(sorted, 0.99)));
+		}
+		return results;
+	}
+
+	private static double percentileMillis(long[] sorted, double percentile) {
+		if (sorted.length == 0) {
+			return Double.NaN;
+		}
+		int index = (int) Math.ceil(percentile * sorted.length) - 1;
+		return sorted[Math.max(0, index)] / 1_000_000.0;
+	}
+
+	private void report(List<Result> results) {
+		StringBuilder table = new StringBuilder(String.format(
+				"%nconcurrency=%d duration=%ds platform-threads=%d%n%-9s %-36s %9s %7s %9s %8s %8s%n",
+				concurrency, durationSeconds, platformThreads,
+				"mode", "endpoint", "requests", "errors", "req/s", "p50 ms", "p99 ms"));
+		for (Result r : results) {
+			table.append(String.format("%-9s %-36s %9d %7d %9.1f %8.1f %8.1f%n", r.mode(), r.endpoint(),
+					r.requests(), r.errors(), r.throughput(), r.p50Millis(), r.p99Millis()));
+		}
+		System.out.println(table);
+	}
+}
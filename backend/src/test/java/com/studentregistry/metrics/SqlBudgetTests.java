@@ -0,0 +1,51 @@
+package com.studentregistry.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+
+// sql.budget.overrides parsing: "METHOD /uri/template=limit" entries, comma separated
+class SqlBudgetTests {
+
+	private static final int DEFAULT_LIMIT = 50;
+
+	private static SqlBudget budget(String overrides) {
+		return new SqlBudget("log", DEFAULT_LIMIT, 500, 5, 0.1, overrides);
+	}
+
+	private static int statementLimit(SqlBudget budget, String method, String uri) {
+		return budget.evaluate(method, uri, new RequestQueryStats()).statementLimit();
+	}
+
+	@Test
+	void appliesOverrideToMatchingRouteOnly() {
+		SqlBudget budget = budget("GET /api/enrollments=20,GET /api/courses/{id}/enrollments=10");
+
+		assertThat(statementLimit(budget, "GET", "/api/enrollments")).isEqualTo(20);
+		assertThat(statementLimit(budget, "GET", "/api/courses/{id}/enrollments")).isEqualTo(10);
+		assertThat(statementLimit(budget, "POST", "/api/enrollments")).isEqualTo(DEFAULT_LIMIT);
+		assertThat(statementLimit(budget, "GET", "/api/students")).isEqualTo(DEFAULT_LIMIT);
+	}
+
+	@Test
+	void toleratesCaseAndWhitespace() {
+		SqlBudget budget = budget(" get   /api/enrollments = 20 ,\tpost /api/imports=5 ");
+
+		assertThat(statementLimit(budget, "GET", "/api/enrollments")).isEqualTo(20);
+		assertThat(statementLimit(budget, "POST", "/api/imports")).isEqualTo(5);
+	}
+
+	@Test
+	void usesDefaultWithoutOverrides() {
+		assertThat(statementLimit(budget(""), "GET", "/api/enrollments")).isEqualTo(DEFAULT_LIMIT);
+		assertThat(statementLimit(budget(null), "GET", "/api/enrollments")).isEqualTo(DEFAULT_LIMIT);
+	}
+
+	@Test
+	void rejectsMalformedEntries() {
+		assertThatThrownBy(() -> budget("GET /api/enrollments")).isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> budget("/api/enrollments=20")).isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> budget("GET /api/enrollments=many")).isInstanceOf(IllegalArgumentException.class);
+	}
+}
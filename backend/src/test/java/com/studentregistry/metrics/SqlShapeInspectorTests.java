@@ -0,0 +1,42 @@
+package com.studentregistry.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+// Shapes must be equal for statements that differ only in literals, IN-list length or layout,
+// and must keep Hibernate's table aliases (s1_0) intact.
+class SqlShapeInspectorTests {
+
+	@Test
+	void replacesStringAndNumberLiterals() {
+		assertThat(SqlShapeInspector.shapeOf(
+				"select s1_0.id from students s1_0 where s1_0.email='o''brien@example.com' and s1_0.enrollment_year=2024"))
+				.isEqualTo("select s1_0.id from students s1_0 where s1_0.email=? and s1_0.enrollment_year=?");
+		assertThat(SqlShapeInspector.shapeOf("select * from courses where credits > 2.5"))
+				.isEqualTo("select * from courses where credits > ?");
+	}
+
+	@Test
+	void collapsesInListsOfAnyLength() {
+		String two = SqlShapeInspector.shapeOf("select c1_0.id from courses c1_0 where c1_0.id in (?, ?)");
+		String five = SqlShapeInspector.shapeOf("select c1_0.id from courses c1_0 where c1_0.id in (?,?,?,?,?)");
+		String literals = SqlShapeInspector.shapeOf("select c1_0.id from courses c1_0 where c1_0.id in (1, 2, 3)");
+
+		assertThat(two).isEqualTo("select c1_0.id from courses c1_0 where c1_0.id in (?...)");
+		assertThat(five).isEqualTo(two);
+		assertThat(literals).isEqualTo(two);
+	}
+
+	@Test
+	void keepsSingleParameterLists() {
+		assertThat(SqlShapeInspector.shapeOf("select * from courses where id in (?)"))
+				.isEqualTo("select * from courses where id in (?)");
+	}
+
+	@Test
+	void normalizesWhitespace() {
+		assertThat(SqlShapeInspector.shapeOf("  select *\n\tfrom   enrollments\r\n where course_id = ?  "))
+				.isEqualTo("select * from enrollments where course_id = ?");
+	}
+}
@@ -0,0 +1,95 @@
+package com.studentregistry.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.studentregistry.entity.Course;
+import com.studentregistry.entity.Student;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import jakarta.persistence.EntityManager;
+import java.time.LocalDate;
+
+// One statement touching more (course, student) pairs than the default shared lock table holds
+// (about 6,400 slots) must still keep course_attendance_stats exact: the V9 trigger locks per
+// course, not per pair.
+@SpringBootTest
+@Transactional
+class AttendanceStatsTriggerTests {
+
+	private static final int COURSES = 10;
+	private static final int STUDENTS = 1000;
+	private static final LocalDate ABSENCE_DATE = LocalDate.of(2099, 2, 1);
+
+	@Autowired
+	private EntityManager entityManager;
+
+	private String semester;
+
+	@BeforeEach
+	void setUp() {
+		String suffix = Long.toString(System.nanoTime());
+		semester = "STATS-" + suffix;
+		for (int i = 0; i < COURSES; i++) {
+			entityManager.persist(new Course("ST" + i, "A", "Stats Test " + i, null, 3, "Testing", semester,
+					null, Course.Status.ACTIVE));
+		}
+		for (int i = 0; i < STUDENTS; i++) {
+			entityManager.persist(new Student("Student", "S" + i, LocalDate.of(2000, 1, 1), null, null,
+					"stats" + i + "_" + semester.toLowerCase() + "@student.local", null, "Testing", null, 2024,
+					Student.Status.ACTIVE));
+		}
+		entityManager.flush();
+		entityManager.clear();
+	}
+
+	@Test
+	void bulkInsertCountsEveryPair() {
+		assertThat(insertAbsences()).isEqualTo(COURSES * STUDENTS);
+
+		assertThat(statsRows()).isEqualTo(COURSES * STUDENTS);
+		assertThat(((Number) entityManager.createNativeQuery(
+				"SELECT count(*) FROM course_attendance_stats cas JOIN courses c ON c.id = cas.course_id "
+						+ "WHERE c.semester = :semester AND cas.absence_count = 1 AND cas.last_absence_date = :date")
+				.setParameter("semester", semester)
+				.setParameter("date", ABSENCE_DATE)
+				.getSingleResult()).intValue()).isEqualTo(COURSES * STUDENTS);
+	}
+
+	@Test
+	void bulkDeleteRemovesEveryPair() {
+		insertAbsences();
+
+		int deleted = entityManager.createNativeQuery(
+				"DELETE FROM absences WHERE course_id IN (SELECT id FROM courses WHERE semester = :semester)")
+				.setParameter("semester", semester)
+				.executeUpdate();
+
+		assertThat(deleted).isEqualTo(COURSES * STUDENTS);
+		assertThat(statsRows()).isZero();
+	}
+
+	// A single INSERT ... SELECT, so the trigger sees every pair in one transition table
+	private int insertAbsences() {
+		return entityManager.createNativeQuery(
+				"INSERT INTO absences (student_id, course_id, date) "
+						+ "SELECT s.id, c.id, :date FROM students s CROSS JOIN courses c "
+						+ "WHERE s.email LIKE :students AND c.semester = :semester")
+				.setParameter("date", ABSENCE_DATE)
+				.setParameter("students", "stats%\\_" + semester.toLowerCase() + "@student.local")
+				.setParameter("semester", semester)
+				.executeUpdate();
+	}
+
+	private int statsRows() {
+		return ((Number) entityManager.createNativeQuery(
+				"SELECT count(*) FROM course_attendance_stats cas JOIN courses c ON c.id = cas.course_id "
+						+ "WHERE c.semester = :semester")
+				.setParameter("semester", semester)
+				.getSingleResult()).intValue();
+	}
+}
@@ -0,0 +1,140 @@
+package com.studentregistry.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.studentregistry.entity.Absence;
+import com.studentregistry.entity.Course;
+import com.studentregistry.entity.Enrollment;
+import com.studentregistry.entity.Role;
+import com.studentregistry.entity.Student;
+import com.studentregistry.entity.Teacher;
+import com.studentregistry.entity.User;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.annotation.Transactional;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+// Enrollment and Absence lists must load student, course, teacher, user and role with a
+// bounded number of statements regardless of how many distinct rows they reference.
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional
+class FetchPlanStatementCountTests {
+
+	private static final int TEACHERS = 3;
+	private static final int COURSES = 6;
+	private static final int STUDENTS = 10;
+	private static final LocalDate ABSENCE_DATE = LocalDate.of(2099, 1, 15);
+
+	// One select for the rows; everything else must come from the entity graph
+	private static final long MAX_STATEMENTS = 1;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@Autowired
+	private EnrollmentRepository enrollmentRepository;
+
+	@Autowired
+	private AbsenceRepository absenceRepository;
+
+	private String semester;
+	private Statistics statistics;
+
+	@BeforeEach
+	void setUp() {
+		String suffix = Long.toString(System.nanoTime());
+		semester = "FETCH-" + suffix;
+
+		Role role = new Role("FETCH_TEST_" + suffix);
+		entityManager.persist(role);
+
+		List<Teacher> teachers = new ArrayList<>();
+		for (int i = 0; i < TEACHERS; i++) {
+			User user = new User("fetch" + i + "_" + suffix, "fetch" + i + "_" + suffix + "@test.local",
+					"hash", role, User.Status.ACTIVE);
+			entityManager.persist(user);
+			Teacher teacher = new Teacher("Teacher", "T" + i, "Testing", null, null, user);
+			entityManager.persist(teacher);
+			teachers.add(teacher);
+		}
+
+		List<Course> courses = new ArrayList<>();
+		for (int i = 0; i < COURSES; i++) {
+			Course course = new Course("FT" + i, "A", "Fetch Test " + i, null, 3, "Testing", semester,
+					teachers.get(i % TEACHERS), Course.Status.ACTIVE);
+			entityManager.persist(course);
+			courses.add(course);
+		}
+
+		for (int i = 0; i < STUDENTS; i++) {
+			Student student = new Student("Student", "S" + i, LocalDate.of(2000, 1, 1), null, null,
+					"fetch" + i + "_" + suffix + "@student.local", null, "Testing", null, 2024,
+					Student.Status.ACTIVE);
+			entityManager.persist(student);
+			for (Course course : courses) {
+				entityManager.persist(new Enrollment(student, course, null));
+				entityManager.persist(new Absence(student, course, ABSENCE_DATE));
+			}
+		}
+
+		entityManager.flush();
+		entityManager.clear();
+
+		statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+	}
+
+	@Test
+	void semesterListingUsesBoundedStatements() {
+		List<Enrollment> enrollments = enrollmentRepository.findBySemester(semester);
+
+		assertThat(enrollments).hasSize(STUDENTS * COURSES);
+		enrollments.forEach(e -> touch(e.getStudent(), e.getCourse()));
+		assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(MAX_STATEMENTS);
+	}
+
+	@Test
+	void courseEnrollmentListingUsesBoundedStatements() {
+		Course course = enrollmentRepository.findBySemester(semester).get(0).getCourse();
+		entityManager.clear();
+		statistics.clear();
+
+		List<Enrollment> enrollments = enrollmentRepository.findByCourse_Id(course.getId(), Sort.by("id"));
+
+		assertThat(enrollments).hasSize(STUDENTS);
+		enrollments.forEach(e -> touch(e.getStudent(), e.getCourse()));
+		assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(MAX_STATEMENTS);
+	}
+
+	@Test
+	void absenceDateRangeUsesBoundedStatements() {
+		List<Absence> absences = absenceRepository.findByDateRange(ABSENCE_DATE, ABSENCE_DATE);
+
+		assertThat(absences).hasSizeGreaterThanOrEqualTo(STUDENTS * COURSES);
+		absences.forEach(a -> touch(a.getStudent(), a.getCourse()));
+		assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(MAX_STATEMENTS);
+	}
+
+	// Walks the same associations the JSON serializer does
+	private void touch(Student student, Course course) {
+		student.getFirstName();
+		course.getCourseName();
+		if (course.getTeacher() != null && course.getTeacher().getUser() != null) {
+			course.getTeacher().getUser().getRole().getName();
+		}
+	}
+}
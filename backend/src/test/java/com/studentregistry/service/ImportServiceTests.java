@@ -0,0 +1,102 @@
+package com.studentregistry.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.studentregistry.dto.ImportJob;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+// Student CSV import end to end: header normalization, row validation, the split-retry that
+// isolates a row the database rejects inside a chunk, and idempotent re-imports.
+@SpringBootTest(properties = "import.chunk-size=4")
+class ImportServiceTests {
+
+	private static final long TIMEOUT_MS = 30_000;
+
+	@Autowired
+	private ImportService importService;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	private String marker;
+
+	@BeforeEach
+	void setUp() {
+		marker = "imp" + System.nanoTime();
+	}
+
+	@AfterEach
+	void tearDown() {
+		jdbcTemplate.update("DELETE FROM students WHERE email LIKE ?", marker + "-%@test.local");
+	}
+
+	@Test
+	void rejectedRowDoesNotFailItsChunk() throws Exception {
+		ImportJob job = runImport(csv());
+
+		assertThat(job.getStatus()).isEqualTo(ImportJob.Status.COMPLETED);
+		assertThat(job.getCreated()).isEqualTo(4);
+		assertThat(job.getFailed()).isEqualTo(2);
+		assertThat(job.getErrors()).extracting(ImportJob.RowError::getLine).containsExactlyInAnyOrder(4, 6);
+		assertThat(job.getErrors()).filteredOn(error -> error.getLine() == 4)
+				.allSatisfy(error -> assertThat(error.getMessage()).startsWith("Rejected by database"));
+		assertThat(job.getErrors()).filteredOn(error -> error.getLine() == 6)
+				.allSatisfy(error -> assertThat(error.getMessage()).isEqualTo("Email is required"));
+		assertThat(studentCount()).isEqualTo(4);
+	}
+
+	@Test
+	void reimportUpdatesInsteadOfDuplicating() throws Exception {
+		runImport(csv());
+
+		ImportJob again = runImport(csv());
+
+		assertThat(again.getCreated()).isZero();
+		assertThat(again.getUpdated()).isEqualTo(4);
+		assertThat(studentCount()).isEqualTo(4);
+	}
+
+	// Line 4's gender is longer than students.gender allows, which only the database checks;
+	// line 6 has no email. Chunks of 4 put line 4 in a chunk with three good rows.
+	private String csv() {
+		return "First Name,last_name,EMAIL,enrollment-year,Status,gender\n"
+				+ "Ana,One," + email(0) + ",2024,active,F\n"
+				+ "Ben,Two," + email(1) + ",2024,ACTIVE,M\n"
+				+ "Cy,Three," + email(2) + ",2024,ACTIVE," + "x".repeat(30) + "\n"
+				+ "Di,Four," + email(3) + ",2024,ACTIVE,F\n"
+				+ "Ed,Five,,2024,ACTIVE,M\n"
+				+ "Flo,Six," + email(5) + ",2024,ACTIVE,F\n";
+	}
+
+	private String email(int i) {
+		return marker + "-" + i + "@test.local";
+	}
+
+	private int studentCount() {
+		return jdbcTemplate.queryForObject("SELECT count(*) FROM students WHERE email LIKE ?", Integer.class,
+				marker + "-%@test.local");
+	}
+
+	private ImportJob runImport(String content) throws InterruptedException {
+		ImportJob job = importService.startStudentImport(new MockMultipartFile("file", "students.csv", "text/csv",
+				content.getBytes(StandardCharsets.UTF_8)), null);
+		long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(TIMEOUT_MS);
+		while (!job.isFinished()) {
+			if (System.nanoTime() > deadline) {
+				throw new AssertionError("Import did not finish within " + TIMEOUT_MS + " ms");
+			}
+			Thread.sleep(20);
+		}
+		return job;
+	}
+}
@@ -0,0 +1,236 @@
+package com.studentregistry.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.studentregistry.dto.AuditEvent;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+// Queue, backpressure, spill and replay paths of the async audit writer, with the database
+// replaced by a writer that records batches and can be held or made to fail.
+class AsyncLogSinkTests {
+
+	private static final long TIMEOUT_MS = 5000;
+
+	@TempDir
+	Path tempDir;
+
+	private final RecordingWriter writer = new RecordingWriter();
+	private AsyncLogSink sink;
+
+	@AfterEach
+	void tearDown() {
+		writer.release();
+		if (sink != null) {
+			sink.shutdown();
+		}
+	}
+
+	@Test
+	void dropOldestEvictsTheOldestQueuedEvent() {
+		sink = start("drop-oldest", 2, 100);
+		holdWriterOn(event("held"));
+
+		sink.submit(event("a"));
+		sink.submit(event("b"));
+		sink.submit(event("c"));
+
+		assertThat(sink.getStats()).containsEntry("dropped", 1L);
+		writer.release();
+		sink.shutdown();
+		assertThat(writer.actions()).containsExactly("held", "b", "c");
+	}
+
+	@Test
+	void blockDropsAfterTheTimeout() {
+		sink = start("block", 1, 100);
+		holdWriterOn(event("held"));
+		sink.submit(event("queued"));
+
+		long started = System.nanoTime();
+		sink.submit(event("late"));
+
+		assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started)).isGreaterThanOrEqualTo(50);
+		assertThat(sink.getStats()).containsEntry("dropped", 1L);
+		writer.release();
+		sink.shutdown();
+		assertThat(writer.actions()).containsExactly("held", "queued");
+	}
+
+	@Test
+	void spillWritesOverflowToFileAndReplaysItWhenIdle() throws Exception {
+		sink = start("spill", 1, 100);
+		holdWriterOn(event("held"));
+		sink.submit(event("queued"));
+		sink.submit(event("spilled"));
+
+		assertThat(Files.readAllLines(spillFile())).hasSize(1);
+		assertThat(sink.getStats()).containsEntry("spilled", 1L);
+
+		writer.release();
+		await(() -> writer.actions().contains("spilled"));
+		assertThat(writer.actions()).containsExactly("held", "queued", "spilled");
+		assertThat(spillFile()).doesNotExist();
+	}
+
+	@Test
+	void shutdownSpillsWhatTheWriterCouldNotFlush() throws Exception {
+		sink = new AsyncLogSink(writer, 10, 100, 50, "block", 50, 50, spillFile().toString());
+		sink.start();
+		holdWriterOn(event("held"));
+		sink.submit(event("a"));
+		sink.submit(event("b"));
+
+		sink.shutdown();
+
+		assertThat(Files.readAllLines(spillFile())).hasSize(2);
+	}
+
+	@Test
+	void submitAfterShutdownWritesOnTheCallersThread() {
+		sink = start("block", 10, 100);
+		sink.shutdown();
+
+		sink.submit(event("late"));
+
+		assertThat(writer.actions()).containsExactly("late");
+	}
+
+	@Test
+	void replayStreamsTheSpillFileInBatches() throws Exception {
+		writeSpillFile(250);
+
+		sink = start("spill", 10, 100);
+
+		await(() -> writer.actions().size() == 250);
+		assertThat(writer.batchSizes()).containsExactly(100, 100, 50);
+		assertThat(spillFile()).doesNotExist();
+	}
+
+	@Test
+	void replayKeepsOnlyUnwrittenRowsAfterAFailure() throws Exception {
+		writeSpillFile(250);
+		writer.failOnBatch(2);
+
+		sink = start("spill", 10, 100);
+
+		await(() -> writer.actions().size() == 250);
+		assertThat(writer.actions()).doesNotHaveDuplicates();
+		assertThat(writer.batchSizes()).containsExactly(100, 100, 50);
+	}
+
+	private AsyncLogSink start(String backpressure, int capacity, int batchSize) {
+		AsyncLogSink started = new AsyncLogSink(writer, capacity, batchSize, 50, backpressure, 50, TIMEOUT_MS,
+				spillFile().toString());
+		started.start();
+		return started;
+	}
+
+	// Parks the writer inside writeBatch so later submits stay queued
+	private void holdWriterOn(AuditEvent event) {
+		writer.hold();
+		sink.submit(event);
+		await(writer::isHolding);
+	}
+
+	private Path spillFile() {
+		return tempDir.resolve("audit-log-spill.ndjson");
+	}
+
+	private void writeSpillFile(int rows) throws Exception {
+		List<String> lines = new ArrayList<>(rows);
+		for (int i = 0; i < rows; i++) {
+			lines.add("{\"userId\":1,\"username\":null,\"action\":\"spilled-" + i
+					+ "\",\"details\":null,\"timestamp\":\"2024-01-01T00:00:00\"}");
+		}
+		Files.write(spillFile(), lines, StandardCharsets.UTF_8);
+	}
+
+	private static AuditEvent event(String action) {
+		return new AuditEvent(1L, null, action, null, LocalDateTime.now());
+	}
+
+	private static void await(BooleanSupplier condition) {
+		long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(TIMEOUT_MS);
+		while (!condition.getAsBoolean()) {
+			if (System.nanoTime() > deadline) {
+				throw new AssertionError("Condition not met within " + TIMEOUT_MS + " ms");
+			}
+			Thread.onSpinWait();
+		}
+	}
+
+	private static final class RecordingWriter extends LogRowWriter {
+		private final List<String> actions = new CopyOnWriteArrayList<>();
+		private final List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+		private final AtomicInteger batches = new AtomicInteger();
+		private volatile CountDownLatch gate;
+		private volatile boolean holding;
+		private volatile int failOnBatch = -1;
+
+		RecordingWriter() {
+			super(null, null, null, null);
+		}
+
+		@Override
+		public void writeBatch(List<AuditEvent> events) {
+			if (batches.incrementAndGet() == failOnBatch) {
+				throw new IllegalStateException("database unavailable");
+			}
+			CountDownLatch current = gate;
+			if (current != null) {
+				holding = true;
+				try {
+					current.await(TIMEOUT_MS, TimeUnit.MILLISECONDS);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+				holding = false;
+			}
+			batchSizes.add(events.size());
+			events.forEach(event -> actions.add(event.getAction()));
+		}
+
+		void hold() {
+			gate = new CountDownLatch(1);
+		}
+
+		void release() {
+			CountDownLatch current = gate;
+			gate = null;
+			if (current != null) {
+				current.countDown();
+			}
+		}
+
+		void failOnBatch(int batch) {
+			failOnBatch = batch;
+		}
+
+		boolean isHolding() {
+			return holding;
+		}
+
+		List<String> actions() {
+			return actions;
+		}
+
+		List<Integer> batchSizes() {
+			return batchSizes;
+		}
+	}
+}
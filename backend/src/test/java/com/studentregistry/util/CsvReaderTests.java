@@ -0,0 +1,80 @@
+package com.studentregistry.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+class CsvReaderTests {
+
+	@Test
+	void splitsPlainFields() throws IOException {
+		assertThat(readAll("a,b,c\n1,2,3\n")).containsExactly(List.of("a", "b", "c"), List.of("1", "2", "3"));
+	}
+
+	@Test
+	void keepsEmptyFields() throws IOException {
+		assertThat(readAll("a,,c,\n")).containsExactly(List.of("a", "", "c", ""));
+	}
+
+	@Test
+	void unquotesFieldsAndEscapedQuotes() throws IOException {
+		assertThat(readAll("\"Smith, John\",\"say \"\"hi\"\"\",\"\"\n"))
+				.containsExactly(List.of("Smith, John", "say \"hi\"", ""));
+	}
+
+	@Test
+	void keepsNewlinesInsideQuotesAndCountsLines() throws IOException {
+		CsvReader csv = new CsvReader(new StringReader("name,address\nAna,\"12 Main St\nApt 4\"\nBob,\"x\"\n"));
+
+		assertThat(csv.readRecord()).containsExactly("name", "address");
+		assertThat(csv.getRecordLine()).isEqualTo(1);
+		assertThat(csv.readRecord()).containsExactly("Ana", "12 Main St\nApt 4");
+		assertThat(csv.getRecordLine()).isEqualTo(2);
+		assertThat(csv.readRecord()).containsExactly("Bob", "x");
+		assertThat(csv.getRecordLine()).isEqualTo(4);
+		assertThat(csv.readRecord()).isNull();
+	}
+
+	@Test
+	void acceptsCrlfAndMissingFinalNewline() throws IOException {
+		assertThat(readAll("a,b\r\n1,2")).containsExactly(List.of("a", "b"), List.of("1", "2"));
+	}
+
+	@Test
+	void skipsByteOrderMarkOnlyAtStart() throws IOException {
+		assertThat(readAll("\uFEFFfirstName,lastName\n\uFEFFx,y\n"))
+				.containsExactly(List.of("firstName", "lastName"), List.of("\uFEFFx", "y"));
+	}
+
+	@Test
+	void returnsNullForEmptyInput() throws IOException {
+		assertThat(new CsvReader(new StringReader("")).readRecord()).isNull();
+	}
+
+	@Test
+	void rejectsUnterminatedQuote() {
+		CsvReader csv = new CsvReader(new StringReader("a\n\"open,b\n"));
+
+		assertThatThrownBy(() -> {
+			csv.readRecord();
+			csv.readRecord();
+		}).isInstanceOf(IOException.class).hasMessageContaining("line 2");
+	}
+
+	private static List<List<String>> readAll(String input) throws IOException {
+		List<List<String>> records = new ArrayList<>();
+		try (CsvReader csv = new CsvReader(new StringReader(input))) {
+			List<String> record;
+			while ((record = csv.readRecord()) != null) {
+				records.add(record);
+			}
+		}
+		return records;
+	}
+}